@@ -0,0 +1,102 @@
+package com.github.pplociennik.commons.system.registry;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks of the single operations of the {@link CollectingSystemRegistry} implementations at several registry sizes.
+ * <p>
+ * The number of threads is controlled with the {@code -t} option of the runner, e.g.
+ * {@code mvn -P benchmarks test-compile exec:exec -Djmh.args="-t 16 -p type=CONCURRENT RegistryOperationsBenchmark"}.
+ * {@link RegistryType#HASH_SET} is not thread-safe and must be benchmarked with a single thread only.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 18:26
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class RegistryOperationsBenchmark {
+
+    @Param( { "HASH_SET", "SYNCHRONIZED_HASH_SET", "CONCURRENT", "SNAPSHOT", "STRIPED", "PERSISTENT", "STAMPED_LOCK", "NAVIGABLE" } )
+    private RegistryType type;
+
+    @Param( { "100", "10000", "1000000", "10000000" } )
+    private int size;
+
+    private CollectingSystemRegistry< Integer > registry;
+    private Integer[] present;
+    private Integer[] absent;
+
+    @Setup( Level.Trial )
+    public void setUp() {
+        registry = type.create();
+        List< Integer > values = IntStream.range( 0, size ).boxed().collect( Collectors.toList() );
+        registry.add( values );
+        present = values.toArray( new Integer[ 0 ] );
+        absent = IntStream.range( 0, Math.min( size, 1 << 16 ) ).mapToObj( value -> -value - 1 ).toArray( Integer[]::new );
+    }
+
+    @Benchmark
+    public boolean containsPresent( Cursor aCursor ) {
+        return registry.contains( present[ aCursor.next( present.length ) ] );
+    }
+
+    @Benchmark
+    public boolean containsAbsent( Cursor aCursor ) {
+        return registry.contains( absent[ aCursor.next( absent.length ) ] );
+    }
+
+    @Benchmark
+    public void addAndRemove( Cursor aCursor ) {
+        Integer value = absent[ aCursor.next( absent.length ) ];
+        registry.add( value );
+        registry.remove( List.of( value ) );
+    }
+
+    @Benchmark
+    public Iterable< Integer > values() {
+        return registry.values();
+    }
+
+    @Benchmark
+    public Integer iterateValues() {
+        Iterator< Integer > iterator = registry.values().iterator();
+        Integer last = null;
+        while ( iterator.hasNext() ) {
+            last = iterator.next();
+        }
+        return last;
+    }
+
+    @Benchmark
+    public int stream() {
+        return registry.stream().mapToInt( Integer::intValue ).sum();
+    }
+
+    @Benchmark
+    public SystemRegistry< Integer > cloneRegistry() {
+        return registry.clone();
+    }
+
+    /**
+     * A per-thread position in the arrays of the looked up values.
+     */
+    @State( Scope.Thread )
+    public static class Cursor {
+
+        private int position;
+
+        int next( int aLength ) {
+            position = position + 1 < aLength ? position + 1 : 0;
+            return position;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.pplociennik.commons.system.registry;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks of the thread-safe {@link CollectingSystemRegistry} implementations under concurrent mixes of reads and
+ * writes. Each group runs the readers and the writers against a shared registry in the given proportion.
+ * <p>
+ * The number of threads scales with the {@code -t} option of the runner, rounded to the multiples of the group size,
+ * and the proportion may be overridden with the {@code -tg} option, e.g.
+ * {@code -Djmh.args="-t 64 RegistryReadWriteMixBenchmark.readMostly"}.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 18:40
+ */
+@State( Scope.Group )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class RegistryReadWriteMixBenchmark {
+
+    @Param( { "SYNCHRONIZED_HASH_SET", "CONCURRENT", "SNAPSHOT", "STRIPED", "PERSISTENT", "STAMPED_LOCK", "NAVIGABLE" } )
+    private RegistryType type;
+
+    @Param( { "100", "10000", "1000000", "10000000" } )
+    private int size;
+
+    private CollectingSystemRegistry< Integer > registry;
+
+    @Setup( Level.Trial )
+    public void setUp() {
+        registry = type.create();
+        registry.add( IntStream.range( 0, size ).boxed().collect( Collectors.toList() ) );
+    }
+
+    @Benchmark
+    @Group( "readMostly" )
+    @GroupThreads( 15 )
+    public boolean readMostlyReader() {
+        return read();
+    }
+
+    @Benchmark
+    @Group( "readMostly" )
+    @GroupThreads( 1 )
+    public void readMostlyWriter() {
+        write();
+    }
+
+    @Benchmark
+    @Group( "balanced" )
+    @GroupThreads( 1 )
+    public boolean balancedReader() {
+        return read();
+    }
+
+    @Benchmark
+    @Group( "balanced" )
+    @GroupThreads( 1 )
+    public void balancedWriter() {
+        write();
+    }
+
+    @Benchmark
+    @Group( "writeHeavy" )
+    @GroupThreads( 1 )
+    public boolean writeHeavyReader() {
+        return read();
+    }
+
+    @Benchmark
+    @Group( "writeHeavy" )
+    @GroupThreads( 3 )
+    public void writeHeavyWriter() {
+        write();
+    }
+
+    private boolean read() {
+        return registry.contains( ThreadLocalRandom.current().nextInt( size * 2 ) );
+    }
+
+    private void write() {
+        Integer value = size + ThreadLocalRandom.current().nextInt( size );
+        if ( ThreadLocalRandom.current().nextBoolean() ) {
+            registry.add( value );
+        } else {
+            registry.remove( List.of( value ) );
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.pplociennik.commons.system.registry;
+
+import com.github.pplociennik.commons.system.registry.impl.*;
+
+import java.util.function.Supplier;
+
+/**
+ * The benchmarked implementations of {@link CollectingSystemRegistry}.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 18:22
+ */
+public enum RegistryType {
+
+    /**
+     * {@link HashSetBasedSystemRegistry}. Not thread-safe, to be benchmarked with a single thread only.
+     */
+    HASH_SET( HashSetBasedSystemRegistry::new ),
+
+    /**
+     * {@link SynchronizedHashSetBasedSystemRegistry}.
+     */
+    SYNCHRONIZED_HASH_SET( SynchronizedHashSetBasedSystemRegistry::new ),
+
+    /**
+     * {@link ConcurrentSystemRegistry}.
+     */
+    CONCURRENT( ConcurrentSystemRegistry::new ),
+
+    /**
+     * {@link SnapshotSystemRegistry}.
+     */
+    SNAPSHOT( SnapshotSystemRegistry::new ),
+
+    /**
+     * {@link StripedSystemRegistry} with the default number of shards.
+     */
+    STRIPED( StripedSystemRegistry::new ),
+
+    /**
+     * {@link PersistentSystemRegistry}.
+     */
+    PERSISTENT( PersistentSystemRegistry::new ),
+
+    /**
+     * {@link StampedLockSystemRegistry}.
+     */
+    STAMPED_LOCK( StampedLockSystemRegistry::new ),
+
+    /**
+     * {@link NavigableSystemRegistry} with the natural ordering.
+     */
+    NAVIGABLE( NavigableSystemRegistry::naturalOrder );
+
+    private final Supplier< CollectingSystemRegistry< Integer > > factory;
+
+    RegistryType( Supplier< CollectingSystemRegistry< Integer > > aFactory ) {
+        factory = aFactory;
+    }
+
+    /**
+     * Creates an empty registry of the type.
+     *
+     * @return a new registry
+     */
+    public CollectingSystemRegistry< Integer > create() {
+        return factory.get();
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.pplociennik.commons.utility.properties;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of reading a single key with {@link PropertiesReader}: from the cache of the parsed files and with the
+ * cache invalidated before every read, which costs a file parse as every read did before the cache was introduced.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 21:41
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class PropertiesReaderBenchmark {
+
+    private static final String PATH = "lang/CommonsResExcMsg.properties";
+
+    private final BenchmarkedReader reader = new BenchmarkedReader();
+    private String[] keys;
+    private int position;
+
+    @Setup( Level.Trial )
+    public void setUp() throws IOException {
+        Properties properties = new Properties();
+        try ( InputStream inputStream = getClass().getClassLoader().getResourceAsStream( PATH ) ) {
+            properties.load( inputStream );
+        }
+        keys = properties.stringPropertyNames().toArray( new String[ 0 ] );
+    }
+
+    @Benchmark
+    public String cachedRead() {
+        return reader.read( nextKey() );
+    }
+
+    @Benchmark
+    public String uncachedRead() {
+        reader.invalidate( PATH );
+        return reader.read( nextKey() );
+    }
+
+    private String nextKey() {
+        position = position + 1 < keys.length ? position + 1 : 0;
+        return keys[ position ];
+    }
+
+    /**
+     * Exposes the protected methods of the reader to the benchmark.
+     */
+    private static final class BenchmarkedReader extends PropertiesReader {
+
+        String read( String aKey ) {
+            return readProperty( PATH, aKey );
+        }
+    }
+}
@@ -23,4 +23,18 @@ public class InvalidPropertyValueException extends BaseRuntimeException {
     public InvalidPropertyValueException( TranslationKey aTranslationKey, Serializable... aParams ) {
         super( aTranslationKey, aParams );
     }
+
+    /**
+     * Constructs a new exception with a given cause, translation key and parameters.
+     *
+     * @param aCause
+     *         the cause of the exception.
+     * @param aTranslationKey
+     *         a translation key.
+     * @param aParams
+     *         parameters for the translation key.
+     */
+    public InvalidPropertyValueException( Throwable aCause, TranslationKey aTranslationKey, Serializable... aParams ) {
+        super( aCause, aTranslationKey, aParams );
+    }
 }
@@ -0,0 +1,56 @@
+package com.github.pplociennik.commons.exc.properties;
+
+import com.github.pplociennik.commons.exc.BaseRuntimeException;
+import com.github.pplociennik.commons.lang.TranslationKey;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An exception being thrown when the validation of the system properties fails, aggregating all the failures.
+ * The failures are also attached as the suppressed exceptions.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 22:38
+ */
+public class SystemPropertiesValidationException extends BaseRuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The failures, not serialized as a list may not be serializable; a deserialized instance recovers them from the
+     * suppressed exceptions.
+     */
+    private final transient List< RuntimeException > failures;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param aFailures
+     *         the failures of the validation of the particular properties.
+     * @param aTranslationKey
+     *         a translation key
+     * @param aParams
+     *         parameters.
+     */
+    public SystemPropertiesValidationException( List< ? extends RuntimeException > aFailures, TranslationKey aTranslationKey, Serializable... aParams ) {
+        super( aTranslationKey, aParams );
+        failures = List.copyOf( aFailures );
+        failures.forEach( this::addSuppressed );
+    }
+
+    /**
+     * Returns the failures of the validation of the particular properties.
+     *
+     * @return an immutable list of the failures.
+     */
+    public List< RuntimeException > getFailures() {
+        if ( failures == null ) {
+            return Arrays.stream( getSuppressed() )
+                    .filter( RuntimeException.class::isInstance )
+                    .map( RuntimeException.class::cast )
+                    .toList();
+        }
+        return failures;
+    }
+}
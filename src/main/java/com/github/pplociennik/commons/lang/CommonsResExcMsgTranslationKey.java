@@ -54,7 +54,17 @@ public enum CommonsResExcMsgTranslationKey implements TranslationKey {
     /**
      * Property '{0}' has an invalid value: '{1}'! Correct values are: {2}.
      */
-    INVALID_PROPERTY_VALUE;
+    INVALID_PROPERTY_VALUE,
+
+    /**
+     * Property '{0}' has a value '{1}' which cannot be converted to {2}.
+     */
+    PROPERTY_CONVERSION_FAILED,
+
+    /**
+     * Validation of the system properties failed: {0}
+     */
+    SYSTEM_PROPERTIES_VALIDATION_FAILED;
 
     private static final String EXCEPTIONS_TRANSLATIONS_BASENAME_PROPERTY = "lang/CommonsResExcMsg";
 
@@ -1,10 +1,35 @@
 package com.github.pplociennik.commons.service;
 
+import com.github.pplociennik.commons.exc.properties.InvalidPropertyValueException;
+import com.github.pplociennik.commons.exc.properties.NoSuchPropertyExistsException;
+import com.github.pplociennik.commons.exc.properties.SystemPropertiesValidationException;
+import com.github.pplociennik.commons.lang.CommonsResExcMsgTranslationKey;
 import com.github.pplociennik.commons.system.SystemProperty;
+import com.github.pplociennik.commons.system.SystemPropertyScanner;
 import lombok.NonNull;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.requireNonNull;
 
 /**
  * A service providing functionalities for reading the system properties.
+ * <p>
+ * Only the reads of the single properties are abstract. The other methods have default implementations composed of
+ * them, which neither cache nor read the properties atomically; the observation of the changes is not supported by
+ * default. The implementations override them to cache the values and the conversions and to notify the subscribers.
  *
  * @author Created by: Pplociennik at 21.03.2025 22:24
  */
@@ -29,4 +54,278 @@ public interface SystemPropertiesReaderService {
      * @throws
      */
     String readProperty( @NonNull SystemProperty aProperty );
+
+    /**
+     * Invalidates the values of the properties read so far, so that the subsequent reads observe the current state of
+     * the system environment. Should be invoked after the environment has changed. Does nothing by default, as the
+     * default methods do not cache any values.
+     */
+    default void refresh() {
+    }
+
+    /**
+     * Validates the values of the specified properties at once, so that their subsequent reads skip the verification
+     * until the next refresh. The properties not defined in the system environment are skipped.
+     *
+     * @param aProperties
+     *         the properties to validate.
+     * @throws com.github.pplociennik.commons.exc.properties.SystemPropertiesValidationException
+     *         if any of the values is not valid, reporting all the invalid ones.
+     */
+    default void validate( @NonNull Collection< ? extends SystemProperty > aProperties ) {
+        requireNonNull( aProperties );
+
+        readAll( aProperties, true );
+    }
+
+    /**
+     * Reads the values of the specified properties at once.
+     *
+     * @param aProperties
+     *         the properties to read.
+     * @return an immutable map of the values, keyed by the properties in their iteration order.
+     *
+     * @throws com.github.pplociennik.commons.exc.properties.SystemPropertiesValidationException
+     *         if any of the properties does not exist or has an invalid value, reporting all of them.
+     */
+    default Map< SystemProperty, String > readProperties( @NonNull Collection< ? extends SystemProperty > aProperties ) {
+        requireNonNull( aProperties );
+
+        return readAll( aProperties, false );
+    }
+
+    /**
+     * Reads the values of all the properties defined in the classpath, i.e. the constants of the enums implementing
+     * {@link SystemProperty}. The properties not defined in the system environment are omitted.
+     *
+     * @return an immutable map of the values, keyed by the properties.
+     *
+     * @throws com.github.pplociennik.commons.exc.properties.SystemPropertiesValidationException
+     *         if any of the values is not valid, reporting all the invalid ones.
+     */
+    default Map< SystemProperty, String > snapshot() {
+        return readAll( SystemPropertyScanner.discover( getClass().getClassLoader(), List.of() ), true );
+    }
+
+    /**
+     * Registers a consumer notified, after a refresh, whenever the value of the specified property has changed since
+     * the previous notification or the subscription. The consumer receives the new value, or null if the property no
+     * longer exists or its value is no longer valid.
+     *
+     * @param aProperty
+     *         the property to observe.
+     * @param aConsumer
+     *         the consumer of the new values.
+     * @throws UnsupportedOperationException
+     *         if the implementation does not support the observation of the changes, which is the default.
+     */
+    default void subscribe( @NonNull SystemProperty aProperty, @NonNull Consumer< String > aConsumer ) {
+        throw new UnsupportedOperationException( "The observation of the system properties is not supported." );
+    }
+
+    /**
+     * Unregisters a previously subscribed consumer.
+     *
+     * @param aProperty
+     *         the observed property.
+     * @param aConsumer
+     *         the consumer to unregister.
+     * @throws UnsupportedOperationException
+     *         if the implementation does not support the observation of the changes, which is the default.
+     */
+    default void unsubscribe( @NonNull SystemProperty aProperty, @NonNull Consumer< String > aConsumer ) {
+        throw new UnsupportedOperationException( "The observation of the system properties is not supported." );
+    }
+
+    /**
+     * Returns a publisher of the changed values of the specified property, emitting the same values as the consumers
+     * registered with {@link #subscribe(SystemProperty, Consumer)}, except for the null ones. The values are dropped for
+     * the subscribers too slow to consume them.
+     *
+     * @param aProperty
+     *         the property to observe.
+     * @return the publisher of the changed values.
+     *
+     * @throws UnsupportedOperationException
+     *         if the implementation does not support the observation of the changes, which is the default.
+     */
+    default Flow.Publisher< String > publisher( @NonNull SystemProperty aProperty ) {
+        throw new UnsupportedOperationException( "The observation of the system properties is not supported." );
+    }
+
+    /**
+     * Reads a property and converts its value with the given converter. The typed reads of this interface are
+     * composed of this method, so an implementation may override it to cache the converted values, keyed by the
+     * property and the type; a given type should therefore always be used with the same converter.
+     *
+     * @param aProperty
+     *         a property to read.
+     * @param aType
+     *         the type the value is converted to.
+     * @param aConverter
+     *         the converter of the value, throwing an {@link IllegalArgumentException} if the value cannot be
+     *         converted.
+     * @return the converted value of the property.
+     *
+     * @throws InvalidPropertyValueException
+     *         if the value is not valid or cannot be converted.
+     */
+    default < T > T readConverted( @NonNull SystemProperty aProperty, @NonNull Class< ? > aType, @NonNull Function< String, T > aConverter ) {
+        requireNonNull( aProperty );
+        requireNonNull( aType );
+        requireNonNull( aConverter );
+
+        String value = readProperty( aProperty );
+        try {
+            return aConverter.apply( value );
+        } catch ( IllegalArgumentException aE ) {
+            throw new InvalidPropertyValueException( aE, CommonsResExcMsgTranslationKey.PROPERTY_CONVERSION_FAILED, aProperty.getName(), value, aType.getSimpleName() );
+        }
+    }
+
+    /**
+     * Reads a property and converts its value to an {@code int}.
+     *
+     * @param aProperty
+     *         a property to read.
+     * @return the converted value of the property.
+     *
+     * @throws com.github.pplociennik.commons.exc.properties.InvalidPropertyValueException
+     *         if the value cannot be converted.
+     */
+    default int readInt( @NonNull SystemProperty aProperty ) {
+        return readConverted( aProperty, Integer.class, value -> Integer.parseInt( value.trim() ) );
+    }
+
+    /**
+     * Reads a property and converts its value to a {@code long}.
+     *
+     * @param aProperty
+     *         a property to read.
+     * @return the converted value of the property.
+     *
+     * @throws com.github.pplociennik.commons.exc.properties.InvalidPropertyValueException
+     *         if the value cannot be converted.
+     */
+    default long readLong( @NonNull SystemProperty aProperty ) {
+        return readConverted( aProperty, Long.class, value -> Long.parseLong( value.trim() ) );
+    }
+
+    /**
+     * Reads a property and converts its value, {@code true} or {@code false} regardless of the case, to a
+     * {@code boolean}.
+     *
+     * @param aProperty
+     *         a property to read.
+     * @return the converted value of the property.
+     *
+     * @throws com.github.pplociennik.commons.exc.properties.InvalidPropertyValueException
+     *         if the value cannot be converted.
+     */
+    default boolean readBoolean( @NonNull SystemProperty aProperty ) {
+        return readConverted( aProperty, Boolean.class, SystemPropertiesReaderService::parseBoolean );
+    }
+
+    /**
+     * Reads a property and converts its value to a {@link Duration}. Both the ISO-8601 format, e.g. {@code PT10S},
+     * and the simple format with an optional unit, e.g. {@code 10s} or {@code 500ms}, are supported.
+     *
+     * @param aProperty
+     *         a property to read.
+     * @return the converted value of the property.
+     *
+     * @throws com.github.pplociennik.commons.exc.properties.InvalidPropertyValueException
+     *         if the value cannot be converted.
+     */
+    default Duration readDuration( @NonNull SystemProperty aProperty ) {
+        return readConverted( aProperty, Duration.class, value -> DurationStyle.detectAndParse( value.trim() ) );
+    }
+
+    /**
+     * Reads a property and converts its value to a constant of the given enum type. The value is matched with
+     * the names of the constants case-insensitively.
+     *
+     * @param aProperty
+     *         a property to read.
+     * @param aEnumType
+     *         the type of the enum.
+     * @return the converted value of the property.
+     *
+     * @throws com.github.pplociennik.commons.exc.properties.InvalidPropertyValueException
+     *         if the value cannot be converted.
+     */
+    default < E extends Enum< E > > E readEnum( @NonNull SystemProperty aProperty, @NonNull Class< E > aEnumType ) {
+        requireNonNull( aEnumType );
+        return readConverted( aProperty, aEnumType, value -> parseEnum( value, aEnumType ) );
+    }
+
+    /**
+     * Reads a property and splits its value into a list of the comma-separated, trimmed and non-empty elements.
+     *
+     * @param aProperty
+     *         a property to read.
+     * @return an immutable list of the elements of the property.
+     */
+    default List< String > readList( @NonNull SystemProperty aProperty ) {
+        return readConverted( aProperty, List.class, value -> Arrays.stream( value.split( "," ) )
+                .map( String::trim )
+                .filter( element -> !element.isEmpty() )
+                .collect( Collectors.toUnmodifiableList() ) );
+    }
+
+    /**
+     * Reads the values of the specified properties one by one, collecting the failures instead of stopping at the
+     * first one.
+     *
+     * @param aProperties
+     *         the properties to read.
+     * @param aSkipMissing
+     *         whether the properties not defined in the system environment should be omitted rather than reported.
+     * @return an immutable map of the values, keyed by the properties in their iteration order.
+     *
+     * @throws SystemPropertiesValidationException
+     *         if any of the properties could not be read.
+     */
+    private Map< SystemProperty, String > readAll( Collection< ? extends SystemProperty > aProperties, boolean aSkipMissing ) {
+        Map< SystemProperty, String > values = new LinkedHashMap<>();
+        List< RuntimeException > failures = new ArrayList<>();
+        for ( SystemProperty property : aProperties ) {
+            requireNonNull( property );
+            try {
+                values.put( property, readProperty( property ) );
+            } catch ( NoSuchPropertyExistsException aE ) {
+                if ( !aSkipMissing ) {
+                    failures.add( aE );
+                }
+            } catch ( InvalidPropertyValueException aE ) {
+                failures.add( aE );
+            }
+        }
+        if ( !failures.isEmpty() ) {
+            String report = failures.stream().map( Throwable::getMessage ).collect( Collectors.joining( "; " ) );
+            throw new SystemPropertiesValidationException( failures, CommonsResExcMsgTranslationKey.SYSTEM_PROPERTIES_VALIDATION_FAILED, report );
+        }
+        return Collections.unmodifiableMap( values );
+    }
+
+    private static boolean parseBoolean( String aValue ) {
+        String value = aValue.trim();
+        if ( value.equalsIgnoreCase( Boolean.TRUE.toString() ) ) {
+            return true;
+        }
+        if ( value.equalsIgnoreCase( Boolean.FALSE.toString() ) ) {
+            return false;
+        }
+        throw new IllegalArgumentException( "Not a boolean: " + aValue );
+    }
+
+    private static < E extends Enum< E > > E parseEnum( String aValue, Class< E > aEnumType ) {
+        String value = aValue.trim();
+        for ( E constant : aEnumType.getEnumConstants() ) {
+            if ( constant.name().equalsIgnoreCase( value ) ) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException( "No constant " + aValue + " in " + aEnumType.getName() );
+    }
 }
@@ -4,9 +4,11 @@ import com.github.pplociennik.commons.service.SystemPropertiesReaderService;
 import com.github.pplociennik.commons.service.TimeService;
 import com.github.pplociennik.commons.service.impl.SystemPropertiesReaderServiceImpl;
 import com.github.pplociennik.commons.service.impl.TimeServiceImpl;
+import com.github.pplociennik.commons.system.index.SystemPropertyIndexRuntimeHints;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.core.env.Environment;
 
 /**
@@ -15,6 +17,7 @@ import org.springframework.core.env.Environment;
  * @author Created by: Pplociennik at 21.03.2025 22:27
  */
 @Configuration
+@ImportRuntimeHints( SystemPropertyIndexRuntimeHints.class )
 public class CommonBeansConfig {
 
     /**
@@ -2,16 +2,39 @@ package com.github.pplociennik.commons.service.impl;
 
 import com.github.pplociennik.commons.exc.properties.InvalidPropertyValueException;
 import com.github.pplociennik.commons.exc.properties.NoSuchPropertyExistsException;
+import com.github.pplociennik.commons.exc.properties.SystemPropertiesValidationException;
 import com.github.pplociennik.commons.lang.CommonsResExcMsgTranslationKey;
 import com.github.pplociennik.commons.service.SystemPropertiesReaderService;
 import com.github.pplociennik.commons.system.SystemProperty;
+import com.github.pplociennik.commons.system.SystemPropertyScanner;
+import jakarta.annotation.PreDestroy;
 import lombok.NonNull;
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 
@@ -46,6 +69,28 @@ public class SystemPropertiesReaderServiceImpl implements SystemPropertiesReader
      */
     private Environment environment;
 
+    /**
+     * The cached values of the properties. The whole cache is replaced on refresh with a single write, so that the
+     * readers never see a partially invalidated cache.
+     */
+    private volatile CachedValues cache = new CachedValues();
+
+    /**
+     * The properties defined in the classpath, discovered when the application context is refreshed or on the first
+     * snapshot.
+     */
+    private volatile Set< SystemProperty > definedProperties;
+
+    /**
+     * The consumers of the changes of the observed properties, along with the values they have last been notified of.
+     */
+    private final ConcurrentMap< SystemProperty, Subscribers > subscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * The publishers of the changes of the observed properties.
+     */
+    private final ConcurrentMap< SystemProperty, SubmissionPublisher< String > > publishers = new ConcurrentHashMap<>();
+
     /**
      * Constructs an instance of {@code SystemPropertiesReaderServiceImpl}.
      *
@@ -72,8 +117,110 @@ public class SystemPropertiesReaderServiceImpl implements SystemPropertiesReader
     @Override
     public String readProperty( @NonNull String aPropertyName ) {
         requireNonNull( aPropertyName );
-        verifyProperty( aPropertyName );
-        return environment.getProperty( aPropertyName );
+
+        return resolve( aPropertyName, cache );
+    }
+
+    /**
+     * Drops all the cached values of the properties, so that they are resolved from the system environment again, and
+     * notifies the subscribers of the properties whose values have changed. Invoked automatically when the Spring
+     * application context is refreshed.
+     */
+    @Override
+    public void refresh() {
+        cache = new CachedValues();
+        publishChanges();
+    }
+
+    /**
+     * Registers a consumer notified, after a refresh, whenever the value of the specified property has changed. The
+     * current value of the property is the reference for the first notification.
+     *
+     * @param aProperty
+     *         the property to observe.
+     * @param aConsumer
+     *         the consumer of the new values, or of null if the property no longer exists or is no longer valid.
+     */
+    @Override
+    public void subscribe( @NonNull SystemProperty aProperty, @NonNull Consumer< String > aConsumer ) {
+        requireNonNull( aProperty );
+        requireNonNull( aConsumer );
+
+        subscriptions.computeIfAbsent( aProperty, property -> new Subscribers( readObserved( property ) ) ).consumers.add( aConsumer );
+    }
+
+    /**
+     * Unregisters a previously subscribed consumer.
+     *
+     * @param aProperty
+     *         the observed property.
+     * @param aConsumer
+     *         the consumer to unregister.
+     */
+    @Override
+    public void unsubscribe( @NonNull SystemProperty aProperty, @NonNull Consumer< String > aConsumer ) {
+        requireNonNull( aProperty );
+        requireNonNull( aConsumer );
+
+        Subscribers subscribers = subscriptions.get( aProperty );
+        if ( subscribers != null ) {
+            subscribers.consumers.remove( aConsumer );
+        }
+    }
+
+    /**
+     * Returns a publisher of the changed values of the specified property. The publisher is shared by all the callers
+     * and delivers the values asynchronously, so a slow subscriber does not delay the refresh; instead, the values
+     * exceeding its buffer are dropped for it.
+     *
+     * @param aProperty
+     *         the property to observe.
+     * @return the publisher of the changed values.
+     */
+    @Override
+    public Flow.Publisher< String > publisher( @NonNull SystemProperty aProperty ) {
+        requireNonNull( aProperty );
+
+        return publishers.computeIfAbsent( aProperty, property -> {
+            SubmissionPublisher< String > publisher = new SubmissionPublisher<>();
+            subscribe( property, value -> {
+                if ( value != null ) {
+                    // The value is dropped for the subscribers whose buffers are full rather than blocking the refresh.
+                    publisher.offer( value, ( subscriber, dropped ) -> false );
+                }
+            } );
+            return publisher;
+        } );
+    }
+
+    /**
+     * Completes the publishers of the changes of the properties.
+     */
+    @PreDestroy
+    public void close() {
+        publishers.values().forEach( SubmissionPublisher::close );
+    }
+
+    /**
+     * Refreshes the cached values when the Spring application context is refreshed and validates all the properties
+     * defined in the classpath, i.e. the constants of the enums implementing {@link SystemProperty} in this library and
+     * in the auto-configuration packages of the application, so that an invalid configuration fails the startup.
+     *
+     * @param aEvent
+     *         the event of the refresh.
+     * @throws SystemPropertiesValidationException
+     *         if any of the defined properties has an invalid value.
+     */
+    @EventListener
+    public void onContextRefreshed( @NonNull ContextRefreshedEvent aEvent ) {
+        refresh();
+
+        ApplicationContext context = aEvent.getApplicationContext();
+        BeanFactory beanFactory = context.getAutowireCapableBeanFactory();
+        List< String > packages = AutoConfigurationPackages.has( beanFactory ) ? AutoConfigurationPackages.get( beanFactory ) : List.of();
+        ClassLoader classLoader = context.getClassLoader() != null ? context.getClassLoader() : getClass().getClassLoader();
+        definedProperties = Collections.unmodifiableSet( SystemPropertyScanner.discover( classLoader, packages ) );
+        validate( definedProperties );
     }
 
     /**
@@ -94,11 +241,237 @@ public class SystemPropertiesReaderServiceImpl implements SystemPropertiesReader
     public String readProperty( @NonNull SystemProperty aProperty ) {
         requireNonNull( aProperty );
 
-        String value = readProperty( aProperty.getName() );
-        verifyValue( aProperty, value );
+        return readValidated( aProperty, cache );
+    }
+
+    /**
+     * Validates the values of the specified properties at once, so that their subsequent reads skip the verification.
+     * The properties which are not defined in the system environment are skipped, as they may be optional; reading
+     * them fails as before.
+     *
+     * @param aProperties
+     *         the properties to validate.
+     * @throws SystemPropertiesValidationException
+     *         if any of the values is not valid, reporting all the invalid ones.
+     */
+    @Override
+    public void validate( @NonNull Collection< ? extends SystemProperty > aProperties ) {
+        requireNonNull( aProperties );
+
+        readAll( aProperties, true );
+    }
+
+    /**
+     * Reads the values of the specified properties at once. All the properties are read against the same state of the
+     * cache, so that a concurrent refresh does not result in a mix of the old and the new values.
+     *
+     * @param aProperties
+     *         the properties to read.
+     * @return an immutable map of the values, keyed by the properties in their iteration order.
+     *
+     * @throws SystemPropertiesValidationException
+     *         if any of the properties does not exist or has an invalid value, reporting all of them.
+     */
+    @Override
+    public Map< SystemProperty, String > readProperties( @NonNull Collection< ? extends SystemProperty > aProperties ) {
+        requireNonNull( aProperties );
+
+        return readAll( aProperties, false );
+    }
+
+    /**
+     * Reads the values of all the properties defined in the classpath. If the application context has not been
+     * refreshed yet, only the properties defined by this library are known.
+     *
+     * @return an immutable map of the values, keyed by the properties.
+     *
+     * @throws SystemPropertiesValidationException
+     *         if any of the values is not valid, reporting all the invalid ones.
+     */
+    @Override
+    public Map< SystemProperty, String > snapshot() {
+        Set< SystemProperty > properties = definedProperties;
+        if ( properties == null ) {
+            properties = Collections.unmodifiableSet( SystemPropertyScanner.discover( getClass().getClassLoader(), List.of() ) );
+            definedProperties = properties;
+        }
+        return readAll( properties, true );
+    }
+
+    /**
+     * Reads a property and converts its value with the given converter. The converted value is cached and reused as
+     * long as the raw value of the property does not change, so every value is converted once. The typed reads of the
+     * service are composed of this method.
+     *
+     * @param aProperty
+     *         the system property to read.
+     * @param aType
+     *         the type the value is converted to, distinguishing the conversions of the same property.
+     * @param aConverter
+     *         the converter of the value, throwing an {@link IllegalArgumentException} if the value cannot be
+     *         converted.
+     * @return the converted value of the property.
+     *
+     * @throws NoSuchPropertyExistsException
+     *         if the specified property does not exist in the system environment.
+     * @throws InvalidPropertyValueException
+     *         if the value of the specified property is not valid or cannot be converted.
+     */
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public < T > T readConverted( @NonNull SystemProperty aProperty, @NonNull Class< ? > aType, @NonNull Function< String, T > aConverter ) {
+        requireNonNull( aProperty );
+        requireNonNull( aType );
+        requireNonNull( aConverter );
+
+        CachedValues cached = cache;
+        String value = readValidated( aProperty, cached );
+        ConvertedValues converted = cached.conversions.get( aProperty.getName() );
+        if ( converted == null || !converted.value.equals( value ) ) {
+            converted = new ConvertedValues( value );
+            cached.conversions.put( aProperty.getName(), converted );
+        }
+        return ( T ) converted.values.computeIfAbsent( aType, type -> convert( aProperty, value, type, aConverter ) );
+    }
+
+    private static < T > T convert( SystemProperty aProperty, String aValue, Class< ? > aType, Function< String, T > aConverter ) {
+        try {
+            return aConverter.apply( aValue );
+        } catch ( IllegalArgumentException aE ) {
+            throw new InvalidPropertyValueException( aE, CommonsResExcMsgTranslationKey.PROPERTY_CONVERSION_FAILED, aProperty.getName(), aValue, aType.getSimpleName() );
+        }
+    }
+
+    /**
+     * Resolves the value of a property, caching it in the specified cache.
+     *
+     * @param aPropertyName
+     *         the name of the property to resolve.
+     * @param aCache
+     *         the cached values of the properties.
+     * @return the value of the property.
+     *
+     * @throws NoSuchPropertyExistsException
+     *         if the specified property does not exist in the system environment.
+     */
+    private String resolve( String aPropertyName, CachedValues aCache ) {
+        String value = aCache.resolvedValues.get( aPropertyName );
+        if ( value == null ) {
+            verifyProperty( aPropertyName );
+            value = environment.getProperty( aPropertyName );
+            if ( value != null ) {
+                aCache.resolvedValues.put( aPropertyName, value );
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Resolves and verifies the value of a property, caching it in the specified cache. The verification is skipped if
+     * the property has already been verified.
+     *
+     * @param aProperty
+     *         the property to read.
+     * @param aCache
+     *         the cached values of the properties.
+     * @return the value of the property.
+     *
+     * @throws NoSuchPropertyExistsException
+     *         if the specified property does not exist in the system environment.
+     * @throws InvalidPropertyValueException
+     *         if the value of the specified property is not valid.
+     */
+    private String readValidated( SystemProperty aProperty, CachedValues aCache ) {
+        String value = aCache.validatedValues.get( aProperty );
+        if ( value == null ) {
+            value = resolve( aProperty.getName(), aCache );
+            verifyValue( aProperty, value );
+            aCache.validatedValues.put( aProperty, value );
+        }
         return value;
     }
 
+    /**
+     * Reads the values of the specified properties in a single pass against the current state of the cache,
+     * collecting the failures instead of stopping at the first one.
+     *
+     * @param aProperties
+     *         the properties to read.
+     * @param aSkipMissing
+     *         whether the properties not defined in the system environment should be omitted rather than reported.
+     * @return an immutable map of the values, keyed by the properties in their iteration order.
+     *
+     * @throws SystemPropertiesValidationException
+     *         if any of the properties could not be read.
+     */
+    private Map< SystemProperty, String > readAll( Collection< ? extends SystemProperty > aProperties, boolean aSkipMissing ) {
+        CachedValues cached = cache;
+
+        Map< SystemProperty, String > values = new LinkedHashMap<>();
+        List< RuntimeException > failures = new ArrayList<>();
+        for ( SystemProperty property : aProperties ) {
+            requireNonNull( property );
+            if ( aSkipMissing && !cached.validatedValues.containsKey( property ) && !environment.containsProperty( property.getName() ) ) {
+                continue;
+            }
+            try {
+                values.put( property, readValidated( property, cached ) );
+            } catch ( NoSuchPropertyExistsException | InvalidPropertyValueException aE ) {
+                failures.add( aE );
+            }
+        }
+        if ( !failures.isEmpty() ) {
+            String report = failures.stream().map( Throwable::getMessage ).collect( Collectors.joining( "; " ) );
+            throw new SystemPropertiesValidationException( failures, CommonsResExcMsgTranslationKey.SYSTEM_PROPERTIES_VALIDATION_FAILED, report );
+        }
+        return Collections.unmodifiableMap( values );
+    }
+
+    /**
+     * Notifies the subscribers of the properties whose values differ from the ones they have last been notified of.
+     * All the consumers are notified even if some of them fail; the first failure is rethrown afterwards.
+     */
+    private synchronized void publishChanges() {
+        RuntimeException failure = null;
+        for ( Map.Entry< SystemProperty, Subscribers > subscription : subscriptions.entrySet() ) {
+            Subscribers subscribers = subscription.getValue();
+            String value = readObserved( subscription.getKey() );
+            if ( Objects.equals( value, subscribers.value ) ) {
+                continue;
+            }
+            subscribers.value = value;
+            for ( Consumer< String > consumer : subscribers.consumers ) {
+                try {
+                    consumer.accept( value );
+                } catch ( RuntimeException aE ) {
+                    if ( failure == null ) {
+                        failure = aE;
+                    } else {
+                        failure.addSuppressed( aE );
+                    }
+                }
+            }
+        }
+        if ( failure != null ) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Reads the value of an observed property.
+     *
+     * @param aProperty
+     *         the property to read.
+     * @return the value of the property, or null if it does not exist or is not valid.
+     */
+    private String readObserved( SystemProperty aProperty ) {
+        try {
+            return readProperty( aProperty );
+        } catch ( NoSuchPropertyExistsException | InvalidPropertyValueException aE ) {
+            return null;
+        }
+    }
+
     /**
      * Verifies the existence of a specified property in the system environment.
      *
@@ -144,4 +517,52 @@ public class SystemPropertiesReaderServiceImpl implements SystemPropertiesReader
         }
         return true;
     }
+
+    /**
+     * The consumers of the changes of a property along with the value they have last been notified of.
+     */
+    private static final class Subscribers {
+
+        private final List< Consumer< String > > consumers = new CopyOnWriteArrayList<>();
+        private volatile String value;
+
+        Subscribers( String aValue ) {
+            value = aValue;
+        }
+    }
+
+    /**
+     * The values of the properties cached until the next refresh, which replaces the whole instance.
+     */
+    private static final class CachedValues {
+
+        /**
+         * The resolved values of the properties, keyed by their names.
+         */
+        private final ConcurrentMap< String, String > resolvedValues = new ConcurrentHashMap<>();
+
+        /**
+         * The values of the properties which have already been verified against their possible values. Such properties
+         * are returned without any further verification.
+         */
+        private final ConcurrentMap< SystemProperty, String > validatedValues = new ConcurrentHashMap<>();
+
+        /**
+         * The converted values of the properties, cached along with the raw values they have been converted from.
+         */
+        private final ConcurrentMap< String, ConvertedValues > conversions = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * The raw value of a property along with its conversions, keyed by the type they convert to.
+     */
+    private static final class ConvertedValues {
+
+        private final String value;
+        private final ConcurrentMap< Class< ? >, Object > values = new ConcurrentHashMap<>( 2 );
+
+        ConvertedValues( String aValue ) {
+            value = aValue;
+        }
+    }
 }
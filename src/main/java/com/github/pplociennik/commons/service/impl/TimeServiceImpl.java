@@ -5,6 +5,7 @@ import com.github.pplociennik.commons.service.TimeService;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.github.pplociennik.commons.system.CommonSystemProperties.SYSTEM_JPA_TIME_ZONE;
 
@@ -23,8 +24,30 @@ public class TimeServiceImpl implements TimeService {
     private static final String DEFAULT_SYSTEM_TIME_ZONE = "UTC";
     private final SystemPropertiesReaderService systemPropertiesReader;
 
+    /**
+     * The system time zone, resolved on the first use and replaced by an unresolved one whenever the underlying
+     * property changes. A resolved zone is stored only if no change has happened since its resolution began.
+     */
+    private final AtomicReference< CachedZoneId > systemZoneId = new AtomicReference<>( new CachedZoneId( null ) );
+
+    /**
+     * Whether the changes of the property are observed, so that the resolved zone may be cached.
+     */
+    private final boolean cachingZoneId;
+
     public TimeServiceImpl( SystemPropertiesReaderService aPropertiesProvider ) {
         systemPropertiesReader = aPropertiesProvider;
+        cachingZoneId = subscribeToZoneChanges();
+    }
+
+    private boolean subscribeToZoneChanges() {
+        try {
+            systemPropertiesReader.subscribe( SYSTEM_JPA_TIME_ZONE, value -> systemZoneId.set( new CachedZoneId( null ) ) );
+            return true;
+        } catch ( UnsupportedOperationException aE ) {
+            // Without the notifications a cached zone could become stale, so the zone is resolved on every use.
+            return false;
+        }
     }
 
     /**
@@ -35,11 +58,20 @@ public class TimeServiceImpl implements TimeService {
      */
     @Override
     public ZoneId getSystemZoneId() {
+        var cached = systemZoneId.get();
+        if ( cached.zoneId != null ) {
+            return cached.zoneId;
+        }
         var systemTimeZone = getSystemTimeZone();
 
-        return systemTimeZone.isBlank()
+        var zoneId = systemTimeZone.isBlank()
                 ? ZoneId.of( DEFAULT_SYSTEM_TIME_ZONE )
                 : ZoneId.of( systemTimeZone );
+        if ( cachingZoneId ) {
+            // Fails if the property has changed meanwhile, so that the zone resolved from the old value is not cached.
+            systemZoneId.compareAndSet( cached, new CachedZoneId( zoneId ) );
+        }
+        return zoneId;
     }
 
     /**
@@ -55,4 +87,17 @@ public class TimeServiceImpl implements TimeService {
     private String getSystemTimeZone() {
         return systemPropertiesReader.readProperty( SYSTEM_JPA_TIME_ZONE );
     }
+
+    /**
+     * A cached system time zone, compared by identity, so that each change of the property invalidates the zones
+     * being resolved concurrently.
+     */
+    private static final class CachedZoneId {
+
+        private final ZoneId zoneId;
+
+        CachedZoneId( ZoneId aZoneId ) {
+            zoneId = aZoneId;
+        }
+    }
 }
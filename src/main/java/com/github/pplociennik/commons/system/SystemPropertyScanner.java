@@ -0,0 +1,132 @@
+package com.github.pplociennik.commons.system;
+
+import com.github.pplociennik.commons.system.index.SystemPropertyIndex;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A utility discovering the enums implementing {@link SystemProperty} in the classpath, so that all the defined
+ * properties may be validated at once, e.g. at the startup of the application. The enums are taken from the
+ * {@link SystemPropertyIndex}es generated at compile time if there are any, or found by scanning the classpath otherwise.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 22:44
+ */
+public final class SystemPropertyScanner {
+
+    /**
+     * The package of the properties defined by this library, always scanned.
+     */
+    public static final String COMMONS_PACKAGE = "com.github.pplociennik.commons";
+
+    private SystemPropertyScanner() {
+    }
+
+    /**
+     * Returns the constants of all the enums implementing {@link SystemProperty}. The enums listed in the available
+     * {@link SystemPropertyIndex}es are returned along with the properties of this library, which is not indexed itself,
+     * and only the given packages containing none of the indexed enums are {@linkplain #scan(ClassLoader, Collection)
+     * scanned}, so that the enums of the modules built without the index processor are still found.
+     *
+     * @param aClassLoader
+     *         the class loader to load the enums and the indexes with.
+     * @param aBasePackages
+     *         the packages to scan unless they are covered by an index, along with their subpackages.
+     * @return the found properties, in the order of their enums and constants.
+     */
+    public static Set< SystemProperty > discover( @NonNull ClassLoader aClassLoader, @NonNull Collection< String > aBasePackages ) {
+        requireNonNull( aClassLoader );
+        requireNonNull( aBasePackages );
+
+        Set< Class< ? extends SystemProperty > > types = indexedTypes( aClassLoader );
+        if ( types.isEmpty() ) {
+            return scan( aClassLoader, aBasePackages );
+        }
+        Set< SystemProperty > properties = new LinkedHashSet<>( Arrays.asList( CommonSystemProperties.values() ) );
+        for ( Class< ? extends SystemProperty > type : types ) {
+            properties.addAll( Arrays.asList( type.getEnumConstants() ) );
+        }
+        List< String > uncoveredPackages = aBasePackages.stream()
+                .filter( basePackage -> types.stream().noneMatch( type -> type.getName().startsWith( basePackage + "." ) ) )
+                .toList();
+        if ( !uncoveredPackages.isEmpty() ) {
+            properties.addAll( scanPackages( aClassLoader, uncoveredPackages ) );
+        }
+        return properties;
+    }
+
+    /**
+     * Returns the enums listed in the {@link SystemPropertyIndex}es available to the given class loader.
+     *
+     * @param aClassLoader
+     *         the class loader to load the enums and the indexes with.
+     * @return the indexed enums, or an empty set if there is no index.
+     */
+    public static Set< Class< ? extends SystemProperty > > indexedTypes( @NonNull ClassLoader aClassLoader ) {
+        requireNonNull( aClassLoader );
+
+        Set< Class< ? extends SystemProperty > > types = new LinkedHashSet<>();
+        for ( SystemPropertyIndex index : ServiceLoader.load( SystemPropertyIndex.class, aClassLoader ) ) {
+            for ( String name : index.getPropertyTypeNames() ) {
+                types.add( ClassUtils.resolveClassName( name, aClassLoader ).asSubclass( SystemProperty.class ) );
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Returns the constants of all the enums implementing {@link SystemProperty} found in the given packages and
+     * in {@link #COMMONS_PACKAGE}.
+     *
+     * @param aClassLoader
+     *         the class loader to load the found enums with.
+     * @param aBasePackages
+     *         the packages to scan, along with their subpackages.
+     * @return the found properties, in the order of their enums and constants.
+     */
+    public static Set< SystemProperty > scan( @NonNull ClassLoader aClassLoader, @NonNull Collection< String > aBasePackages ) {
+        requireNonNull( aClassLoader );
+        requireNonNull( aBasePackages );
+
+        Set< String > packages = new LinkedHashSet<>( aBasePackages );
+        packages.add( COMMONS_PACKAGE );
+        return scanPackages( aClassLoader, packages );
+    }
+
+    private static Set< SystemProperty > scanPackages( ClassLoader aClassLoader, Collection< String > aPackages ) {
+        ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider( false ) {
+
+            @Override
+            protected boolean isCandidateComponent( @NonNull AnnotatedBeanDefinition aBeanDefinition ) {
+                // Enums with constant-specific bodies are abstract, so only the independence is required.
+                return aBeanDefinition.getMetadata().isIndependent();
+            }
+        };
+        provider.addIncludeFilter( new AssignableTypeFilter( SystemProperty.class ) );
+        provider.setResourceLoader( new DefaultResourceLoader( aClassLoader ) );
+
+        Set< SystemProperty > properties = new LinkedHashSet<>();
+        for ( String basePackage : aPackages ) {
+            for ( BeanDefinition candidate : provider.findCandidateComponents( basePackage ) ) {
+                Class< ? > type = ClassUtils.resolveClassName( requireNonNull( candidate.getBeanClassName() ), aClassLoader );
+                if ( type.isEnum() ) {
+                    properties.addAll( Arrays.asList( ( SystemProperty[] ) type.getEnumConstants() ) );
+                }
+            }
+        }
+        return properties;
+    }
+}
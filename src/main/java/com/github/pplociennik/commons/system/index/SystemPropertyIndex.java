@@ -0,0 +1,22 @@
+package com.github.pplociennik.commons.system.index;
+
+import com.github.pplociennik.commons.system.SystemProperty;
+
+import java.util.List;
+
+/**
+ * An index of the enums implementing {@link SystemProperty} in a compilation unit, generated at compile time by
+ * {@link SystemPropertyIndexProcessor} and loaded with {@link java.util.ServiceLoader}, so that the properties may be
+ * discovered without scanning the classpath.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 22:52
+ */
+public interface SystemPropertyIndex {
+
+    /**
+     * Returns the binary names of the indexed enums, loadable with {@link Class#forName(String)}.
+     *
+     * @return the names of the enums implementing {@link SystemProperty}, in the order of the names.
+     */
+    List< String > getPropertyTypeNames();
+}
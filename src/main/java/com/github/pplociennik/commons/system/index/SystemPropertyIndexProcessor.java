@@ -0,0 +1,130 @@
+package com.github.pplociennik.commons.system.index;
+
+import com.github.pplociennik.commons.system.SystemProperty;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * An annotation processor generating a {@link SystemPropertyIndex} of the enums implementing {@link SystemProperty}
+ * compiled along with it, and registering the index as a service. The processor is registered in this artifact, so it
+ * runs in every compilation having the artifact on the processor path.
+ * <p>
+ * An index is generated in every round finding new enums, so that it is itself compiled in a subsequent round, and
+ * the service registration listing all the indexes is written once the processing is over. Each index is placed in the
+ * package of the first of its enums in the order of their names and named {@value #INDEX_CLASS_PREFIX} followed by a
+ * hash of the names, so that the indexes of different modules sharing a package do not shadow each other. An
+ * incremental compilation covering only some of the sources results in a partial index; a full build regenerates it.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 22:58
+ */
+@SupportedAnnotationTypes( "*" )
+public class SystemPropertyIndexProcessor extends AbstractProcessor {
+
+    /**
+     * The prefix of the simple names of the generated indexes.
+     */
+    public static final String INDEX_CLASS_PREFIX = "GeneratedSystemPropertyIndex_";
+
+    private final Set< String > propertyTypeNames = new HashSet<>();
+    private final List< String > indexNames = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process( Set< ? extends TypeElement > aAnnotations, RoundEnvironment aRoundEnvironment ) {
+        TypeElement systemProperty = processingEnv.getElementUtils().getTypeElement( SystemProperty.class.getCanonicalName() );
+        if ( systemProperty == null ) {
+            return false;
+        }
+        if ( !aRoundEnvironment.processingOver() ) {
+            Set< String > found = new TreeSet<>();
+            aRoundEnvironment.getRootElements().forEach( element -> collect( element, systemProperty, found ) );
+            found.removeAll( propertyTypeNames );
+            if ( !found.isEmpty() ) {
+                propertyTypeNames.addAll( found );
+                generateIndex( found );
+            }
+        } else if ( !indexNames.isEmpty() ) {
+            registerIndexes();
+        }
+        // The processor does not claim any annotations, so that the other processors still see them.
+        return false;
+    }
+
+    private void collect( Element aElement, TypeElement aSystemProperty, Set< String > aFound ) {
+        if ( aElement.getKind() == ElementKind.ENUM
+                && processingEnv.getTypeUtils().isAssignable( aElement.asType(), aSystemProperty.asType() ) ) {
+            aFound.add( processingEnv.getElementUtils().getBinaryName( ( TypeElement ) aElement ).toString() );
+        }
+        ElementFilter.typesIn( aElement.getEnclosedElements() ).forEach( type -> collect( type, aSystemProperty, aFound ) );
+    }
+
+    private void generateIndex( Set< String > aPropertyTypeNames ) {
+        String firstType = aPropertyTypeNames.iterator().next();
+        String packageName = firstType.contains( "." ) ? firstType.substring( 0, firstType.lastIndexOf( '.' ) ) : "";
+        String hash = UUID.nameUUIDFromBytes( String.join( ",", aPropertyTypeNames ).getBytes( StandardCharsets.UTF_8 ) )
+                .toString().replace( "-", "" );
+        String simpleName = INDEX_CLASS_PREFIX + hash;
+        String indexName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try ( Writer writer = processingEnv.getFiler().createSourceFile( indexName ).openWriter() ) {
+            writer.write( source( packageName, simpleName, aPropertyTypeNames ) );
+            indexNames.add( indexName );
+        } catch ( IOException aE ) {
+            processingEnv.getMessager().printMessage( Diagnostic.Kind.ERROR, "Could not generate the system property index: " + aE.getMessage() );
+        }
+    }
+
+    private void registerIndexes() {
+        try {
+            FileObject services = processingEnv.getFiler()
+                    .createResource( StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + SystemPropertyIndex.class.getName() );
+            try ( Writer writer = services.openWriter() ) {
+                for ( String indexName : indexNames ) {
+                    writer.write( indexName + "\n" );
+                }
+            }
+        } catch ( IOException aE ) {
+            processingEnv.getMessager().printMessage( Diagnostic.Kind.ERROR, "Could not register the system property indexes: " + aE.getMessage() );
+        }
+    }
+
+    private String source( String aPackageName, String aSimpleName, Set< String > aPropertyTypeNames ) {
+        String names = aPropertyTypeNames.stream()
+                .map( name -> "\"" + name + "\"" )
+                .collect( Collectors.joining( ",\n            " ) );
+        return ( aPackageName.isEmpty() ? "" : "package " + aPackageName + ";\n\n" )
+                + "import java.util.List;\n\n"
+                + "@javax.annotation.processing.Generated( \"" + getClass().getName() + "\" )\n"
+                + "public final class " + aSimpleName + " implements " + SystemPropertyIndex.class.getName() + " {\n\n"
+                + "    private static final List< String > PROPERTY_TYPE_NAMES = List.of(\n"
+                + "            " + names + " );\n\n"
+                + "    @Override\n"
+                + "    public List< String > getPropertyTypeNames() {\n"
+                + "        return PROPERTY_TYPE_NAMES;\n"
+                + "    }\n"
+                + "}\n";
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.pplociennik.commons.system.index;
+
+import com.github.pplociennik.commons.system.SystemProperty;
+import com.github.pplociennik.commons.system.SystemPropertyScanner;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.lang.Nullable;
+
+import java.util.ServiceLoader;
+
+/**
+ * Registers the hints required to load the {@link SystemPropertyIndex}es and the indexed {@link SystemProperty} enums
+ * in a native image, where neither the service registrations nor the enums are reachable otherwise.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 23:06
+ */
+public class SystemPropertyIndexRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints( RuntimeHints aHints, @Nullable ClassLoader aClassLoader ) {
+        ClassLoader classLoader = aClassLoader != null ? aClassLoader : getClass().getClassLoader();
+
+        aHints.resources().registerPattern( "META-INF/services/" + SystemPropertyIndex.class.getName() );
+        for ( SystemPropertyIndex index : ServiceLoader.load( SystemPropertyIndex.class, classLoader ) ) {
+            aHints.reflection().registerType( index.getClass(), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS );
+        }
+        for ( Class< ? extends SystemProperty > type : SystemPropertyScanner.indexedTypes( classLoader ) ) {
+            aHints.reflection().registerType( type, MemberCategory.INVOKE_PUBLIC_METHODS );
+        }
+    }
+}
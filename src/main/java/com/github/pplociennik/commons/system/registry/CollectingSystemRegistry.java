@@ -2,13 +2,26 @@ package com.github.pplociennik.commons.system.registry;
 
 import org.springframework.lang.NonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * The CollectingSystemRegistry interface extends SystemRegistry to provide additional functionality
  * for managing collections of objects. It introduces bulk operations for adding and removing multiple
  * objects simultaneously, as well as methods to access and stream the stored elements.
+ * <p>
+ * The batch operations ({@link #addAll(Collection)}, {@link #removeAll(Collection)}, {@link #removeIf(Predicate)},
+ * {@link #retainAll(Collection)}) report the number of elements actually changed. Their default implementations are
+ * composed of the other methods and are therefore neither atomic nor exact under concurrent modification; the
+ * implementations override them to apply each batch under a single lock or snapshot.
  *
  * @param <T>
  *         the type of objects stored in this collecting registry
@@ -72,4 +85,87 @@ public interface CollectingSystemRegistry< T > extends SystemRegistry< T > {
      */
     Stream< T > stream();
 
+    /**
+     * Checks if all the specified objects are present in the collecting system registry.
+     *
+     * @param aObjects
+     *         the objects to be checked
+     * @return {@code true} if all the objects are present in the registry, {@code false} otherwise
+     */
+    default boolean containsAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        for ( T object : aObjects ) {
+            if ( !contains( object ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry as a single batch.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     * @return the number of objects which were not present in the registry before
+     */
+    default int addAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        int sizeBefore = size();
+        add( new ArrayList< T >( aObjects ) );
+        return size() - sizeBefore;
+    }
+
+    /**
+     * Adds the objects of the specified stream to the collecting system registry as a single batch.
+     *
+     * @param aObjects
+     *         the stream of objects to be added to the collecting system registry
+     * @return the number of objects which were not present in the registry before
+     */
+    default int addAll( @NonNull Stream< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        return addAll( aObjects.collect( Collectors.toList() ) );
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry as a single batch.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     * @return the number of objects which were present in the registry before
+     */
+    default int removeAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        int sizeBefore = size();
+        remove( new ArrayList< T >( aObjects ) );
+        return sizeBefore - size();
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry satisfying the specified predicate as a single batch.
+     *
+     * @param aFilter
+     *         the predicate selecting the elements to be removed
+     * @return the number of removed elements
+     */
+    default int removeIf( @NonNull Predicate< ? super T > aFilter ) {
+        requireNonNull( aFilter );
+        List< T > matching = stream().filter( aFilter ).collect( Collectors.toList() );
+        return matching.isEmpty() ? 0 : removeAll( matching );
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry which are not contained in the specified collection,
+     * as a single batch.
+     *
+     * @param aObjects
+     *         the collection of objects to be retained in the collecting system registry
+     * @return the number of removed elements
+     */
+    default int retainAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        Collection< ? > retained = aObjects instanceof Set ? aObjects : new HashSet<>( aObjects );
+        return removeIf( element -> !retained.contains( element ) );
+    }
 }
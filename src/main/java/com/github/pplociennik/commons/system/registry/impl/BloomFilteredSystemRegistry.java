@@ -0,0 +1,378 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import com.github.pplociennik.commons.system.registry.CollectingSystemRegistry;
+import com.github.pplociennik.commons.system.registry.SystemRegistry;
+import org.springframework.lang.NonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A decorator of {@link CollectingSystemRegistry} placing a counting Bloom filter in front of the delegate registry,
+ * so that most lookups of absent elements are answered without touching the delegate.
+ * <p>
+ * The filter is sized with the expected number of elements and the desired false positive probability. Every element
+ * added through the decorator is recorded in the filter before it is added to the delegate, and every element removed
+ * through it is dropped from the filter after it has been removed from the delegate, so the filter never yields a false
+ * negative. Clearing the registry resets the filter; {@link #rebuildFilter()} recomputes it from the delegate contents,
+ * which is useful after many removals of elements whose counters have saturated.
+ * <p>
+ * Modifying operations are serialized by the decorator, while lookups are lock-free as far as the filter is concerned.
+ * The decorator is thread-safe if the delegate is. The delegate must not be modified directly once decorated.
+ * Lookup statistics are available through {@link #getStatistics()}.
+ *
+ * @param <T>
+ *         the type of elements maintained by this registry
+ * @author Created by: Pplociennik at 17.10.2026 14:58
+ */
+public final class BloomFilteredSystemRegistry< T > implements CollectingSystemRegistry< T > {
+
+    /**
+     * The default false positive probability of the filter.
+     */
+    public static final double DEFAULT_FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private final CollectingSystemRegistry< T > delegate;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final CountingBloomFilter filter;
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder filterRejections = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    /**
+     * Creates a decorator with the default false positive probability.
+     *
+     * @param aDelegate
+     *         the decorated registry
+     * @param aExpectedSize
+     *         the expected number of elements of the registry
+     */
+    public BloomFilteredSystemRegistry( @NonNull CollectingSystemRegistry< T > aDelegate, int aExpectedSize ) {
+        this( aDelegate, aExpectedSize, DEFAULT_FALSE_POSITIVE_PROBABILITY );
+    }
+
+    /**
+     * Creates a decorator with a filter tuned for the expected number of elements and false positive probability.
+     * The elements already present in the delegate are recorded in the filter.
+     *
+     * @param aDelegate
+     *         the decorated registry
+     * @param aExpectedSize
+     *         the expected number of elements of the registry
+     * @param aFalsePositiveProbability
+     *         the desired false positive probability, exclusive between 0 and 1
+     */
+    public BloomFilteredSystemRegistry( @NonNull CollectingSystemRegistry< T > aDelegate, int aExpectedSize, double aFalsePositiveProbability ) {
+        this( aDelegate, new CountingBloomFilter( aExpectedSize, aFalsePositiveProbability ) );
+        delegate.stream().forEach( filter::add );
+    }
+
+    private BloomFilteredSystemRegistry( CollectingSystemRegistry< T > aDelegate, CountingBloomFilter aFilter ) {
+        this.delegate = requireNonNull( aDelegate );
+        this.filter = aFilter;
+    }
+
+    /**
+     * Adds the specified objects to the collecting system registry.
+     *
+     * @param aObjects
+     *         the objects to be added to the collecting system registry
+     */
+    @SafeVarargs
+    @Override
+    public final void add( @NonNull T... aObjects ) {
+        requireNonNull( aObjects );
+        add( Arrays.asList( aObjects ) );
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     */
+    @Override
+    public void add( @NonNull Collection< T > aObjects ) {
+        requireNonNull( aObjects );
+        writeLock.lock();
+        try {
+            Set< T > added = new HashSet<>();
+            for ( T object : aObjects ) {
+                if ( !delegate.contains( object ) && added.add( object ) ) {
+                    filter.add( object );
+                }
+            }
+            delegate.add( added );
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     */
+    @Override
+    public void remove( @NonNull Collection< T > aObjects ) {
+        requireNonNull( aObjects );
+        writeLock.lock();
+        try {
+            Set< T > removed = new HashSet<>();
+            for ( T object : aObjects ) {
+                if ( delegate.contains( object ) ) {
+                    removed.add( object );
+                }
+            }
+            delegate.remove( removed );
+            removed.forEach( filter::remove );
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the specified object is present in the collecting system registry. The delegate is consulted only
+     * if the filter reports that the object might be present.
+     *
+     * @param aObject
+     *         the object to be checked
+     * @return {@code true} if the object is present in the registry, {@code false} otherwise
+     */
+    @Override
+    public boolean contains( @NonNull T aObject ) {
+        requireNonNull( aObject );
+        lookups.increment();
+        if ( !filter.mightContain( aObject ) ) {
+            filterRejections.increment();
+            return false;
+        }
+        boolean contains = delegate.contains( aObject );
+        if ( !contains ) {
+            falsePositives.increment();
+        }
+        return contains;
+    }
+
+    /**
+     * Returns the number of elements currently stored in the registry.
+     *
+     * @return the total number of elements in the registry
+     */
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     * Returns an iterable collection of all elements currently stored in the registry.
+     *
+     * @return an {@code Iterable} containing all elements in the registry
+     */
+    @Override
+    public Iterable< T > values() {
+        return delegate.values();
+    }
+
+    /**
+     * Returns a sequential {@code Stream} containing all elements currently stored in the registry.
+     *
+     * @return a {@code Stream} containing all elements in the registry
+     */
+    @Override
+    public Stream< T > stream() {
+        return delegate.stream();
+    }
+
+    /**
+     * Adds the specified object to the system registry.
+     *
+     * @param aObject
+     *         the object to be added to the system registry
+     */
+    @Override
+    public void add( @NonNull T aObject ) {
+        requireNonNull( aObject );
+        writeLock.lock();
+        try {
+            if ( !delegate.contains( aObject ) ) {
+                filter.add( aObject );
+                delegate.add( aObject );
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes all elements from the system registry and resets the filter.
+     */
+    @Override
+    public void clear() {
+        writeLock.lock();
+        try {
+            delegate.clear();
+            filter.clear();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the registry is empty.
+     *
+     * @return {@code true} if the registry contains no elements, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    /**
+     * Creates and returns a copy of this {@code SystemRegistry} instance, decorating a clone of the delegate with
+     * a filter built from the contents of that clone, so that the filter matches whatever the clone of the delegate
+     * holds. The copy is independent of this registry only if the clone of the delegate is.
+     *
+     * @return a clone of this {@code SystemRegistry} instance
+     */
+    @Override
+    public SystemRegistry< T > clone() {
+        writeLock.lock();
+        try {
+            CollectingSystemRegistry< T > copy = ( CollectingSystemRegistry< T > ) delegate.clone();
+            CountingBloomFilter copyFilter = filter.copy();
+            copyFilter.clear();
+            copy.stream().forEach( copyFilter::add );
+            return new BloomFilteredSystemRegistry<>( copy, copyFilter );
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Recomputes the filter from the current contents of the delegate.
+     */
+    public void rebuildFilter() {
+        writeLock.lock();
+        try {
+            filter.clear();
+            delegate.stream().forEach( filter::add );
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the current lookup statistics of the registry.
+     *
+     * @return the statistics
+     */
+    public FilterStatistics getStatistics() {
+        return new FilterStatistics( lookups.sum(), filterRejections.sum(), falsePositives.sum(),
+                filter.expectedFalsePositiveProbability( delegate.size() ), filter.size(), filter.hashFunctions() );
+    }
+
+    /**
+     * Resets the lookup statistics of the registry.
+     */
+    public void resetStatistics() {
+        lookups.reset();
+        filterRejections.reset();
+        falsePositives.reset();
+    }
+
+    /**
+     * An immutable snapshot of the lookup statistics of a {@link BloomFilteredSystemRegistry}.
+     */
+    public static final class FilterStatistics {
+
+        private final long lookups;
+        private final long filterRejections;
+        private final long falsePositives;
+        private final double expectedFalsePositiveRate;
+        private final int filterSize;
+        private final int hashFunctions;
+
+        private FilterStatistics( long aLookups, long aFilterRejections, long aFalsePositives, double aExpectedFalsePositiveRate,
+                                  int aFilterSize, int aHashFunctions ) {
+            lookups = aLookups;
+            filterRejections = aFilterRejections;
+            falsePositives = aFalsePositives;
+            expectedFalsePositiveRate = aExpectedFalsePositiveRate;
+            filterSize = aFilterSize;
+            hashFunctions = aHashFunctions;
+        }
+
+        /**
+         * Returns the total number of lookups.
+         */
+        public long getLookups() {
+            return lookups;
+        }
+
+        /**
+         * Returns the number of lookups answered negatively by the filter alone.
+         */
+        public long getFilterRejections() {
+            return filterRejections;
+        }
+
+        /**
+         * Returns the number of lookups passed to the delegate.
+         */
+        public long getDelegateLookups() {
+            return lookups - filterRejections;
+        }
+
+        /**
+         * Returns the number of lookups passed to the delegate for absent elements.
+         */
+        public long getFalsePositives() {
+            return falsePositives;
+        }
+
+        /**
+         * Returns the ratio of the false positives to all the lookups of absent elements, or 0 if there were none.
+         */
+        public double getObservedFalsePositiveRate() {
+            long negatives = filterRejections + falsePositives;
+            return negatives == 0 ? 0 : ( double ) falsePositives / negatives;
+        }
+
+        /**
+         * Returns the false positive probability expected for the current number of elements.
+         */
+        public double getExpectedFalsePositiveRate() {
+            return expectedFalsePositiveRate;
+        }
+
+        /**
+         * Returns the number of counters of the filter.
+         */
+        public int getFilterSize() {
+            return filterSize;
+        }
+
+        /**
+         * Returns the number of hash functions of the filter.
+         */
+        public int getHashFunctions() {
+            return hashFunctions;
+        }
+
+        @Override
+        public String toString() {
+            return "FilterStatistics{lookups=" + lookups + ", filterRejections=" + filterRejections + ", falsePositives=" + falsePositives
+                    + ", expectedFalsePositiveRate=" + expectedFalsePositiveRate + ", filterSize=" + filterSize + ", hashFunctions=" + hashFunctions + "}";
+        }
+    }
+}
@@ -0,0 +1,616 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import com.github.pplociennik.commons.system.registry.CollectingSystemRegistry;
+import com.github.pplociennik.commons.system.registry.SystemRegistry;
+import org.springframework.lang.NonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A thread-safe implementation of {@link CollectingSystemRegistry} holding at most a configured number of elements and
+ * evicting the surplus ones according to an {@link EvictionPolicy}:
+ * <ul>
+ *     <li>{@link EvictionPolicy#LEAST_RECENTLY_USED} evicts the element added or looked up least recently,</li>
+ *     <li>{@link EvictionPolicy#FREQUENCY} admits a new element into a full registry only if its estimated access
+ *     frequency, tracked by a count-min sketch, is higher than the one of the least recently used element, in the manner
+ *     of TinyLFU; otherwise the new element itself is evicted,</li>
+ *     <li>{@link EvictionPolicy#TIME_TO_LIVE} expires the elements once the configured time has passed since they were
+ *     added, and evicts the oldest ones when the registry is full.</li>
+ * </ul>
+ * Expired elements are removed lazily by every operation and may additionally be removed in the background, see
+ * {@link #scheduleCleanUp(ScheduledExecutorService, Duration)}. All the operations cost amortized O(1), except for
+ * the ones copying the contents.
+ * <p>
+ * Evicted and expired elements are reported to the registered {@link EvictionListener}s after the lock of the registry
+ * has been released. Explicit removals and clearing are not reported. An exception thrown by a listener does not
+ * prevent the other listeners from being notified nor fail the operation which triggered the notification; it is
+ * passed to the uncaught exception handler of the current thread instead. Note that with the access-ordered policies,
+ * {@link #contains(Object)} updates the recency of the element and therefore takes the lock of the registry.
+ *
+ * @param <T>
+ *         the type of elements maintained by this registry
+ * @author Created by: Pplociennik at 17.10.2026 16:41
+ */
+public final class BoundedSystemRegistry< T > implements CollectingSystemRegistry< T > {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List< EvictionListener< ? super T > > listeners = new CopyOnWriteArrayList<>();
+
+    private final int maximumSize;
+    private final EvictionPolicy policy;
+    private final long timeToLiveMillis;
+    private final Clock clock;
+
+    /**
+     * The elements mapped to the time of their addition, in the access order for the access-ordered policies
+     * and in the insertion order for {@link EvictionPolicy#TIME_TO_LIVE}.
+     */
+    private final LinkedHashMap< T, Long > entries;
+    private final FrequencySketch sketch;
+
+    private BoundedSystemRegistry( int aMaximumSize, EvictionPolicy aPolicy, Duration aTimeToLive, Clock aClock ) {
+        if ( aMaximumSize <= 0 ) {
+            throw new IllegalArgumentException( "The maximum size must be positive but was: " + aMaximumSize );
+        }
+        maximumSize = aMaximumSize;
+        policy = requireNonNull( aPolicy );
+        timeToLiveMillis = aTimeToLive == null ? Long.MAX_VALUE : aTimeToLive.toMillis();
+        clock = requireNonNull( aClock );
+        entries = new LinkedHashMap<>( 16, 0.75f, aPolicy != EvictionPolicy.TIME_TO_LIVE );
+        sketch = aPolicy == EvictionPolicy.FREQUENCY ? new FrequencySketch( aMaximumSize ) : null;
+    }
+
+    private BoundedSystemRegistry( BoundedSystemRegistry< T > aOther ) {
+        maximumSize = aOther.maximumSize;
+        policy = aOther.policy;
+        timeToLiveMillis = aOther.timeToLiveMillis;
+        clock = aOther.clock;
+        entries = new LinkedHashMap<>( 16, 0.75f, policy != EvictionPolicy.TIME_TO_LIVE );
+        entries.putAll( aOther.entries );
+        sketch = aOther.sketch == null ? null : aOther.sketch.copy();
+    }
+
+    /**
+     * Creates a registry evicting the least recently used elements.
+     *
+     * @param aMaximumSize
+     *         the maximum number of elements
+     * @return the registry
+     */
+    public static < T > BoundedSystemRegistry< T > leastRecentlyUsed( int aMaximumSize ) {
+        return new BoundedSystemRegistry<>( aMaximumSize, EvictionPolicy.LEAST_RECENTLY_USED, null, Clock.systemUTC() );
+    }
+
+    /**
+     * Creates a registry admitting and evicting the elements according to their estimated access frequency.
+     *
+     * @param aMaximumSize
+     *         the maximum number of elements
+     * @return the registry
+     */
+    public static < T > BoundedSystemRegistry< T > frequencyBased( int aMaximumSize ) {
+        return new BoundedSystemRegistry<>( aMaximumSize, EvictionPolicy.FREQUENCY, null, Clock.systemUTC() );
+    }
+
+    /**
+     * Creates a registry expiring the elements once the given time has passed since their addition.
+     *
+     * @param aMaximumSize
+     *         the maximum number of elements
+     * @param aTimeToLive
+     *         the time to live of the elements
+     * @return the registry
+     */
+    public static < T > BoundedSystemRegistry< T > timeToLive( int aMaximumSize, @NonNull Duration aTimeToLive ) {
+        return timeToLive( aMaximumSize, aTimeToLive, Clock.systemUTC() );
+    }
+
+    /**
+     * Creates a registry expiring the elements once the given time, measured with the given clock, has passed since
+     * their addition.
+     *
+     * @param aMaximumSize
+     *         the maximum number of elements
+     * @param aTimeToLive
+     *         the time to live of the elements, of at least one millisecond, which is the resolution of the clock
+     * @param aClock
+     *         the clock used to measure the time
+     * @return the registry
+     * @throws IllegalArgumentException
+     *         if the time to live is shorter than one millisecond
+     */
+    public static < T > BoundedSystemRegistry< T > timeToLive( int aMaximumSize, @NonNull Duration aTimeToLive, @NonNull Clock aClock ) {
+        requireNonNull( aTimeToLive );
+        if ( aTimeToLive.compareTo( Duration.ofMillis( 1 ) ) < 0 ) {
+            throw new IllegalArgumentException( "The time to live must be at least one millisecond but was: " + aTimeToLive );
+        }
+        return new BoundedSystemRegistry<>( aMaximumSize, EvictionPolicy.TIME_TO_LIVE, aTimeToLive, aClock );
+    }
+
+    /**
+     * Registers a listener notified about the evicted and expired elements.
+     *
+     * @param aListener
+     *         the listener to register
+     */
+    public void addEvictionListener( @NonNull EvictionListener< ? super T > aListener ) {
+        listeners.add( requireNonNull( aListener ) );
+    }
+
+    /**
+     * Unregisters a previously registered listener.
+     *
+     * @param aListener
+     *         the listener to unregister
+     */
+    public void removeEvictionListener( @NonNull EvictionListener< ? super T > aListener ) {
+        listeners.remove( requireNonNull( aListener ) );
+    }
+
+    /**
+     * Returns the maximum number of elements of the registry.
+     *
+     * @return the maximum size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the eviction policy of the registry.
+     *
+     * @return the eviction policy
+     */
+    public EvictionPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Removes the expired elements. Useful with {@link EvictionPolicy#TIME_TO_LIVE} only.
+     */
+    public void cleanUp() {
+        List< Eviction< T > > evictions = new ArrayList<>();
+        lock.lock();
+        try {
+            expire( evictions );
+        } finally {
+            lock.unlock();
+        }
+        notifyListeners( evictions );
+    }
+
+    /**
+     * Schedules a periodic removal of the expired elements on the given executor, so that they are reclaimed even if
+     * the registry is not being used.
+     *
+     * @param aExecutor
+     *         the executor to schedule the clean-up on
+     * @param aPeriod
+     *         the period of the clean-up
+     * @return the future of the scheduled task, which may be used to cancel it
+     */
+    public ScheduledFuture< ? > scheduleCleanUp( @NonNull ScheduledExecutorService aExecutor, @NonNull Duration aPeriod ) {
+        requireNonNull( aExecutor );
+        long period = requireNonNull( aPeriod ).toMillis();
+        return aExecutor.scheduleAtFixedRate( this::cleanUp, period, period, TimeUnit.MILLISECONDS );
+    }
+
+    /**
+     * Adds the specified objects to the collecting system registry.
+     *
+     * @param aObjects
+     *         the objects to be added to the collecting system registry
+     */
+    @SafeVarargs
+    @Override
+    public final void add( @NonNull T... aObjects ) {
+        requireNonNull( aObjects );
+        add( Arrays.asList( aObjects ) );
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry under a single lock acquisition.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     */
+    @Override
+    public void add( @NonNull Collection< T > aObjects ) {
+        addAll( aObjects );
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry under a single lock acquisition.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     * @return the number of objects admitted into the registry which were not present in it before
+     */
+    @Override
+    public int addAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        List< Eviction< T > > evictions = new ArrayList<>();
+        int added = 0;
+        lock.lock();
+        try {
+            expire( evictions );
+            for ( T object : aObjects ) {
+                if ( insert( requireNonNull( object ), evictions ) ) {
+                    added++;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        notifyListeners( evictions );
+        return added;
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     */
+    @Override
+    public void remove( @NonNull Collection< T > aObjects ) {
+        removeAll( aObjects );
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry under a single lock acquisition.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     * @return the number of objects which were present in the registry before
+     */
+    @Override
+    public int removeAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        int removed = 0;
+        lock.lock();
+        try {
+            for ( T object : aObjects ) {
+                if ( entries.remove( object ) != null ) {
+                    removed++;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry satisfying the specified predicate under a single
+     * lock acquisition. The expired elements are reported to the listeners rather than tested.
+     *
+     * @param aFilter
+     *         the predicate selecting the elements to be removed
+     * @return the number of removed elements
+     */
+    @Override
+    public int removeIf( @NonNull Predicate< ? super T > aFilter ) {
+        requireNonNull( aFilter );
+        List< Eviction< T > > evictions = new ArrayList<>( 0 );
+        int removed;
+        lock.lock();
+        try {
+            expire( evictions );
+            int sizeBefore = entries.size();
+            entries.keySet().removeIf( aFilter );
+            removed = sizeBefore - entries.size();
+        } finally {
+            lock.unlock();
+        }
+        notifyListeners( evictions );
+        return removed;
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry which are not contained in the specified collection,
+     * under a single lock acquisition.
+     *
+     * @param aObjects
+     *         the collection of objects to be retained in the collecting system registry
+     * @return the number of removed elements
+     */
+    @Override
+    public int retainAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        Collection< ? > retained = aObjects instanceof Set ? aObjects : new HashSet<>( aObjects );
+        return removeIf( element -> !retained.contains( element ) );
+    }
+
+    /**
+     * Checks if all the specified objects are present in the collecting system registry under a single lock
+     * acquisition. Unlike {@link #contains(Object)}, the check does not update the recency nor the frequency of the
+     * objects.
+     *
+     * @param aObjects
+     *         the objects to be checked
+     * @return {@code true} if all the objects are present in the registry, {@code false} otherwise
+     */
+    @Override
+    public boolean containsAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        List< Eviction< T > > evictions = new ArrayList<>( 0 );
+        boolean contains;
+        lock.lock();
+        try {
+            expire( evictions );
+            contains = entries.keySet().containsAll( aObjects );
+        } finally {
+            lock.unlock();
+        }
+        notifyListeners( evictions );
+        return contains;
+    }
+
+    /**
+     * Checks if the specified object is present in the collecting system registry. With the access-ordered policies,
+     * a successful lookup marks the object as recently used.
+     *
+     * @param aObject
+     *         the object to be checked
+     * @return {@code true} if the object is present in the registry, {@code false} otherwise
+     */
+    @Override
+    public boolean contains( @NonNull T aObject ) {
+        requireNonNull( aObject );
+        List< Eviction< T > > evictions = new ArrayList<>( 0 );
+        boolean contains;
+        lock.lock();
+        try {
+            expire( evictions );
+            if ( sketch != null ) {
+                sketch.increment( aObject );
+            }
+            contains = entries.get( aObject ) != null;
+        } finally {
+            lock.unlock();
+        }
+        notifyListeners( evictions );
+        return contains;
+    }
+
+    /**
+     * Returns the number of elements currently stored in the registry, not counting the expired ones.
+     *
+     * @return the total number of elements in the registry
+     */
+    @Override
+    public int size() {
+        List< Eviction< T > > evictions = new ArrayList<>( 0 );
+        int size;
+        lock.lock();
+        try {
+            expire( evictions );
+            size = entries.size();
+        } finally {
+            lock.unlock();
+        }
+        notifyListeners( evictions );
+        return size;
+    }
+
+    /**
+     * Returns a copy of all elements currently stored in the registry, ordered from the first to be evicted.
+     *
+     * @return an {@code Iterable} containing all elements in the registry
+     */
+    @Override
+    public Iterable< T > values() {
+        return snapshot();
+    }
+
+    /**
+     * Returns a sequential {@code Stream} over a copy of all elements currently stored in the registry.
+     *
+     * @return a {@code Stream} containing all elements in the registry
+     */
+    @Override
+    public Stream< T > stream() {
+        return snapshot().stream();
+    }
+
+    /**
+     * Adds the specified object to the system registry.
+     *
+     * @param aObject
+     *         the object to be added to the system registry
+     */
+    @Override
+    public void add( @NonNull T aObject ) {
+        requireNonNull( aObject );
+        add( List.of( aObject ) );
+    }
+
+    /**
+     * Removes all elements from the system registry. The removed elements are not reported to the listeners.
+     */
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the registry is empty.
+     *
+     * @return {@code true} if the registry contains no elements, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Creates and returns an independent copy of this {@code SystemRegistry} instance with the same configuration and
+     * contents. The listeners are not copied.
+     *
+     * @return a clone of this {@code SystemRegistry} instance
+     */
+    @Override
+    public SystemRegistry< T > clone() {
+        lock.lock();
+        try {
+            return new BoundedSystemRegistry<>( this );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List< T > snapshot() {
+        List< Eviction< T > > evictions = new ArrayList<>( 0 );
+        List< T > snapshot;
+        lock.lock();
+        try {
+            expire( evictions );
+            snapshot = new ArrayList<>( entries.keySet() );
+        } finally {
+            lock.unlock();
+        }
+        notifyListeners( evictions );
+        return snapshot;
+    }
+
+    private boolean insert( T aObject, List< Eviction< T > > aEvictions ) {
+        if ( sketch != null ) {
+            sketch.increment( aObject );
+        }
+        boolean present;
+        if ( policy == EvictionPolicy.TIME_TO_LIVE ) {
+            // Re-adding an element renews its time to live and moves it to the end of the expiry order.
+            present = entries.remove( aObject ) != null;
+        } else if ( entries.get( aObject ) != null ) {
+            return false;
+        } else {
+            present = false;
+        }
+        if ( entries.size() >= maximumSize ) {
+            Iterator< Map.Entry< T, Long > > iterator = entries.entrySet().iterator();
+            T victim = iterator.next().getKey();
+            if ( sketch != null && sketch.frequency( aObject ) <= sketch.frequency( victim ) ) {
+                aEvictions.add( new Eviction<>( aObject, EvictionCause.SIZE ) );
+                return false;
+            }
+            iterator.remove();
+            aEvictions.add( new Eviction<>( victim, EvictionCause.SIZE ) );
+        }
+        entries.put( aObject, clock.millis() );
+        return !present;
+    }
+
+    private void expire( List< Eviction< T > > aEvictions ) {
+        if ( policy != EvictionPolicy.TIME_TO_LIVE || entries.isEmpty() ) {
+            return;
+        }
+        long now = clock.millis();
+        Iterator< Map.Entry< T, Long > > iterator = entries.entrySet().iterator();
+        while ( iterator.hasNext() ) {
+            Map.Entry< T, Long > entry = iterator.next();
+            if ( now - entry.getValue() < timeToLiveMillis ) {
+                return;
+            }
+            iterator.remove();
+            aEvictions.add( new Eviction<>( entry.getKey(), EvictionCause.EXPIRED ) );
+        }
+    }
+
+    private void notifyListeners( List< Eviction< T > > aEvictions ) {
+        for ( Eviction< T > eviction : aEvictions ) {
+            for ( EvictionListener< ? super T > listener : listeners ) {
+                try {
+                    listener.onEviction( eviction.element, eviction.cause );
+                } catch ( RuntimeException aE ) {
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException( thread, aE );
+                }
+            }
+        }
+    }
+
+    /**
+     * A policy deciding which elements are evicted from a full {@link BoundedSystemRegistry}.
+     */
+    public enum EvictionPolicy {
+
+        /**
+         * Evicts the least recently added or looked up element.
+         */
+        LEAST_RECENTLY_USED,
+
+        /**
+         * Admits a new element only if it is estimated to be accessed more frequently than the least recently used one.
+         */
+        FREQUENCY,
+
+        /**
+         * Expires the elements after a fixed time since their addition and evicts the oldest ones.
+         */
+        TIME_TO_LIVE
+    }
+
+    /**
+     * A reason of an element leaving a {@link BoundedSystemRegistry} without being removed explicitly.
+     */
+    public enum EvictionCause {
+
+        /**
+         * The element has been evicted, or not admitted, because the registry was full.
+         */
+        SIZE,
+
+        /**
+         * The time to live of the element has passed.
+         */
+        EXPIRED
+    }
+
+    /**
+     * A listener notified about the elements evicted from a {@link BoundedSystemRegistry}.
+     *
+     * @param <T>
+     *         the type of the elements
+     */
+    @FunctionalInterface
+    public interface EvictionListener< T > {
+
+        /**
+         * Called after the element has been evicted.
+         *
+         * @param aElement
+         *         the evicted element
+         * @param aCause
+         *         the cause of the eviction
+         */
+        void onEviction( T aElement, EvictionCause aCause );
+    }
+
+    private static final class Eviction< T > {
+
+        private final T element;
+        private final EvictionCause cause;
+
+        Eviction( T aElement, EvictionCause aCause ) {
+            element = aElement;
+            cause = aCause;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import com.github.pplociennik.commons.system.registry.CollectingSystemRegistry;
+import com.github.pplociennik.commons.system.registry.SystemRegistry;
+import org.springframework.lang.NonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A lock-free, thread-safe implementation of {@link CollectingSystemRegistry} backed by a concurrent key set
+ * created with {@link ConcurrentHashMap#newKeySet()}.
+ * <p>
+ * Contrary to {@link SynchronizedHashSetBasedSystemRegistry}, no operation of this registry acquires a monitor.
+ * Lookups ({@code contains}, {@code size}, {@code isEmpty}) never block, and modifying operations only contend
+ * on the bins of the underlying table they actually touch, so the registry scales with the number of writing threads.
+ * <p>
+ * Iteration through {@link #values()} and {@link #stream()} is weakly consistent: it reflects the state of the registry
+ * at some point at or since the creation of the iterator, never throws {@link java.util.ConcurrentModificationException}
+ * and may or may not reflect modifications performed during the traversal. Bulk operations are not atomic.
+ *
+ * @param <T>
+ *         the type of elements maintained by this registry
+ * @author Created by: Pplociennik at 17.10.2026 10:12
+ */
+public final class ConcurrentSystemRegistry< T > implements CollectingSystemRegistry< T > {
+
+    /**
+     * A concurrent set used to hold the values stored in the registry.
+     * The set is a view of a {@code ConcurrentHashMap}, which provides lock-free reads and fine-grained locking
+     * on writes.
+     */
+    private final Set< T > values;
+
+    /**
+     * Creates an empty registry.
+     */
+    public ConcurrentSystemRegistry() {
+        this.values = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Creates an empty registry with the table presized for the expected number of elements.
+     *
+     * @param aExpectedSize
+     *         the expected number of elements stored in the registry
+     */
+    public ConcurrentSystemRegistry( int aExpectedSize ) {
+        this.values = ConcurrentHashMap.newKeySet( aExpectedSize );
+    }
+
+    /**
+     * Creates a registry containing a copy of the specified elements.
+     *
+     * @param aObjects
+     *         the elements to be copied into the registry
+     */
+    public ConcurrentSystemRegistry( @NonNull Collection< T > aObjects ) {
+        requireNonNull( aObjects );
+        this.values = ConcurrentHashMap.newKeySet( aObjects.size() );
+        this.values.addAll( aObjects );
+    }
+
+    /**
+     * Adds the specified objects to the collecting system registry.
+     *
+     * @param aObjects
+     *         the objects to be added to the collecting system registry
+     */
+    @SafeVarargs
+    @Override
+    public final void add( @NonNull T... aObjects ) {
+        requireNonNull( aObjects );
+        values.addAll( Arrays.asList( aObjects ) );
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     */
+    @Override
+    public void add( @NonNull Collection< T > aObjects ) {
+        requireNonNull( aObjects );
+        values.addAll( aObjects );
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     */
+    @Override
+    public void remove( @NonNull Collection< T > aObjects ) {
+        requireNonNull( aObjects );
+        aObjects.forEach( values::remove );
+    }
+
+    /**
+     * Checks if the specified object is present in the collecting system registry.
+     *
+     * @param aObject
+     *         the object to be checked
+     * @return {@code true} if the object is present in the registry, {@code false} otherwise
+     */
+    @Override
+    public boolean contains( @NonNull T aObject ) {
+        requireNonNull( aObject );
+        return values.contains( aObject );
+    }
+
+    /**
+     * Returns the number of elements currently stored in the registry.
+     * The value is an estimate if the registry is being modified concurrently.
+     *
+     * @return the total number of elements in the registry
+     */
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Returns a weakly consistent, unmodifiable view of all elements currently stored in the registry.
+     *
+     * @return an {@code Iterable} containing all elements in the registry
+     */
+    @Override
+    public Iterable< T > values() {
+        return Collections.unmodifiableSet( values );
+    }
+
+    /**
+     * Returns a sequential {@code Stream} containing all elements currently stored in the registry.
+     * The stream is weakly consistent and never throws {@link java.util.ConcurrentModificationException}.
+     *
+     * @return a {@code Stream} containing all elements in the registry
+     */
+    @Override
+    public Stream< T > stream() {
+        return values.stream();
+    }
+
+    /**
+     * Adds the specified object to the system registry.
+     *
+     * @param aObject
+     *         the object to be added to the system registry
+     */
+    @Override
+    public void add( @NonNull T aObject ) {
+        requireNonNull( aObject );
+        values.add( aObject );
+    }
+
+    /**
+     * Removes all elements from the system registry.
+     * Elements added concurrently with the invocation may be retained.
+     */
+    @Override
+    public void clear() {
+        values.clear();
+    }
+
+    /**
+     * Checks if the registry is empty.
+     *
+     * @return {@code true} if the registry contains no elements, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    /**
+     * Creates and returns an independent copy of this {@code SystemRegistry} instance containing
+     * the elements present in the registry at the time of the copy.
+     *
+     * @return a clone of this {@code SystemRegistry} instance
+     */
+    @Override
+    public SystemRegistry< T > clone() {
+        return new ConcurrentSystemRegistry<>( values );
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry. The batch is not atomic, but the
+     * returned count is exact even under concurrent modification.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     * @return the number of objects which were not present in the registry before
+     */
+    @Override
+    public int addAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        int added = 0;
+        for ( T object : aObjects ) {
+            if ( values.add( requireNonNull( object ) ) ) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Adds the objects of the specified stream to the collecting system registry, without collecting them first.
+     * The stream may be parallel.
+     *
+     * @param aObjects
+     *         the stream of objects to be added to the collecting system registry
+     * @return the number of objects which were not present in the registry before
+     */
+    @Override
+    public int addAll( @NonNull Stream< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        return ( int ) aObjects.filter( object -> values.add( requireNonNull( object ) ) ).count();
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry. The batch is not atomic, but the
+     * returned count is exact even under concurrent modification.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     * @return the number of objects which were present in the registry before
+     */
+    @Override
+    public int removeAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        int removed = 0;
+        for ( T object : aObjects ) {
+            if ( values.remove( requireNonNull( object ) ) ) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry satisfying the specified predicate, in a single weakly
+     * consistent traversal.
+     *
+     * @param aFilter
+     *         the predicate selecting the elements to be removed
+     * @return the number of removed elements
+     */
+    @Override
+    public int removeIf( @NonNull Predicate< ? super T > aFilter ) {
+        requireNonNull( aFilter );
+        int removed = 0;
+        for ( T element : values ) {
+            if ( aFilter.test( element ) && values.remove( element ) ) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry which are not contained in the specified collection,
+     * in a single weakly consistent traversal.
+     *
+     * @param aObjects
+     *         the collection of objects to be retained in the collecting system registry
+     * @return the number of removed elements
+     */
+    @Override
+    public int retainAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        Collection< ? > retained = aObjects instanceof Set ? aObjects : new HashSet<>( aObjects );
+        return removeIf( element -> !retained.contains( element ) );
+    }
+}
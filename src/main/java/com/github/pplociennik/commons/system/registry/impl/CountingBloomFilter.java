@@ -0,0 +1,155 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A counting Bloom filter over the hash codes of objects, using one 8-bit saturating counter per position.
+ * <p>
+ * Counters are read with acquire semantics, so the filter may be queried concurrently with a single writer.
+ * Modifications must be serialized by the caller. A counter which reached its maximum value is never decremented
+ * again, as its exact count is unknown; such counters may only be reset with {@link #clear()}.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 14:27
+ */
+final class CountingBloomFilter {
+
+    private static final VarHandle COUNTERS = MethodHandles.arrayElementVarHandle( byte[].class );
+    private static final int SATURATED = 0xFF;
+    private static final int MAX_HASH_FUNCTIONS = 16;
+
+    private final byte[] counters;
+    private final int hashFunctions;
+
+    /**
+     * Creates a filter sized for the expected number of elements and the desired false positive probability.
+     *
+     * @param aExpectedInsertions
+     *         the expected number of elements
+     * @param aFalsePositiveProbability
+     *         the desired false positive probability, exclusive between 0 and 1
+     */
+    CountingBloomFilter( int aExpectedInsertions, double aFalsePositiveProbability ) {
+        if ( aExpectedInsertions <= 0 ) {
+            throw new IllegalArgumentException( "The expected number of insertions must be positive but was: " + aExpectedInsertions );
+        }
+        if ( !( aFalsePositiveProbability > 0 && aFalsePositiveProbability < 1 ) ) {
+            throw new IllegalArgumentException( "The false positive probability must be between 0 and 1 but was: " + aFalsePositiveProbability );
+        }
+        double bits = -aExpectedInsertions * Math.log( aFalsePositiveProbability ) / ( Math.log( 2 ) * Math.log( 2 ) );
+        int size = ( int ) Math.min( Integer.MAX_VALUE - 8, Math.max( 64, Math.ceil( bits ) ) );
+        this.counters = new byte[ size ];
+        // The optimal count, bits / n * ln 2, reduces to -log2(p); deriving it from the clamped size would inflate it for small n.
+        int optimal = ( int ) Math.ceil( -Math.log( aFalsePositiveProbability ) / Math.log( 2 ) );
+        this.hashFunctions = Math.min( MAX_HASH_FUNCTIONS, Math.max( 1, optimal ) );
+    }
+
+    private CountingBloomFilter( byte[] aCounters, int aHashFunctions ) {
+        this.counters = aCounters;
+        this.hashFunctions = aHashFunctions;
+    }
+
+    /**
+     * Records an object in the filter.
+     */
+    void add( Object aObject ) {
+        int hash1 = firstHash( aObject );
+        int hash2 = secondHash( hash1 );
+        for ( int i = 0; i < hashFunctions; i++ ) {
+            int index = position( hash1, hash2, i );
+            int counter = counter( index );
+            if ( counter < SATURATED ) {
+                COUNTERS.setRelease( counters, index, ( byte ) ( counter + 1 ) );
+            }
+        }
+    }
+
+    /**
+     * Removes a previously recorded object from the filter. Must not be called for objects which were not recorded.
+     */
+    void remove( Object aObject ) {
+        int hash1 = firstHash( aObject );
+        int hash2 = secondHash( hash1 );
+        for ( int i = 0; i < hashFunctions; i++ ) {
+            int index = position( hash1, hash2, i );
+            int counter = counter( index );
+            if ( counter > 0 && counter < SATURATED ) {
+                COUNTERS.setRelease( counters, index, ( byte ) ( counter - 1 ) );
+            }
+        }
+    }
+
+    /**
+     * Returns {@code false} if the object has definitely not been recorded, {@code true} if it might have been.
+     */
+    boolean mightContain( Object aObject ) {
+        int hash1 = firstHash( aObject );
+        int hash2 = secondHash( hash1 );
+        for ( int i = 0; i < hashFunctions; i++ ) {
+            if ( counter( position( hash1, hash2, i ) ) == 0 ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resets all the counters.
+     */
+    void clear() {
+        for ( int i = 0; i < counters.length; i++ ) {
+            COUNTERS.setRelease( counters, i, ( byte ) 0 );
+        }
+    }
+
+    /**
+     * Returns the expected false positive probability of the filter holding the given number of elements.
+     */
+    double expectedFalsePositiveProbability( long aElements ) {
+        return Math.pow( 1 - Math.exp( -hashFunctions * ( double ) aElements / counters.length ), hashFunctions );
+    }
+
+    /**
+     * Returns the number of counters of the filter.
+     */
+    int size() {
+        return counters.length;
+    }
+
+    /**
+     * Returns the number of hash functions of the filter.
+     */
+    int hashFunctions() {
+        return hashFunctions;
+    }
+
+    /**
+     * Returns an independent copy of the filter.
+     */
+    CountingBloomFilter copy() {
+        return new CountingBloomFilter( counters.clone(), hashFunctions );
+    }
+
+    private int counter( int aIndex ) {
+        return ( byte ) COUNTERS.getAcquire( counters, aIndex ) & 0xFF;
+    }
+
+    private int position( int aHash1, int aHash2, int aFunction ) {
+        return Math.floorMod( aHash1 + aFunction * aHash2, counters.length );
+    }
+
+    private static int firstHash( Object aObject ) {
+        int hash = aObject.hashCode() * 0x9E3779B9;
+        return hash ^ ( hash >>> 16 );
+    }
+
+    private static int secondHash( int aHash ) {
+        int hash = aHash;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash | 1;
+    }
+}
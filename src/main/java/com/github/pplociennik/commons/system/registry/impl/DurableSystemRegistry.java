@@ -0,0 +1,259 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import com.github.pplociennik.commons.system.registry.CollectingSystemRegistry;
+import com.github.pplociennik.commons.system.registry.SystemRegistry;
+import org.springframework.lang.NonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A decorator of {@link CollectingSystemRegistry} persisting its contents in a {@link MappedRegistryStore}.
+ * <p>
+ * On creation, the contents of the store are loaded into the decorated registry. Every subsequent modification is
+ * applied to the decorated registry and appended to the change log of the store, in the same order, so that after a
+ * restart the registry is restored by mapping the last snapshot and replaying the log instead of being rebuilt from its
+ * original source. {@link #checkpoint()} replaces the snapshot with the current contents and resets the log, which
+ * bounds the replay time; it may be called explicitly, e.g. after large batches of changes, and is called automatically
+ * by the modification which makes the log reach the checkpoint threshold, so that the log never fills up.
+ * <p>
+ * The modifications are serialized by a lock of the decorator, the reads are passed directly to the decorated registry.
+ *
+ * @param <T>
+ *         the type of elements maintained by this registry
+ * @author Created by: Pplociennik at 17.10.2026 21:06
+ */
+public final class DurableSystemRegistry< T > implements CollectingSystemRegistry< T >, AutoCloseable {
+
+    /**
+     * The default size of the change log, in bytes, at which a checkpoint is taken automatically.
+     */
+    public static final long DEFAULT_CHECKPOINT_THRESHOLD = 256L << 20;
+
+    private final CollectingSystemRegistry< T > delegate;
+    private final MappedRegistryStore< T > store;
+    private final long checkpointThreshold;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Creates a decorator persisting the delegate registry in the given store, loading the stored contents into the
+     * delegate first. A checkpoint is taken automatically once the change log reaches
+     * {@link #DEFAULT_CHECKPOINT_THRESHOLD}.
+     *
+     * @param aDelegate
+     *         the decorated registry, usually an empty one
+     * @param aStore
+     *         the store of the contents
+     */
+    public DurableSystemRegistry( @NonNull CollectingSystemRegistry< T > aDelegate, @NonNull MappedRegistryStore< T > aStore ) {
+        this( aDelegate, aStore, DEFAULT_CHECKPOINT_THRESHOLD );
+    }
+
+    /**
+     * Creates a decorator persisting the delegate registry in the given store, loading the stored contents into the
+     * delegate first.
+     *
+     * @param aDelegate
+     *         the decorated registry, usually an empty one
+     * @param aStore
+     *         the store of the contents
+     * @param aCheckpointThreshold
+     *         the size of the change log, in bytes, at which a checkpoint is taken automatically
+     * @throws IllegalArgumentException
+     *         if the threshold is not positive or exceeds the maximum size of the change log
+     */
+    public DurableSystemRegistry( @NonNull CollectingSystemRegistry< T > aDelegate, @NonNull MappedRegistryStore< T > aStore,
+                                  long aCheckpointThreshold ) {
+        if ( aCheckpointThreshold <= 0 || aCheckpointThreshold > Integer.MAX_VALUE ) {
+            throw new IllegalArgumentException( "The checkpoint threshold must be positive and fit the change log but was: " + aCheckpointThreshold );
+        }
+        delegate = requireNonNull( aDelegate );
+        store = requireNonNull( aStore );
+        checkpointThreshold = aCheckpointThreshold;
+        store.load( delegate );
+    }
+
+    /**
+     * Replaces the snapshot of the store with the current contents of the registry and resets the change log.
+     */
+    public void checkpoint() {
+        lock.lock();
+        try {
+            store.snapshot( delegate );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Flushes the logged changes to the storage device.
+     */
+    public void force() {
+        store.force();
+    }
+
+    /**
+     * Closes the underlying store. The registry remains readable, but can no longer be modified.
+     */
+    @Override
+    public void close() {
+        store.close();
+    }
+
+    /**
+     * Takes a checkpoint if the change log has reached the threshold. Must be called while holding the lock.
+     */
+    private void checkpointIfNeeded() {
+        if ( store.getLogSize() >= checkpointThreshold ) {
+            store.snapshot( delegate );
+        }
+    }
+
+    /**
+     * Adds the specified objects to the collecting system registry, logging them as a single record.
+     *
+     * @param aObjects
+     *         the objects to be added to the collecting system registry
+     */
+    @SafeVarargs
+    @Override
+    public final void add( @NonNull T... aObjects ) {
+        requireNonNull( aObjects );
+        add( Arrays.asList( aObjects ) );
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry, logging them as a single record.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     */
+    @Override
+    public void add( @NonNull Collection< T > aObjects ) {
+        requireNonNull( aObjects );
+        List< T > added = List.copyOf( aObjects );
+        lock.lock();
+        try {
+            store.logAdd( added );
+            delegate.add( added );
+            checkpointIfNeeded();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry, logging them as a single record.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     */
+    @Override
+    public void remove( @NonNull Collection< T > aObjects ) {
+        requireNonNull( aObjects );
+        List< T > removed = List.copyOf( aObjects );
+        lock.lock();
+        try {
+            store.logRemove( removed );
+            delegate.remove( removed );
+            checkpointIfNeeded();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the specified object is present in the collecting system registry.
+     *
+     * @param aObject
+     *         the object to be checked
+     * @return {@code true} if the object is present in the registry, {@code false} otherwise
+     */
+    @Override
+    public boolean contains( @NonNull T aObject ) {
+        return delegate.contains( aObject );
+    }
+
+    /**
+     * Returns the number of elements currently stored in the registry.
+     *
+     * @return the total number of elements in the registry
+     */
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     * Returns an iterable collection of all elements currently stored in the registry.
+     *
+     * @return an {@code Iterable} containing all elements in the registry
+     */
+    @Override
+    public Iterable< T > values() {
+        return delegate.values();
+    }
+
+    /**
+     * Returns a sequential {@code Stream} containing all elements currently stored in the registry.
+     *
+     * @return a {@code Stream} containing all elements in the registry
+     */
+    @Override
+    public Stream< T > stream() {
+        return delegate.stream();
+    }
+
+    /**
+     * Adds the specified object to the system registry.
+     *
+     * @param aObject
+     *         the object to be added to the system registry
+     */
+    @Override
+    public void add( @NonNull T aObject ) {
+        requireNonNull( aObject );
+        add( List.of( aObject ) );
+    }
+
+    /**
+     * Removes all elements from the system registry.
+     * After invoking this method, the registry will be empty.
+     */
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            store.logClear();
+            delegate.clear();
+            checkpointIfNeeded();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the registry is empty.
+     *
+     * @return {@code true} if the registry contains no elements, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    /**
+     * Creates and returns a clone of the decorated registry. The clone is not persisted.
+     *
+     * @return a clone of this {@code SystemRegistry} instance
+     */
+    @Override
+    public SystemRegistry< T > clone() {
+        return delegate.clone();
+    }
+}
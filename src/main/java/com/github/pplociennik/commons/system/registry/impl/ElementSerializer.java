@@ -0,0 +1,92 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import org.springframework.lang.NonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Converts the elements of a registry to and from their binary form, as stored by {@link MappedRegistryStore}.
+ *
+ * @param <T>
+ *         the type of the serialized elements
+ * @author Created by: Pplociennik at 17.10.2026 20:41
+ */
+public interface ElementSerializer< T > {
+
+    /**
+     * Converts the element to its binary form.
+     *
+     * @param aElement
+     *         the element to serialize
+     * @return the bytes representing the element
+     */
+    byte[] serialize( T aElement );
+
+    /**
+     * Reads an element from its binary form. The buffer contains exactly the bytes of one element, from its
+     * position to its limit, and may be a view of a memory-mapped file, so it must not be retained.
+     *
+     * @param aBuffer
+     *         the buffer holding the bytes of the element
+     * @return the deserialized element
+     */
+    T deserialize( ByteBuffer aBuffer );
+
+    /**
+     * Creates a serializer from a pair of functions.
+     *
+     * @param aSerializer
+     *         the function converting an element to bytes
+     * @param aDeserializer
+     *         the function reading an element from a buffer, see {@link #deserialize(ByteBuffer)}
+     * @return the serializer
+     */
+    static < T > ElementSerializer< T > of( @NonNull Function< ? super T, byte[] > aSerializer,
+                                           @NonNull Function< ByteBuffer, ? extends T > aDeserializer ) {
+        requireNonNull( aSerializer );
+        requireNonNull( aDeserializer );
+        return new ElementSerializer<>() {
+
+            @Override
+            public byte[] serialize( T aElement ) {
+                return aSerializer.apply( aElement );
+            }
+
+            @Override
+            public T deserialize( ByteBuffer aBuffer ) {
+                return aDeserializer.apply( aBuffer );
+            }
+        };
+    }
+
+    /**
+     * Returns a serializer of strings, encoded in UTF-8.
+     *
+     * @return the serializer
+     */
+    static ElementSerializer< String > strings() {
+        return of( element -> element.getBytes( StandardCharsets.UTF_8 ), buffer -> StandardCharsets.UTF_8.decode( buffer ).toString() );
+    }
+
+    /**
+     * Returns a serializer of integers, encoded in 4 bytes.
+     *
+     * @return the serializer
+     */
+    static ElementSerializer< Integer > integers() {
+        return of( element -> ByteBuffer.allocate( Integer.BYTES ).putInt( element ).array(), ByteBuffer::getInt );
+    }
+
+    /**
+     * Returns a serializer of longs, encoded in 8 bytes.
+     *
+     * @return the serializer
+     */
+    static ElementSerializer< Long > longs() {
+        return of( element -> ByteBuffer.allocate( Long.BYTES ).putLong( element ).array(), ByteBuffer::getLong );
+    }
+}
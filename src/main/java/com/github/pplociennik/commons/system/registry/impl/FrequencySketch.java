@@ -0,0 +1,93 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+/**
+ * A count-min sketch estimating the access frequency of objects with 4-bit counters, used for TinyLFU-style admission.
+ * <p>
+ * Each object is counted in four rows of the sketch and its estimate is the minimum of its four counters. Once the number
+ * of recorded accesses reaches the sample size, all the counters are halved, so the sketch favors recent popularity.
+ * Not thread-safe.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 16:20
+ */
+final class FrequencySketch {
+
+    private static final int ROWS = 4;
+    private static final int MAXIMUM_COUNT = 15;
+    private static final int[] SEEDS = { 0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F };
+
+    private final byte[][] counters;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * Creates a sketch sized for the given maximum number of tracked elements.
+     */
+    FrequencySketch( int aMaximumSize ) {
+        int width = Integer.highestOneBit( Math.max( 16, aMaximumSize ) - 1 ) << 1;
+        counters = new byte[ ROWS ][ width ];
+        mask = width - 1;
+        sampleSize = 10 * Math.max( 1, aMaximumSize );
+    }
+
+    private FrequencySketch( FrequencySketch aOther ) {
+        counters = new byte[ ROWS ][];
+        for ( int row = 0; row < ROWS; row++ ) {
+            counters[ row ] = aOther.counters[ row ].clone();
+        }
+        mask = aOther.mask;
+        sampleSize = aOther.sampleSize;
+        additions = aOther.additions;
+    }
+
+    /**
+     * Records an access to the object.
+     */
+    void increment( Object aObject ) {
+        int hash = aObject.hashCode();
+        boolean incremented = false;
+        for ( int row = 0; row < ROWS; row++ ) {
+            int index = index( hash, row );
+            if ( counters[ row ][ index ] < MAXIMUM_COUNT ) {
+                counters[ row ][ index ]++;
+                incremented = true;
+            }
+        }
+        if ( incremented && ++additions >= sampleSize ) {
+            reset();
+        }
+    }
+
+    /**
+     * Returns the estimated access frequency of the object.
+     */
+    int frequency( Object aObject ) {
+        int hash = aObject.hashCode();
+        int frequency = MAXIMUM_COUNT;
+        for ( int row = 0; row < ROWS; row++ ) {
+            frequency = Math.min( frequency, counters[ row ][ index( hash, row ) ] );
+        }
+        return frequency;
+    }
+
+    /**
+     * Returns an independent copy of the sketch.
+     */
+    FrequencySketch copy() {
+        return new FrequencySketch( this );
+    }
+
+    private void reset() {
+        for ( byte[] row : counters ) {
+            for ( int i = 0; i < row.length; i++ ) {
+                row[ i ] >>= 1;
+            }
+        }
+        additions /= 2;
+    }
+
+    private int index( int aHash, int aRow ) {
+        int hash = ( aHash + SEEDS[ aRow ] ) * SEEDS[ aRow ];
+        return ( hash ^ ( hash >>> 16 ) ) & mask;
+    }
+}
@@ -0,0 +1,361 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable, persistent set implemented as a hash array mapped trie (HAMT).
+ * <p>
+ * Every modification returns a new trie sharing all the unaffected nodes with the original one: only the nodes on the
+ * path from the root to the modified element are copied, which costs O(log32 n). Nodes are kept compact on removal,
+ * so the shape of the trie depends only on its contents. Instances are immutable and therefore thread-safe.
+ *
+ * @param <T>
+ *         the type of the elements
+ * @author Created by: Pplociennik at 17.10.2026 19:05
+ */
+final class HashArrayMappedTrie< T > implements Iterable< T > {
+
+    private static final int BITS = 5;
+    private static final int MASK = ( 1 << BITS ) - 1;
+
+    private static final HashArrayMappedTrie< ? > EMPTY = new HashArrayMappedTrie<>( new BitmapNode( 0, new Object[ 0 ] ), 0 );
+
+    private final BitmapNode root;
+    private final int size;
+
+    private HashArrayMappedTrie( BitmapNode aRoot, int aSize ) {
+        root = aRoot;
+        size = aSize;
+    }
+
+    /**
+     * Returns the empty trie.
+     */
+    @SuppressWarnings( "unchecked" )
+    static < T > HashArrayMappedTrie< T > empty() {
+        return ( HashArrayMappedTrie< T > ) EMPTY;
+    }
+
+    /**
+     * Returns the number of elements of the trie.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the trie contains the element.
+     */
+    boolean contains( Object aElement ) {
+        return root.contains( aElement, hash( aElement ), 0 );
+    }
+
+    /**
+     * Returns a trie containing the elements of this trie and the given element, or this trie if the element is
+     * already present.
+     */
+    HashArrayMappedTrie< T > plus( T aElement ) {
+        Node newRoot = root.insert( aElement, hash( aElement ), 0 );
+        return newRoot == root ? this : new HashArrayMappedTrie<>( ( BitmapNode ) newRoot, size + 1 );
+    }
+
+    /**
+     * Returns a trie containing the elements of this trie except for the given element, or this trie if the element
+     * is absent.
+     */
+    HashArrayMappedTrie< T > minus( Object aElement ) {
+        Node newRoot = root.remove( aElement, hash( aElement ), 0 );
+        if ( newRoot == root ) {
+            return this;
+        }
+        return newRoot == null ? empty() : new HashArrayMappedTrie<>( ( BitmapNode ) newRoot, size - 1 );
+    }
+
+    /**
+     * Returns an iterator over the elements of the trie.
+     */
+    @Override
+    public Iterator< T > iterator() {
+        return new TrieIterator<>( root );
+    }
+
+    private static int hash( Object aElement ) {
+        // Multiplication by an odd constant is a bijection, so only equal hash codes collide.
+        return aElement.hashCode() * 0x9E3779B9;
+    }
+
+    private static int bit( int aHash, int aShift ) {
+        return 1 << ( ( aHash >>> aShift ) & MASK );
+    }
+
+    /**
+     * Creates the smallest subtree holding two entries with different hashes. An entry is either an element or a
+     * collision node.
+     */
+    private static Node merge( Object aFirst, int aFirstHash, Object aSecond, int aSecondHash, int aShift ) {
+        int firstBit = bit( aFirstHash, aShift );
+        int secondBit = bit( aSecondHash, aShift );
+        if ( firstBit == secondBit ) {
+            return new BitmapNode( firstBit, new Object[] { merge( aFirst, aFirstHash, aSecond, aSecondHash, aShift + BITS ) } );
+        }
+        Object[] array = Integer.compareUnsigned( firstBit, secondBit ) < 0 ? new Object[] { aFirst, aSecond } : new Object[] { aSecond, aFirst };
+        return new BitmapNode( firstBit | secondBit, array );
+    }
+
+    /**
+     * A node of the trie.
+     */
+    private abstract static class Node {
+
+        abstract boolean contains( Object aElement, int aHash, int aShift );
+
+        /**
+         * Returns the node with the element inserted, or this node if the element is already present.
+         */
+        abstract Node insert( Object aElement, int aHash, int aShift );
+
+        /**
+         * Returns the node with the element removed, this node if the element is absent, or {@code null} if the node
+         * becomes empty.
+         */
+        abstract Node remove( Object aElement, int aHash, int aShift );
+
+        /**
+         * Returns the only element of the node if it has exactly one entry being an element, {@code null} otherwise.
+         */
+        abstract Object singleElement();
+
+        abstract Object[] entries();
+    }
+
+    /**
+     * An inner node mapping the 5-bit chunks of the hash present in the bitmap to compact array entries, each being
+     * either an element or a child node.
+     */
+    private static final class BitmapNode extends Node {
+
+        private final int bitmap;
+        private final Object[] array;
+
+        BitmapNode( int aBitmap, Object[] aArray ) {
+            bitmap = aBitmap;
+            array = aArray;
+        }
+
+        @Override
+        boolean contains( Object aElement, int aHash, int aShift ) {
+            int bit = bit( aHash, aShift );
+            if ( ( bitmap & bit ) == 0 ) {
+                return false;
+            }
+            Object entry = array[ index( bit ) ];
+            return entry instanceof Node ? ( ( Node ) entry ).contains( aElement, aHash, aShift + BITS ) : entry.equals( aElement );
+        }
+
+        @Override
+        Node insert( Object aElement, int aHash, int aShift ) {
+            int bit = bit( aHash, aShift );
+            int index = index( bit );
+            if ( ( bitmap & bit ) == 0 ) {
+                Object[] newArray = new Object[ array.length + 1 ];
+                System.arraycopy( array, 0, newArray, 0, index );
+                newArray[ index ] = aElement;
+                System.arraycopy( array, index, newArray, index + 1, array.length - index );
+                return new BitmapNode( bitmap | bit, newArray );
+            }
+            Object entry = array[ index ];
+            Object newEntry;
+            if ( entry instanceof Node ) {
+                newEntry = ( ( Node ) entry ).insert( aElement, aHash, aShift + BITS );
+                if ( newEntry == entry ) {
+                    return this;
+                }
+            } else {
+                if ( entry.equals( aElement ) ) {
+                    return this;
+                }
+                int entryHash = hash( entry );
+                newEntry = entryHash == aHash
+                        ? new CollisionNode( aHash, new Object[] { entry, aElement } )
+                        : merge( entry, entryHash, aElement, aHash, aShift + BITS );
+            }
+            return withEntry( index, newEntry );
+        }
+
+        @Override
+        Node remove( Object aElement, int aHash, int aShift ) {
+            int bit = bit( aHash, aShift );
+            if ( ( bitmap & bit ) == 0 ) {
+                return this;
+            }
+            int index = index( bit );
+            Object entry = array[ index ];
+            if ( entry instanceof Node ) {
+                Node child = ( Node ) entry;
+                Node newChild = child.remove( aElement, aHash, aShift + BITS );
+                if ( newChild == child ) {
+                    return this;
+                }
+                if ( newChild == null ) {
+                    return withoutEntry( bit, index );
+                }
+                Object single = newChild.singleElement();
+                return withEntry( index, single != null ? single : newChild );
+            }
+            return entry.equals( aElement ) ? withoutEntry( bit, index ) : this;
+        }
+
+        @Override
+        Object singleElement() {
+            return array.length == 1 && !( array[ 0 ] instanceof Node ) ? array[ 0 ] : null;
+        }
+
+        @Override
+        Object[] entries() {
+            return array;
+        }
+
+        private int index( int aBit ) {
+            return Integer.bitCount( bitmap & ( aBit - 1 ) );
+        }
+
+        private BitmapNode withEntry( int aIndex, Object aEntry ) {
+            Object[] newArray = array.clone();
+            newArray[ aIndex ] = aEntry;
+            return new BitmapNode( bitmap, newArray );
+        }
+
+        private BitmapNode withoutEntry( int aBit, int aIndex ) {
+            if ( array.length == 1 ) {
+                return null;
+            }
+            Object[] newArray = new Object[ array.length - 1 ];
+            System.arraycopy( array, 0, newArray, 0, aIndex );
+            System.arraycopy( array, aIndex + 1, newArray, aIndex, array.length - aIndex - 1 );
+            return new BitmapNode( bitmap & ~aBit, newArray );
+        }
+    }
+
+    /**
+     * A leaf node holding the elements with equal hashes.
+     */
+    private static final class CollisionNode extends Node {
+
+        private final int hash;
+        private final Object[] elements;
+
+        CollisionNode( int aHash, Object[] aElements ) {
+            hash = aHash;
+            elements = aElements;
+        }
+
+        @Override
+        boolean contains( Object aElement, int aHash, int aShift ) {
+            return aHash == hash && indexOf( aElement ) >= 0;
+        }
+
+        @Override
+        Node insert( Object aElement, int aHash, int aShift ) {
+            if ( aHash != hash ) {
+                return merge( this, hash, aElement, aHash, aShift );
+            }
+            if ( indexOf( aElement ) >= 0 ) {
+                return this;
+            }
+            Object[] newElements = Arrays.copyOf( elements, elements.length + 1 );
+            newElements[ elements.length ] = aElement;
+            return new CollisionNode( hash, newElements );
+        }
+
+        @Override
+        Node remove( Object aElement, int aHash, int aShift ) {
+            int index = aHash == hash ? indexOf( aElement ) : -1;
+            if ( index < 0 ) {
+                return this;
+            }
+            if ( elements.length == 2 ) {
+                return new BitmapNode( bit( hash, aShift ), new Object[] { elements[ 1 - index ] } );
+            }
+            Object[] newElements = new Object[ elements.length - 1 ];
+            System.arraycopy( elements, 0, newElements, 0, index );
+            System.arraycopy( elements, index + 1, newElements, index, elements.length - index - 1 );
+            return new CollisionNode( hash, newElements );
+        }
+
+        @Override
+        Object singleElement() {
+            return null;
+        }
+
+        @Override
+        Object[] entries() {
+            return elements;
+        }
+
+        private int indexOf( Object aElement ) {
+            for ( int i = 0; i < elements.length; i++ ) {
+                if ( elements[ i ].equals( aElement ) ) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * A depth-first iterator over the entries of the trie.
+     */
+    private static final class TrieIterator< T > implements Iterator< T > {
+
+        private final Deque< Object[] > arrays = new ArrayDeque<>();
+        private final Deque< Integer > positions = new ArrayDeque<>();
+        private Object next;
+
+        TrieIterator( Node aRoot ) {
+            arrays.push( aRoot.entries() );
+            positions.push( 0 );
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        @SuppressWarnings( "unchecked" )
+        public T next() {
+            if ( next == null ) {
+                throw new NoSuchElementException();
+            }
+            Object current = next;
+            advance();
+            return ( T ) current;
+        }
+
+        private void advance() {
+            next = null;
+            while ( !arrays.isEmpty() ) {
+                Object[] array = arrays.peek();
+                int position = positions.pop();
+                if ( position >= array.length ) {
+                    arrays.pop();
+                    continue;
+                }
+                positions.push( position + 1 );
+                Object entry = array[ position ];
+                if ( entry instanceof Node ) {
+                    arrays.push( ( ( Node ) entry ).entries() );
+                    positions.push( 0 );
+                } else {
+                    next = entry;
+                    return;
+                }
+            }
+        }
+    }
+}
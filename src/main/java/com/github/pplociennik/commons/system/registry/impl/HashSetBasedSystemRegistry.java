@@ -7,9 +7,11 @@ import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 import org.springframework.lang.NonNull;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
@@ -48,7 +50,7 @@ public final class HashSetBasedSystemRegistry< T > implements CollectingSystemRe
     @Override
     public final void add( @NonNull T... aObjects ) {
         requireNonNull( aObjects );
-        values.addAll( Set.of( aObjects ) );
+        values.addAll( Arrays.asList( aObjects ) );
     }
 
     /**
@@ -160,6 +162,101 @@ public final class HashSetBasedSystemRegistry< T > implements CollectingSystemRe
      */
     @Override
     public SystemRegistry< T > clone() {
-        return new HashSetBasedSystemRegistry<>( values );
+        return new HashSetBasedSystemRegistry<>( new HashSet<>( values ) );
+    }
+
+    /**
+     * Checks if all the specified objects are present in the collecting system registry.
+     *
+     * @param aObjects
+     *         the objects to be checked
+     * @return {@code true} if all the objects are present in the registry, {@code false} otherwise
+     */
+    @Override
+    public boolean containsAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        return values.containsAll( aObjects );
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     * @return the number of objects which were not present in the registry before
+     */
+    @Override
+    public int addAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        int added = 0;
+        for ( T object : aObjects ) {
+            if ( values.add( requireNonNull( object ) ) ) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Adds the objects of the specified stream to the collecting system registry, without collecting them first.
+     *
+     * @param aObjects
+     *         the stream of objects to be added to the collecting system registry
+     * @return the number of objects which were not present in the registry before
+     */
+    @Override
+    public int addAll( @NonNull Stream< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        int sizeBefore = values.size();
+        aObjects.forEachOrdered( object -> values.add( requireNonNull( object ) ) );
+        return values.size() - sizeBefore;
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     * @return the number of objects which were present in the registry before
+     */
+    @Override
+    public int removeAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        int removed = 0;
+        for ( T object : aObjects ) {
+            if ( values.remove( requireNonNull( object ) ) ) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry satisfying the specified predicate.
+     *
+     * @param aFilter
+     *         the predicate selecting the elements to be removed
+     * @return the number of removed elements
+     */
+    @Override
+    public int removeIf( @NonNull Predicate< ? super T > aFilter ) {
+        requireNonNull( aFilter );
+        int sizeBefore = values.size();
+        values.removeIf( aFilter );
+        return sizeBefore - values.size();
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry which are not contained in the specified collection.
+     *
+     * @param aObjects
+     *         the collection of objects to be retained in the collecting system registry
+     * @return the number of removed elements
+     */
+    @Override
+    public int retainAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        Collection< ? > retained = aObjects instanceof Set ? aObjects : new HashSet<>( aObjects );
+        return removeIf( element -> !retained.contains( element ) );
     }
 }
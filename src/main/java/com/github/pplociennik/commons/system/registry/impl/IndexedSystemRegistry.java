@@ -0,0 +1,568 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import com.github.pplociennik.commons.system.registry.CollectingSystemRegistry;
+import com.github.pplociennik.commons.system.registry.SystemRegistry;
+import org.springframework.lang.NonNull;
+
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A thread-safe implementation of {@link CollectingSystemRegistry} maintaining secondary indexes over its elements.
+ * <p>
+ * The indexes are declared up front with {@link IndexDefinition#unique(String, Function)} and
+ * {@link IndexDefinition#multiValued(String, Function)}, each one extracting a key from an element. They are maintained
+ * on every modification of the registry and allow looking the elements up by a key in O(1) with
+ * {@link #findBy(String, Object)} and {@link #findOneBy(String, Object)}, instead of scanning the whole registry.
+ * Elements for which an extractor returns {@code null} are not indexed by that index. The extracted keys must not change
+ * while the element is stored in the registry.
+ * <p>
+ * A unique index admits at most one element per key. An addition violating a unique index fails with
+ * an {@link IllegalStateException} and leaves the registry unchanged; bulk additions are validated as a whole
+ * before any element is added.
+ * <p>
+ * All the operations are guarded by a single read-write lock, so the elements and all the indexes are always observed
+ * in a mutually consistent state, also under concurrent writers.
+ *
+ * @param <T>
+ *         the type of elements maintained by this registry
+ * @author Created by: Pplociennik at 17.10.2026 15:36
+ */
+public final class IndexedSystemRegistry< T > implements CollectingSystemRegistry< T > {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set< T > values = new HashSet<>();
+    private final Map< String, Index< T > > indexes;
+
+    /**
+     * Creates an empty registry maintaining the specified indexes.
+     *
+     * @param aIndexes
+     *         the definitions of the indexes
+     * @throws IllegalArgumentException
+     *         if two indexes have the same name
+     */
+    @SafeVarargs
+    public IndexedSystemRegistry( @NonNull IndexDefinition< T, ? >... aIndexes ) {
+        this( Arrays.asList( requireNonNull( aIndexes ) ) );
+    }
+
+    /**
+     * Creates an empty registry maintaining the specified indexes.
+     *
+     * @param aIndexes
+     *         the definitions of the indexes
+     * @throws IllegalArgumentException
+     *         if two indexes have the same name
+     */
+    public IndexedSystemRegistry( @NonNull Collection< IndexDefinition< T, ? > > aIndexes ) {
+        requireNonNull( aIndexes );
+        Map< String, Index< T > > indexesByName = new HashMap<>();
+        for ( IndexDefinition< T, ? > definition : aIndexes ) {
+            requireNonNull( definition );
+            if ( indexesByName.putIfAbsent( definition.name, new Index<>( definition ) ) != null ) {
+                throw new IllegalArgumentException( "Duplicated index name: " + definition.name );
+            }
+        }
+        indexes = Map.copyOf( indexesByName );
+    }
+
+    /**
+     * Returns all the elements having the specified key in the specified index.
+     *
+     * @param aIndexName
+     *         the name of the index
+     * @param aKey
+     *         the key to look up
+     * @return an immutable set of the matching elements, empty if there are none
+     *
+     * @throws IllegalArgumentException
+     *         if there is no index with the specified name
+     */
+    public Set< T > findBy( @NonNull String aIndexName, @NonNull Object aKey ) {
+        requireNonNull( aKey );
+        Index< T > index = getIndex( aIndexName );
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return index.find( aKey );
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns any element having the specified key in the specified index. Intended for the unique indexes.
+     *
+     * @param aIndexName
+     *         the name of the index
+     * @param aKey
+     *         the key to look up
+     * @return the matching element, or an empty {@code Optional} if there is none
+     *
+     * @throws IllegalArgumentException
+     *         if there is no index with the specified name
+     */
+    public Optional< T > findOneBy( @NonNull String aIndexName, @NonNull Object aKey ) {
+        requireNonNull( aKey );
+        Index< T > index = getIndex( aIndexName );
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return index.findAny( aKey );
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Adds the specified objects to the collecting system registry.
+     *
+     * @param aObjects
+     *         the objects to be added to the collecting system registry
+     * @throws IllegalStateException
+     *         if the addition would violate a unique index
+     */
+    @SafeVarargs
+    @Override
+    public final void add( @NonNull T... aObjects ) {
+        requireNonNull( aObjects );
+        add( Arrays.asList( aObjects ) );
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry. Either all the objects are added or,
+     * if a unique index would be violated, none of them.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     * @throws IllegalStateException
+     *         if the addition would violate a unique index
+     */
+    @Override
+    public void add( @NonNull Collection< T > aObjects ) {
+        addAll( aObjects );
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry. The batch is applied atomically: if
+     * any of the objects violates a unique index, none of them is added.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     * @return the number of objects which were not present in the registry before
+     * @throws IllegalStateException
+     *         if the objects violate a unique index
+     */
+    @Override
+    public int addAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            List< T > added = new ArrayList<>( aObjects.size() );
+            Set< T > batch = new HashSet<>();
+            for ( T object : aObjects ) {
+                requireNonNull( object );
+                if ( !values.contains( object ) && batch.add( object ) ) {
+                    added.add( object );
+                }
+            }
+            for ( Index< T > index : indexes.values() ) {
+                index.verifyUnique( added );
+            }
+            for ( T object : added ) {
+                values.add( object );
+                indexes.values().forEach( index -> index.add( object ) );
+            }
+            return added.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     */
+    @Override
+    public void remove( @NonNull Collection< T > aObjects ) {
+        removeAll( aObjects );
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry and its indexes under a single
+     * lock acquisition.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     * @return the number of objects which were present in the registry before
+     */
+    @Override
+    public int removeAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            int removed = 0;
+            for ( T object : aObjects ) {
+                if ( removeIndexed( object ) ) {
+                    removed++;
+                }
+            }
+            return removed;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry satisfying the specified predicate from the registry
+     * and its indexes under a single lock acquisition.
+     *
+     * @param aFilter
+     *         the predicate selecting the elements to be removed
+     * @return the number of removed elements
+     */
+    @Override
+    public int removeIf( @NonNull Predicate< ? super T > aFilter ) {
+        requireNonNull( aFilter );
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            List< T > matching = new ArrayList<>();
+            for ( T element : values ) {
+                if ( aFilter.test( element ) ) {
+                    matching.add( element );
+                }
+            }
+            matching.forEach( this::removeIndexed );
+            return matching.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry which are not contained in the specified collection,
+     * under a single lock acquisition.
+     *
+     * @param aObjects
+     *         the collection of objects to be retained in the collecting system registry
+     * @return the number of removed elements
+     */
+    @Override
+    public int retainAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        Collection< ? > retained = aObjects instanceof Set ? aObjects : new HashSet<>( aObjects );
+        return removeIf( element -> !retained.contains( element ) );
+    }
+
+    /**
+     * Checks if all the specified objects are present in the collecting system registry under a single lock
+     * acquisition.
+     *
+     * @param aObjects
+     *         the objects to be checked
+     * @return {@code true} if all the objects are present in the registry, {@code false} otherwise
+     */
+    @Override
+    public boolean containsAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return values.containsAll( aObjects );
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the specified object is present in the collecting system registry.
+     *
+     * @param aObject
+     *         the object to be checked
+     * @return {@code true} if the object is present in the registry, {@code false} otherwise
+     */
+    @Override
+    public boolean contains( @NonNull T aObject ) {
+        requireNonNull( aObject );
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return values.contains( aObject );
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of elements currently stored in the registry.
+     *
+     * @return the total number of elements in the registry
+     */
+    @Override
+    public int size() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return values.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns a copy of all elements currently stored in the registry.
+     *
+     * @return an {@code Iterable} containing all elements in the registry
+     */
+    @Override
+    public Iterable< T > values() {
+        return snapshot();
+    }
+
+    /**
+     * Returns a sequential {@code Stream} over a copy of all elements currently stored in the registry.
+     *
+     * @return a {@code Stream} containing all elements in the registry
+     */
+    @Override
+    public Stream< T > stream() {
+        return snapshot().stream();
+    }
+
+    /**
+     * Adds the specified object to the system registry.
+     *
+     * @param aObject
+     *         the object to be added to the system registry
+     * @throws IllegalStateException
+     *         if the addition would violate a unique index
+     */
+    @Override
+    public void add( @NonNull T aObject ) {
+        requireNonNull( aObject );
+        add( List.of( aObject ) );
+    }
+
+    /**
+     * Removes all elements from the system registry and all its indexes.
+     */
+    @Override
+    public void clear() {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            values.clear();
+            indexes.values().forEach( Index::clear );
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the registry is empty.
+     *
+     * @return {@code true} if the registry contains no elements, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Creates and returns an independent copy of this {@code SystemRegistry} instance with the same indexes.
+     *
+     * @return a clone of this {@code SystemRegistry} instance
+     */
+    @Override
+    public SystemRegistry< T > clone() {
+        List< IndexDefinition< T, ? > > definitions = new ArrayList<>();
+        indexes.values().forEach( index -> definitions.add( index.definition ) );
+        IndexedSystemRegistry< T > copy = new IndexedSystemRegistry<>( definitions );
+        copy.add( snapshot() );
+        return copy;
+    }
+
+    private boolean removeIndexed( T aObject ) {
+        if ( !values.remove( aObject ) ) {
+            return false;
+        }
+        indexes.values().forEach( index -> index.remove( aObject ) );
+        return true;
+    }
+
+    private List< T > snapshot() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return new ArrayList<>( values );
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private Index< T > getIndex( String aIndexName ) {
+        requireNonNull( aIndexName );
+        Index< T > index = indexes.get( aIndexName );
+        if ( index == null ) {
+            throw new IllegalArgumentException( "No index with name: " + aIndexName );
+        }
+        return index;
+    }
+
+    /**
+     * A definition of a secondary index of an {@link IndexedSystemRegistry}.
+     *
+     * @param <T>
+     *         the type of the indexed elements
+     * @param <K>
+     *         the type of the index keys
+     */
+    public static final class IndexDefinition< T, K > {
+
+        private final String name;
+        private final Function< ? super T, ? extends K > keyExtractor;
+        private final boolean unique;
+
+        private IndexDefinition( String aName, Function< ? super T, ? extends K > aKeyExtractor, boolean aUnique ) {
+            name = requireNonNull( aName );
+            keyExtractor = requireNonNull( aKeyExtractor );
+            unique = aUnique;
+        }
+
+        /**
+         * Defines an index admitting at most one element per key.
+         *
+         * @param aName
+         *         the name of the index
+         * @param aKeyExtractor
+         *         the function extracting the key from an element
+         * @return the index definition
+         */
+        public static < T, K > IndexDefinition< T, K > unique( @NonNull String aName, @NonNull Function< ? super T, ? extends K > aKeyExtractor ) {
+            return new IndexDefinition<>( aName, aKeyExtractor, true );
+        }
+
+        /**
+         * Defines an index admitting any number of elements per key.
+         *
+         * @param aName
+         *         the name of the index
+         * @param aKeyExtractor
+         *         the function extracting the key from an element
+         * @return the index definition
+         */
+        public static < T, K > IndexDefinition< T, K > multiValued( @NonNull String aName, @NonNull Function< ? super T, ? extends K > aKeyExtractor ) {
+            return new IndexDefinition<>( aName, aKeyExtractor, false );
+        }
+
+        /**
+         * Returns the name of the index.
+         *
+         * @return the name of the index
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns whether the index admits at most one element per key.
+         *
+         * @return {@code true} for a unique index
+         */
+        public boolean isUnique() {
+            return unique;
+        }
+    }
+
+    /**
+     * The state of a single index. Not thread-safe, guarded by the lock of the registry.
+     *
+     * @param <T>
+     *         the type of the indexed elements
+     */
+    private static final class Index< T > {
+
+        private final IndexDefinition< T, ? > definition;
+        private final Map< Object, Object > entries = new HashMap<>();
+
+        Index( IndexDefinition< T, ? > aDefinition ) {
+            definition = aDefinition;
+        }
+
+        void verifyUnique( Collection< T > aAdded ) {
+            if ( !definition.unique ) {
+                return;
+            }
+            Set< Object > batchKeys = new HashSet<>();
+            for ( T object : aAdded ) {
+                Object key = definition.keyExtractor.apply( object );
+                if ( key != null && ( entries.containsKey( key ) || !batchKeys.add( key ) ) ) {
+                    throw new IllegalStateException( "Unique index '" + definition.name + "' already contains key: " + key );
+                }
+            }
+        }
+
+        @SuppressWarnings( "unchecked" )
+        void add( T aObject ) {
+            Object key = definition.keyExtractor.apply( aObject );
+            if ( key == null ) {
+                return;
+            }
+            if ( definition.unique ) {
+                entries.put( key, aObject );
+            } else {
+                ( ( Set< T > ) entries.computeIfAbsent( key, k -> new HashSet<>() ) ).add( aObject );
+            }
+        }
+
+        @SuppressWarnings( "unchecked" )
+        void remove( T aObject ) {
+            Object key = definition.keyExtractor.apply( aObject );
+            if ( key == null ) {
+                return;
+            }
+            if ( definition.unique ) {
+                entries.remove( key, aObject );
+            } else {
+                Set< T > bucket = ( Set< T > ) entries.get( key );
+                if ( bucket != null && bucket.remove( aObject ) && bucket.isEmpty() ) {
+                    entries.remove( key );
+                }
+            }
+        }
+
+        @SuppressWarnings( "unchecked" )
+        Set< T > find( Object aKey ) {
+            Object entry = entries.get( aKey );
+            if ( entry == null ) {
+                return Set.of();
+            }
+            return definition.unique ? Set.of( ( T ) entry ) : Set.copyOf( ( Set< T > ) entry );
+        }
+
+        @SuppressWarnings( "unchecked" )
+        Optional< T > findAny( Object aKey ) {
+            Object entry = entries.get( aKey );
+            if ( entry == null ) {
+                return Optional.empty();
+            }
+            return definition.unique ? Optional.of( ( T ) entry ) : ( ( Set< T > ) entry ).stream().findAny();
+        }
+
+        void clear() {
+            entries.clear();
+        }
+    }
+}
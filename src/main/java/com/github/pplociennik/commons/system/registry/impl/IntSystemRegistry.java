@@ -0,0 +1,315 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import com.github.pplociennik.commons.system.registry.CollectingSystemRegistry;
+import com.github.pplociennik.commons.system.registry.SystemRegistry;
+import org.springframework.lang.NonNull;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A primitive-specialized counterpart of {@link CollectingSystemRegistry} storing {@code int} values without boxing.
+ * <p>
+ * The values are kept in an open-addressing hash table with linear probing, backed by a single {@code int[]} array
+ * with a maximum load factor of 0.75. A registry of 10 million values therefore occupies about 64 MB, compared to
+ * roughly 5 times as much for a {@link HashSetBasedSystemRegistry} of boxed integers, and lookups do not allocate.
+ * The value {@code 0} is used as the marker of a free slot and is tracked separately. Removal uses backward shift
+ * deletion, so no tombstones are left in the table.
+ * <p>
+ * The boxed {@link #add(Integer)} method is provided only to satisfy the {@link SystemRegistry} contract, the primitive
+ * methods should be preferred. This class is not thread-safe.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 12:31
+ */
+public final class IntSystemRegistry implements SystemRegistry< Integer > {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final int FREE = 0;
+
+    /**
+     * The hash table. Free slots hold {@link #FREE}.
+     */
+    private int[] table;
+
+    /**
+     * The number of values stored in the table, not counting the value {@code 0}.
+     */
+    private int tableSize;
+
+    /**
+     * Whether the registry contains the value {@code 0}, which cannot be stored in the table.
+     */
+    private boolean containsFree;
+
+    /**
+     * Creates an empty registry.
+     */
+    public IntSystemRegistry() {
+        this( DEFAULT_CAPACITY );
+    }
+
+    /**
+     * Creates an empty registry presized for the expected number of values.
+     *
+     * @param aExpectedSize
+     *         the expected number of values stored in the registry
+     */
+    public IntSystemRegistry( int aExpectedSize ) {
+        if ( aExpectedSize < 0 ) {
+            throw new IllegalArgumentException( "The expected size cannot be negative but was: " + aExpectedSize );
+        }
+        table = new int[ capacityFor( aExpectedSize ) ];
+    }
+
+    /**
+     * Adds the specified value to the registry.
+     *
+     * @param aValue
+     *         the value to be added to the registry
+     * @return {@code true} if the registry did not already contain the value
+     */
+    public boolean add( int aValue ) {
+        if ( aValue == FREE ) {
+            boolean added = !containsFree;
+            containsFree = true;
+            return added;
+        }
+        int mask = table.length - 1;
+        int index = indexFor( aValue, mask );
+        int current;
+        while ( ( current = table[ index ] ) != FREE ) {
+            if ( current == aValue ) {
+                return false;
+            }
+            index = ( index + 1 ) & mask;
+        }
+        boolean full = tableSize + 1 > maxFill( table.length );
+        if ( full && table.length >= MAXIMUM_CAPACITY ) {
+            // Doubling the maximum capacity would overflow, so the value is rejected before it is stored.
+            throw new IllegalStateException( "The registry cannot hold more than " + maxFill( MAXIMUM_CAPACITY ) + " values." );
+        }
+        table[ index ] = aValue;
+        tableSize++;
+        if ( full ) {
+            rehash( table.length << 1 );
+        }
+        return true;
+    }
+
+    /**
+     * Adds the specified values to the registry. The table is resized at most once.
+     *
+     * @param aValues
+     *         the values to be added to the registry
+     */
+    public void add( @NonNull int... aValues ) {
+        requireNonNull( aValues );
+        ensureCapacity( tableSize + aValues.length );
+        for ( int value : aValues ) {
+            add( value );
+        }
+    }
+
+    /**
+     * Adds the specified object to the system registry.
+     *
+     * @param aObject
+     *         the object to be added to the system registry
+     */
+    @Override
+    public void add( @NonNull Integer aObject ) {
+        requireNonNull( aObject );
+        add( aObject.intValue() );
+    }
+
+    /**
+     * Removes the specified value from the registry.
+     *
+     * @param aValue
+     *         the value to be removed
+     * @return {@code true} if the registry contained the value
+     */
+    public boolean remove( int aValue ) {
+        if ( aValue == FREE ) {
+            boolean removed = containsFree;
+            containsFree = false;
+            return removed;
+        }
+        int mask = table.length - 1;
+        int index = indexFor( aValue, mask );
+        int current;
+        while ( ( current = table[ index ] ) != FREE ) {
+            if ( current == aValue ) {
+                shiftKeys( index, mask );
+                tableSize--;
+                return true;
+            }
+            index = ( index + 1 ) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Removes the specified values from the registry.
+     *
+     * @param aValues
+     *         the values to be removed
+     */
+    public void remove( @NonNull int... aValues ) {
+        requireNonNull( aValues );
+        for ( int value : aValues ) {
+            remove( value );
+        }
+    }
+
+    /**
+     * Checks if the specified value is present in the registry.
+     *
+     * @param aValue
+     *         the value to be checked
+     * @return {@code true} if the value is present in the registry, {@code false} otherwise
+     */
+    public boolean contains( int aValue ) {
+        if ( aValue == FREE ) {
+            return containsFree;
+        }
+        int mask = table.length - 1;
+        int index = indexFor( aValue, mask );
+        int current;
+        while ( ( current = table[ index ] ) != FREE ) {
+            if ( current == aValue ) {
+                return true;
+            }
+            index = ( index + 1 ) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of values currently stored in the registry.
+     *
+     * @return the total number of values in the registry
+     */
+    public int size() {
+        return containsFree ? tableSize + 1 : tableSize;
+    }
+
+    /**
+     * Returns a copy of all values currently stored in the registry.
+     *
+     * @return an array containing all values in the registry
+     */
+    public int[] toArray() {
+        return stream().toArray();
+    }
+
+    /**
+     * Returns a sequential {@code IntStream} of all values currently stored in the registry. The stream reads
+     * the table directly, so the registry must not be modified during the traversal.
+     *
+     * @return an {@code IntStream} containing all values in the registry
+     */
+    public IntStream stream() {
+        IntStream tableValues = Arrays.stream( table ).filter( value -> value != FREE );
+        return containsFree ? IntStream.concat( IntStream.of( FREE ), tableValues ) : tableValues;
+    }
+
+    /**
+     * Removes all elements from the system registry. The capacity of the table is retained.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill( table, FREE );
+        tableSize = 0;
+        containsFree = false;
+    }
+
+    /**
+     * Checks if the registry is empty.
+     *
+     * @return {@code true} if the registry contains no elements, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Creates and returns an independent copy of this {@code SystemRegistry} instance.
+     *
+     * @return a clone of this {@code SystemRegistry} instance
+     */
+    @Override
+    public SystemRegistry< Integer > clone() {
+        IntSystemRegistry copy = new IntSystemRegistry( 0 );
+        copy.table = table.clone();
+        copy.tableSize = tableSize;
+        copy.containsFree = containsFree;
+        return copy;
+    }
+
+    private void ensureCapacity( int aExpectedSize ) {
+        int capacity = capacityFor( aExpectedSize );
+        if ( capacity > table.length ) {
+            rehash( capacity );
+        }
+    }
+
+    private void rehash( int aCapacity ) {
+        if ( aCapacity > MAXIMUM_CAPACITY ) {
+            throw new IllegalStateException( "The registry cannot hold more than " + maxFill( MAXIMUM_CAPACITY ) + " values." );
+        }
+        int[] oldTable = table;
+        int mask = aCapacity - 1;
+        table = new int[ aCapacity ];
+        for ( int value : oldTable ) {
+            if ( value != FREE ) {
+                int index = indexFor( value, mask );
+                while ( table[ index ] != FREE ) {
+                    index = ( index + 1 ) & mask;
+                }
+                table[ index ] = value;
+            }
+        }
+    }
+
+    /**
+     * Fills the slot freed at the given position by shifting back the values of the same probe sequence.
+     */
+    private void shiftKeys( int aFreedIndex, int aMask ) {
+        int last = aFreedIndex;
+        int index = aFreedIndex;
+        while ( true ) {
+            index = ( index + 1 ) & aMask;
+            int current = table[ index ];
+            if ( current == FREE ) {
+                table[ last ] = FREE;
+                return;
+            }
+            int home = indexFor( current, aMask );
+            // The value may be moved only if its home slot is not within the cyclic range (last, index].
+            if ( last <= index ? ( last >= home || home > index ) : ( last >= home && home > index ) ) {
+                table[ last ] = current;
+                last = index;
+            }
+        }
+    }
+
+    private static int indexFor( int aValue, int aMask ) {
+        int hash = aValue * 0x9E3779B9;
+        return ( hash ^ ( hash >>> 16 ) ) & aMask;
+    }
+
+    private static int maxFill( int aCapacity ) {
+        return ( int ) ( aCapacity * 3L / 4 );
+    }
+
+    private static int capacityFor( int aExpectedSize ) {
+        long required = Math.max( DEFAULT_CAPACITY, ( long ) Math.ceil( aExpectedSize / 0.75 ) + 1 );
+        long capacity = Long.highestOneBit( required - 1 ) << 1;
+        return ( int ) Math.min( capacity, MAXIMUM_CAPACITY );
+    }
+}
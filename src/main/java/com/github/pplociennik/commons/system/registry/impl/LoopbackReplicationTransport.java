@@ -0,0 +1,102 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import org.springframework.lang.NonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An in-JVM {@link ReplicationTransport} connecting the {@link ReplicatedSystemRegistry} instances of a single
+ * process, intended for tests and for replicating between the modules of one application.
+ * <p>
+ * Every message is delivered to each recipient as a separate task of the configured {@link Executor}, so messages
+ * may be reordered by a multithreaded executor, in the same way as by a network. Messages sent to nodes which are not
+ * connected are dropped, which allows simulating failed and restarted nodes.
+ *
+ * @param <T>
+ *         the type of the replicated elements
+ * @author Created by: Pplociennik at 17.10.2026 20:11
+ */
+public final class LoopbackReplicationTransport< T > implements ReplicationTransport< T > {
+
+    private final Map< String, Consumer< ReplicationMessage< T > > > receivers = new ConcurrentHashMap<>();
+    private final Executor executor;
+
+    /**
+     * Creates a transport delivering the messages on the given executor.
+     *
+     * @param aExecutor
+     *         the executor delivering the messages to the receivers
+     */
+    public LoopbackReplicationTransport( @NonNull Executor aExecutor ) {
+        executor = requireNonNull( aExecutor );
+    }
+
+    /**
+     * Connects a node to the cluster.
+     *
+     * @param aNodeId
+     *         the identifier of the node, unique in the cluster
+     * @param aReceiver
+     *         the receiver of the messages sent to the node
+     * @throws IllegalStateException
+     *         if a node with the same identifier is already connected
+     */
+    @Override
+    public void connect( @NonNull String aNodeId, @NonNull Consumer< ReplicationMessage< T > > aReceiver ) {
+        requireNonNull( aNodeId );
+        requireNonNull( aReceiver );
+        if ( receivers.putIfAbsent( aNodeId, aReceiver ) != null ) {
+            throw new IllegalStateException( "The node is already connected: " + aNodeId );
+        }
+    }
+
+    /**
+     * Disconnects a node from the cluster.
+     *
+     * @param aNodeId
+     *         the identifier of the node
+     */
+    @Override
+    public void disconnect( @NonNull String aNodeId ) {
+        receivers.remove( requireNonNull( aNodeId ) );
+    }
+
+    /**
+     * Sends a message to all the connected nodes except for its sender.
+     *
+     * @param aMessage
+     *         the message to send
+     */
+    @Override
+    public void broadcast( @NonNull ReplicationMessage< T > aMessage ) {
+        requireNonNull( aMessage );
+        receivers.keySet().stream()
+                .filter( nodeId -> !nodeId.equals( aMessage.getSender() ) )
+                .forEach( nodeId -> send( nodeId, aMessage ) );
+    }
+
+    /**
+     * Sends a message to a single node, if it is connected at the time of the delivery.
+     *
+     * @param aNodeId
+     *         the identifier of the recipient
+     * @param aMessage
+     *         the message to send
+     */
+    @Override
+    public void send( @NonNull String aNodeId, @NonNull ReplicationMessage< T > aMessage ) {
+        requireNonNull( aNodeId );
+        requireNonNull( aMessage );
+        executor.execute( () -> {
+            Consumer< ReplicationMessage< T > > receiver = receivers.get( aNodeId );
+            if ( receiver != null ) {
+                receiver.accept( aMessage );
+            }
+        } );
+    }
+}
@@ -0,0 +1,382 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import com.github.pplociennik.commons.system.registry.CollectingSystemRegistry;
+import org.springframework.lang.NonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A durable store of the contents of a {@link CollectingSystemRegistry}, consisting of a compact binary snapshot and an
+ * append-only log of the changes made since the snapshot, both accessed through memory-mapped files.
+ * <p>
+ * The snapshot holds the serialized elements followed by a CRC32 checksum. It is written to a temporary file which is
+ * then atomically moved over the previous snapshot, so a crash leaves either the old or the new snapshot in place.
+ * The log consists of records, each holding one batch of changes and its own CRC32 checksum, appended to a mapped region
+ * of the log file which is extended as needed. Replaying stops at the first record which is incomplete or corrupted, so
+ * a record torn by a crash is discarded along with everything after it and overwritten by the next appended record.
+ * <p>
+ * Taking a snapshot resets the log. If a crash happens after the snapshot has been moved but before the log has been
+ * reset, the log is replayed on top of the new snapshot, which is harmless: replaying a sequence of additions, removals
+ * and clearings on a state already reflecting it yields the same state.
+ * <p>
+ * {@link #load(CollectingSystemRegistry)} maps the files and deserializes the elements directly from the mapped memory.
+ * The appended changes survive a crash of the process as soon as they are appended; {@link #force()} additionally
+ * flushes them to the storage device, to survive a crash of the operating system. The methods of this class are
+ * thread-safe.
+ *
+ * @param <T>
+ *         the type of the stored elements
+ * @author Created by: Pplociennik at 17.10.2026 20:48
+ */
+public final class MappedRegistryStore< T > implements AutoCloseable {
+
+    static final String SNAPSHOT_FILE = "registry.snapshot";
+    static final String LOG_FILE = "registry.log";
+
+    private static final int SNAPSHOT_MAGIC = 0x52475331;
+    private static final int LOG_REGION_SIZE = 1 << 20;
+
+    private static final byte ADD = 1;
+    private static final byte REMOVE = 2;
+    private static final byte CLEAR = 3;
+
+    private final Path directory;
+    private final ElementSerializer< T > serializer;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private FileChannel logChannel;
+    private MappedByteBuffer logBuffer;
+
+    /**
+     * The end of the last valid record of the log, where the next record is appended.
+     */
+    private int logPosition;
+
+    /**
+     * Opens the store located in the given directory, creating the directory and the log file if needed.
+     *
+     * @param aDirectory
+     *         the directory holding the files of the store
+     * @param aSerializer
+     *         the serializer of the stored elements
+     * @throws UncheckedIOException
+     *         if the files cannot be opened
+     */
+    public MappedRegistryStore( @NonNull Path aDirectory, @NonNull ElementSerializer< T > aSerializer ) {
+        directory = requireNonNull( aDirectory );
+        serializer = requireNonNull( aSerializer );
+        try {
+            Files.createDirectories( directory );
+            logChannel = FileChannel.open( directory.resolve( LOG_FILE ), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE );
+            long logSize = logChannel.size();
+            if ( logSize > Integer.MAX_VALUE ) {
+                throw new IllegalStateException( "The change log is too large: " + logSize );
+            }
+            logBuffer = logChannel.map( FileChannel.MapMode.READ_WRITE, 0, Math.max( logSize, LOG_REGION_SIZE ) );
+        } catch ( IOException aE ) {
+            throw new UncheckedIOException( aE );
+        }
+        logPosition = replay( null );
+        zeroLog( logPosition, logBuffer.capacity() );
+    }
+
+    /**
+     * Adds the contents of the last snapshot, with the logged changes replayed on top of it, to the given registry.
+     * Incomplete or corrupted records at the end of the log are ignored.
+     *
+     * @param aRegistry
+     *         the registry to load the contents into, usually an empty one
+     * @throws IllegalStateException
+     *         if the snapshot is corrupted
+     * @throws UncheckedIOException
+     *         if the snapshot cannot be read
+     */
+    public void load( @NonNull CollectingSystemRegistry< T > aRegistry ) {
+        requireNonNull( aRegistry );
+        lock.lock();
+        try {
+            aRegistry.add( readSnapshot() );
+            replay( aRegistry );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends the addition of the given elements to the log as a single record.
+     *
+     * @param aElements
+     *         the added elements
+     */
+    public void logAdd( @NonNull Collection< ? extends T > aElements ) {
+        append( ADD, requireNonNull( aElements ) );
+    }
+
+    /**
+     * Appends the removal of the given elements to the log as a single record.
+     *
+     * @param aElements
+     *         the removed elements
+     */
+    public void logRemove( @NonNull Collection< ? extends T > aElements ) {
+        append( REMOVE, requireNonNull( aElements ) );
+    }
+
+    /**
+     * Appends the clearing of the registry to the log.
+     */
+    public void logClear() {
+        append( CLEAR, List.of() );
+    }
+
+    /**
+     * Replaces the snapshot with the current contents of the given registry and resets the log.
+     *
+     * @param aRegistry
+     *         the registry to take the snapshot of
+     * @throws UncheckedIOException
+     *         if the snapshot cannot be written
+     */
+    public void snapshot( @NonNull CollectingSystemRegistry< T > aRegistry ) {
+        requireNonNull( aRegistry );
+        lock.lock();
+        try {
+            writeSnapshot( encode( aRegistry.values() ) );
+            zeroLog( 0, logPosition );
+            logPosition = 0;
+            logBuffer.force();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the size of the valid records of the change log, which is reset by {@link #snapshot(CollectingSystemRegistry)}.
+     *
+     * @return the size of the change log in bytes
+     */
+    public long getLogSize() {
+        lock.lock();
+        try {
+            return logPosition;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Flushes the appended changes to the storage device.
+     */
+    public void force() {
+        lock.lock();
+        try {
+            logBuffer.force();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Flushes the appended changes and closes the log file.
+     *
+     * @throws UncheckedIOException
+     *         if the log file cannot be closed
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if ( logChannel.isOpen() ) {
+                logBuffer.force();
+                logChannel.close();
+            }
+        } catch ( IOException aE ) {
+            throw new UncheckedIOException( aE );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void append( byte aOperation, Collection< ? extends T > aElements ) {
+        List< byte[] > encoded = encode( aElements );
+        long payloadSize = Byte.BYTES + Integer.BYTES;
+        for ( byte[] element : encoded ) {
+            payloadSize += Integer.BYTES + element.length;
+        }
+        lock.lock();
+        try {
+            if ( !logChannel.isOpen() ) {
+                throw new IllegalStateException( "The store has been closed." );
+            }
+            ensureLogCapacity( Integer.BYTES + payloadSize + Integer.BYTES );
+            ByteBuffer record = logBuffer.duplicate();
+            record.position( logPosition + Integer.BYTES );
+            int payloadStart = record.position();
+            record.put( aOperation ).putInt( encoded.size() );
+            for ( byte[] element : encoded ) {
+                record.putInt( element.length ).put( element );
+            }
+            record.putInt( checksum( logBuffer, payloadStart, ( int ) payloadSize ) );
+            // The length is written last, so that a record interrupted before it is not even started.
+            logBuffer.putInt( logPosition, ( int ) payloadSize );
+            logPosition = record.position();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Walks over the valid records of the log, applying them to the registry if one is given.
+     *
+     * @return the end of the last valid record
+     */
+    private int replay( CollectingSystemRegistry< T > aRegistry ) {
+        int position = 0;
+        int capacity = logBuffer.capacity();
+        while ( position + Integer.BYTES <= capacity ) {
+            int payloadSize = logBuffer.getInt( position );
+            int payloadStart = position + Integer.BYTES;
+            if ( payloadSize < Byte.BYTES + Integer.BYTES || ( long ) payloadStart + payloadSize + Integer.BYTES > capacity
+                    || logBuffer.getInt( payloadStart + payloadSize ) != checksum( logBuffer, payloadStart, payloadSize ) ) {
+                break;
+            }
+            if ( aRegistry != null ) {
+                apply( aRegistry, logBuffer.slice( payloadStart, payloadSize ) );
+            }
+            position = payloadStart + payloadSize + Integer.BYTES;
+        }
+        return position;
+    }
+
+    private void apply( CollectingSystemRegistry< T > aRegistry, ByteBuffer aPayload ) {
+        byte operation = aPayload.get();
+        List< T > elements = decode( aPayload, aPayload.getInt() );
+        switch ( operation ) {
+            case ADD:
+                aRegistry.add( elements );
+                break;
+            case REMOVE:
+                aRegistry.remove( elements );
+                break;
+            case CLEAR:
+                aRegistry.clear();
+                break;
+            default:
+                throw new IllegalStateException( "Unknown operation in the change log: " + operation );
+        }
+    }
+
+    private List< T > readSnapshot() {
+        Path snapshot = directory.resolve( SNAPSHOT_FILE );
+        if ( !Files.exists( snapshot ) ) {
+            return List.of();
+        }
+        try ( FileChannel channel = FileChannel.open( snapshot, StandardOpenOption.READ ) ) {
+            long size = channel.size();
+            if ( size < 3L * Integer.BYTES || size > Integer.MAX_VALUE ) {
+                throw new IllegalStateException( "The snapshot is corrupted: " + snapshot );
+            }
+            MappedByteBuffer buffer = channel.map( FileChannel.MapMode.READ_ONLY, 0, size );
+            int bodySize = ( int ) size - Integer.BYTES;
+            if ( buffer.getInt( 0 ) != SNAPSHOT_MAGIC || buffer.getInt( bodySize ) != checksum( buffer, 0, bodySize ) ) {
+                throw new IllegalStateException( "The snapshot is corrupted: " + snapshot );
+            }
+            ByteBuffer body = buffer.slice( 2 * Integer.BYTES, bodySize - 2 * Integer.BYTES );
+            return decode( body, buffer.getInt( Integer.BYTES ) );
+        } catch ( IOException aE ) {
+            throw new UncheckedIOException( aE );
+        }
+    }
+
+    private void writeSnapshot( List< byte[] > aElements ) {
+        long size = 3L * Integer.BYTES;
+        for ( byte[] element : aElements ) {
+            size += Integer.BYTES + element.length;
+        }
+        if ( size > Integer.MAX_VALUE ) {
+            throw new IllegalStateException( "The snapshot would be too large: " + size );
+        }
+        Path snapshot = directory.resolve( SNAPSHOT_FILE );
+        Path temporary = directory.resolve( SNAPSHOT_FILE + ".tmp" );
+        try {
+            try ( FileChannel channel = FileChannel.open( temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE ) ) {
+                MappedByteBuffer buffer = channel.map( FileChannel.MapMode.READ_WRITE, 0, size );
+                buffer.putInt( SNAPSHOT_MAGIC ).putInt( aElements.size() );
+                for ( byte[] element : aElements ) {
+                    buffer.putInt( element.length ).put( element );
+                }
+                buffer.putInt( checksum( buffer, 0, buffer.position() ) );
+                buffer.force();
+            }
+            Files.move( temporary, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING );
+        } catch ( IOException aE ) {
+            throw new UncheckedIOException( aE );
+        }
+    }
+
+    private List< byte[] > encode( Iterable< ? extends T > aElements ) {
+        List< byte[] > encoded = new ArrayList<>();
+        for ( T element : aElements ) {
+            encoded.add( serializer.serialize( requireNonNull( element ) ) );
+        }
+        return encoded;
+    }
+
+    private List< T > decode( ByteBuffer aBuffer, int aCount ) {
+        List< T > elements = new ArrayList<>( aCount );
+        for ( int i = 0; i < aCount; i++ ) {
+            int length = aBuffer.getInt();
+            elements.add( serializer.deserialize( aBuffer.slice( aBuffer.position(), length ) ) );
+            aBuffer.position( aBuffer.position() + length );
+        }
+        return elements;
+    }
+
+    private void ensureLogCapacity( long aRecordSize ) {
+        long required = logPosition + aRecordSize;
+        if ( required <= logBuffer.capacity() ) {
+            return;
+        }
+        if ( required > Integer.MAX_VALUE ) {
+            throw new IllegalStateException( "The change log is full, a snapshot has to be taken." );
+        }
+        long capacity = Math.min( Math.max( required, 2L * logBuffer.capacity() ), Integer.MAX_VALUE );
+        try {
+            logBuffer.force();
+            logBuffer = logChannel.map( FileChannel.MapMode.READ_WRITE, 0, capacity );
+        } catch ( IOException aE ) {
+            throw new UncheckedIOException( aE );
+        }
+    }
+
+    private void zeroLog( int aFrom, int aTo ) {
+        for ( int position = aFrom; position < aTo; position++ ) {
+            // Reading before writing avoids allocating the pages of the sparse, never written part of the file.
+            if ( logBuffer.get( position ) != 0 ) {
+                logBuffer.put( position, ( byte ) 0 );
+            }
+        }
+    }
+
+    private static int checksum( ByteBuffer aBuffer, int aOffset, int aLength ) {
+        CRC32 crc = new CRC32();
+        crc.update( aBuffer.slice( aOffset, aLength ) );
+        return ( int ) crc.getValue();
+    }
+}
@@ -0,0 +1,395 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import com.github.pplociennik.commons.system.registry.CollectingSystemRegistry;
+import org.springframework.lang.NonNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A lock-free, thread-safe implementation of {@link CollectingSystemRegistry} keeping its elements sorted by a
+ * comparator, backed by a {@link ConcurrentSkipListSet}.
+ * <p>
+ * Besides the operations of a registry, which cost O(log n), it offers ordered queries: {@link #first()},
+ * {@link #last()}, {@link #range(Object, Object)}, {@link #headStream(Object)} and {@link #tailStream(Object)}. A range
+ * query costs O(log n + k), where k is the number of returned elements, so there is no need to sort the whole content
+ * with {@code stream().sorted()}. For instance, all the keys starting with a prefix are returned by
+ * {@code range( prefix, prefix + Character.MAX_VALUE )}.
+ * <p>
+ * The elements are equal if the comparator considers them equal, regardless of their {@code equals} methods.
+ * The streams are ordered and sorted, and their parallel variants split the skip list into ordered parts, so that
+ * e.g. {@code range( from, to ).parallel().forEachOrdered( ... )} keeps the order of the elements. Like for
+ * {@link ConcurrentSystemRegistry}, iteration is weakly consistent and bulk operations are not atomic.
+ *
+ * @param <T>
+ *         the type of elements maintained by this registry
+ * @author Created by: Pplociennik at 17.10.2026 21:24
+ */
+public final class NavigableSystemRegistry< T > implements CollectingSystemRegistry< T > {
+
+    private final ConcurrentSkipListSet< T > values;
+
+    /**
+     * The number of elements, maintained separately as counting the nodes of a skip list costs O(n).
+     */
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * Creates an empty registry ordering its elements with the given comparator.
+     *
+     * @param aComparator
+     *         the comparator used to order the elements
+     */
+    public NavigableSystemRegistry( @NonNull Comparator< ? super T > aComparator ) {
+        values = new ConcurrentSkipListSet<>( requireNonNull( aComparator ) );
+    }
+
+    /**
+     * Creates a registry ordering its elements with the given comparator and containing a copy of the specified
+     * elements.
+     *
+     * @param aComparator
+     *         the comparator used to order the elements
+     * @param aObjects
+     *         the elements to be copied into the registry
+     */
+    public NavigableSystemRegistry( @NonNull Comparator< ? super T > aComparator, @NonNull Collection< T > aObjects ) {
+        this( aComparator );
+        addAll( aObjects );
+    }
+
+    private NavigableSystemRegistry( NavigableSystemRegistry< T > aOther ) {
+        // The copy constructor of a sorted set builds the skip list in linear time.
+        values = new ConcurrentSkipListSet<>( aOther.values );
+        size.add( values.size() );
+    }
+
+    /**
+     * Creates an empty registry ordering its elements by their natural ordering.
+     *
+     * @return the registry
+     */
+    public static < T extends Comparable< ? super T > > NavigableSystemRegistry< T > naturalOrder() {
+        return new NavigableSystemRegistry<>( Comparator.naturalOrder() );
+    }
+
+    /**
+     * Returns the comparator ordering the elements of the registry.
+     *
+     * @return the comparator
+     */
+    public Comparator< ? super T > comparator() {
+        return values.comparator();
+    }
+
+    /**
+     * Returns the lowest element of the registry.
+     *
+     * @return the lowest element, or an empty {@code Optional} if the registry is empty
+     */
+    public Optional< T > first() {
+        Iterator< T > iterator = values.iterator();
+        return iterator.hasNext() ? Optional.of( iterator.next() ) : Optional.empty();
+    }
+
+    /**
+     * Returns the highest element of the registry.
+     *
+     * @return the highest element, or an empty {@code Optional} if the registry is empty
+     */
+    public Optional< T > last() {
+        Iterator< T > iterator = values.descendingIterator();
+        return iterator.hasNext() ? Optional.of( iterator.next() ) : Optional.empty();
+    }
+
+    /**
+     * Returns an ordered {@code Stream} of the elements from the given lower bound, inclusive, to the given upper
+     * bound, exclusive.
+     *
+     * @param aFrom
+     *         the lower bound, inclusive
+     * @param aTo
+     *         the upper bound, exclusive
+     * @return a {@code Stream} of the elements in the range
+     * @throws IllegalArgumentException
+     *         if the lower bound is greater than the upper bound
+     */
+    public Stream< T > range( @NonNull T aFrom, @NonNull T aTo ) {
+        requireNonNull( aFrom );
+        requireNonNull( aTo );
+        return values.subSet( aFrom, true, aTo, false ).stream();
+    }
+
+    /**
+     * Returns an ordered {@code Stream} of the elements lower than the given bound.
+     *
+     * @param aTo
+     *         the upper bound, exclusive
+     * @return a {@code Stream} of the elements lower than the bound
+     */
+    public Stream< T > headStream( @NonNull T aTo ) {
+        requireNonNull( aTo );
+        return values.headSet( aTo, false ).stream();
+    }
+
+    /**
+     * Returns an ordered {@code Stream} of the elements greater than or equal to the given bound.
+     *
+     * @param aFrom
+     *         the lower bound, inclusive
+     * @return a {@code Stream} of the elements greater than or equal to the bound
+     */
+    public Stream< T > tailStream( @NonNull T aFrom ) {
+        requireNonNull( aFrom );
+        return values.tailSet( aFrom, true ).stream();
+    }
+
+    /**
+     * Adds the specified objects to the collecting system registry.
+     *
+     * @param aObjects
+     *         the objects to be added to the collecting system registry
+     */
+    @SafeVarargs
+    @Override
+    public final void add( @NonNull T... aObjects ) {
+        requireNonNull( aObjects );
+        addAll( Arrays.asList( aObjects ) );
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     */
+    @Override
+    public void add( @NonNull Collection< T > aObjects ) {
+        addAll( aObjects );
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     */
+    @Override
+    public void remove( @NonNull Collection< T > aObjects ) {
+        removeAll( aObjects );
+    }
+
+    /**
+     * Checks if the specified object is present in the collecting system registry.
+     *
+     * @param aObject
+     *         the object to be checked
+     * @return {@code true} if the object is present in the registry, {@code false} otherwise
+     */
+    @Override
+    public boolean contains( @NonNull T aObject ) {
+        requireNonNull( aObject );
+        return values.contains( aObject );
+    }
+
+    /**
+     * Returns the number of elements currently stored in the registry.
+     * The value is an estimate if the registry is being modified concurrently.
+     *
+     * @return the total number of elements in the registry
+     */
+    @Override
+    public int size() {
+        return ( int ) Math.max( 0, size.sum() );
+    }
+
+    /**
+     * Returns a weakly consistent, unmodifiable view of all elements currently stored in the registry, in ascending
+     * order.
+     *
+     * @return an {@code Iterable} containing all elements in the registry
+     */
+    @Override
+    public Iterable< T > values() {
+        return Collections.unmodifiableSet( values );
+    }
+
+    /**
+     * Returns a sequential, ordered {@code Stream} containing all elements currently stored in the registry.
+     * The stream is weakly consistent and never throws {@link java.util.ConcurrentModificationException}.
+     *
+     * @return a {@code Stream} containing all elements in the registry
+     */
+    @Override
+    public Stream< T > stream() {
+        return values.stream();
+    }
+
+    /**
+     * Adds the specified object to the system registry.
+     *
+     * @param aObject
+     *         the object to be added to the system registry
+     */
+    @Override
+    public void add( @NonNull T aObject ) {
+        insert( requireNonNull( aObject ) );
+    }
+
+    /**
+     * Removes all elements from the system registry.
+     * Elements added concurrently with the invocation may be retained.
+     */
+    @Override
+    public void clear() {
+        while ( values.pollFirst() != null ) {
+            size.decrement();
+        }
+    }
+
+    /**
+     * Checks if the registry is empty.
+     *
+     * @return {@code true} if the registry contains no elements, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    /**
+     * Creates and returns an independent copy of this {@code SystemRegistry} instance with the same comparator,
+     * containing the elements present in the registry at the time of the copy.
+     *
+     * @return a clone of this {@code SystemRegistry} instance
+     */
+    @Override
+    public NavigableSystemRegistry< T > clone() {
+        return new NavigableSystemRegistry<>( this );
+    }
+
+    /**
+     * Checks if all the specified objects are present in the collecting system registry.
+     *
+     * @param aObjects
+     *         the objects to be checked
+     * @return {@code true} if all the objects are present in the registry, {@code false} otherwise
+     */
+    @Override
+    public boolean containsAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        return values.containsAll( aObjects );
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry. The batch is not atomic, but the
+     * returned count is exact even under concurrent modification.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     * @return the number of objects which were not present in the registry before
+     */
+    @Override
+    public int addAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        int added = 0;
+        for ( T object : aObjects ) {
+            if ( insert( requireNonNull( object ) ) ) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Adds the objects of the specified stream to the collecting system registry, without collecting them first.
+     * The stream may be parallel.
+     *
+     * @param aObjects
+     *         the stream of objects to be added to the collecting system registry
+     * @return the number of objects which were not present in the registry before
+     */
+    @Override
+    public int addAll( @NonNull Stream< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        return ( int ) aObjects.filter( object -> insert( requireNonNull( object ) ) ).count();
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry. The batch is not atomic, but the
+     * returned count is exact even under concurrent modification.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     * @return the number of objects which were present in the registry before
+     */
+    @Override
+    public int removeAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        int removed = 0;
+        for ( T object : aObjects ) {
+            if ( delete( requireNonNull( object ) ) ) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry satisfying the specified predicate, in a single weakly
+     * consistent traversal.
+     *
+     * @param aFilter
+     *         the predicate selecting the elements to be removed
+     * @return the number of removed elements
+     */
+    @Override
+    public int removeIf( @NonNull Predicate< ? super T > aFilter ) {
+        requireNonNull( aFilter );
+        int removed = 0;
+        for ( T element : values ) {
+            if ( aFilter.test( element ) && delete( element ) ) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry which are not contained in the specified collection,
+     * in a single weakly consistent traversal.
+     *
+     * @param aObjects
+     *         the collection of objects to be retained in the collecting system registry
+     * @return the number of removed elements
+     */
+    @Override
+    public int retainAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        // The retained objects are looked up with the comparator of the registry, consistently with its equality.
+        Set< T > retained = new TreeSet<>( comparator() );
+        retained.addAll( aObjects );
+        return removeIf( element -> !retained.contains( element ) );
+    }
+
+    private boolean insert( T aObject ) {
+        if ( !values.add( aObject ) ) {
+            return false;
+        }
+        size.increment();
+        return true;
+    }
+
+    private boolean delete( Object aObject ) {
+        if ( !values.remove( aObject ) ) {
+            return false;
+        }
+        size.decrement();
+        return true;
+    }
+}
@@ -0,0 +1,361 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import com.github.pplociennik.commons.system.registry.CollectingSystemRegistry;
+import com.github.pplociennik.commons.system.registry.SystemRegistry;
+import org.springframework.lang.NonNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A decorator of {@link CollectingSystemRegistry} notifying the registered {@link ChangeListener}s about the changes
+ * of the registry contents.
+ * <p>
+ * The writing threads change the delegate without any lock of the decorator, append the change to a lock-free queue
+ * and, if no delivery is pending, submit a single delivery task to the configured {@link Executor}. The delivery task
+ * drains the queue, coalesces the queued changes into one {@link ChangeBatch} and passes it to every listener, so slow
+ * listeners never block the writers; they only make the following batches bigger. The batches are delivered one at a
+ * time. On JDK 21 and newer, an executor running each task in a virtual thread may be used. If the executor rejects
+ * the delivery task, the write still succeeds and its change is delivered along with the next batch.
+ * <p>
+ * As the concurrent writers may enqueue their changes in an order different from the one in which the delegate applied
+ * them, a batch does not report the requested changes but their effect: every element touched by the batched changes
+ * is reported as added or removed according to its presence in the delegate when the batch is drained, and a batch
+ * containing a clearing reports all the elements present at that moment as added. Replaying the batches on a copy of
+ * the registry contents, by clearing it if {@link ChangeBatch#isCleared()}, then removing
+ * {@link ChangeBatch#getRemoved()} and adding {@link ChangeBatch#getAdded()}, therefore yields the contents of the
+ * registry once the writes have stopped and the last batch has been delivered. The delegate must be thread-safe, as it
+ * is read by the delivering thread. Exceptions thrown by the listeners are passed to the uncaught exception handler of
+ * the delivering thread.
+ *
+ * @param <T>
+ *         the type of elements maintained by this registry
+ * @author Created by: Pplociennik at 17.10.2026 17:34
+ */
+public final class ObservableSystemRegistry< T > implements CollectingSystemRegistry< T > {
+
+    private final CollectingSystemRegistry< T > delegate;
+    private final Executor executor;
+    private final List< ChangeListener< ? super T > > listeners = new CopyOnWriteArrayList<>();
+    private final Queue< Change< T > > changes = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean deliveryScheduled = new AtomicBoolean();
+
+    /**
+     * Creates a decorator delivering the changes of the delegate registry on the given executor.
+     *
+     * @param aDelegate
+     *         the decorated registry
+     * @param aExecutor
+     *         the executor delivering the batches to the listeners
+     */
+    public ObservableSystemRegistry( @NonNull CollectingSystemRegistry< T > aDelegate, @NonNull Executor aExecutor ) {
+        delegate = requireNonNull( aDelegate );
+        executor = requireNonNull( aExecutor );
+    }
+
+    /**
+     * Registers a listener notified about the subsequent changes of the registry.
+     *
+     * @param aListener
+     *         the listener to register
+     */
+    public void addChangeListener( @NonNull ChangeListener< ? super T > aListener ) {
+        listeners.add( requireNonNull( aListener ) );
+    }
+
+    /**
+     * Unregisters a previously registered listener.
+     *
+     * @param aListener
+     *         the listener to unregister
+     */
+    public void removeChangeListener( @NonNull ChangeListener< ? super T > aListener ) {
+        listeners.remove( requireNonNull( aListener ) );
+    }
+
+    /**
+     * Adds the specified objects to the collecting system registry.
+     *
+     * @param aObjects
+     *         the objects to be added to the collecting system registry
+     */
+    @SafeVarargs
+    @Override
+    public final void add( @NonNull T... aObjects ) {
+        requireNonNull( aObjects );
+        add( Arrays.asList( aObjects ) );
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     */
+    @Override
+    public void add( @NonNull Collection< T > aObjects ) {
+        requireNonNull( aObjects );
+        List< T > added = List.copyOf( aObjects );
+        write( () -> delegate.add( added ), new Change<>( ChangeType.ADD, added ) );
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     */
+    @Override
+    public void remove( @NonNull Collection< T > aObjects ) {
+        requireNonNull( aObjects );
+        List< T > removed = List.copyOf( aObjects );
+        write( () -> delegate.remove( removed ), new Change<>( ChangeType.REMOVE, removed ) );
+    }
+
+    /**
+     * Checks if the specified object is present in the collecting system registry.
+     *
+     * @param aObject
+     *         the object to be checked
+     * @return {@code true} if the object is present in the registry, {@code false} otherwise
+     */
+    @Override
+    public boolean contains( @NonNull T aObject ) {
+        return delegate.contains( aObject );
+    }
+
+    /**
+     * Returns the number of elements currently stored in the registry.
+     *
+     * @return the total number of elements in the registry
+     */
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     * Returns an iterable collection of all elements currently stored in the registry.
+     *
+     * @return an {@code Iterable} containing all elements in the registry
+     */
+    @Override
+    public Iterable< T > values() {
+        return delegate.values();
+    }
+
+    /**
+     * Returns a sequential {@code Stream} containing all elements currently stored in the registry.
+     *
+     * @return a {@code Stream} containing all elements in the registry
+     */
+    @Override
+    public Stream< T > stream() {
+        return delegate.stream();
+    }
+
+    /**
+     * Adds the specified object to the system registry.
+     *
+     * @param aObject
+     *         the object to be added to the system registry
+     */
+    @Override
+    public void add( @NonNull T aObject ) {
+        requireNonNull( aObject );
+        write( () -> delegate.add( aObject ), new Change<>( ChangeType.ADD, List.of( aObject ) ) );
+    }
+
+    /**
+     * Removes all elements from the system registry.
+     * After invoking this method, the registry will be empty.
+     */
+    @Override
+    public void clear() {
+        write( delegate::clear, new Change<>( ChangeType.CLEAR, List.of() ) );
+    }
+
+    /**
+     * Checks if the registry is empty.
+     *
+     * @return {@code true} if the registry contains no elements, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    /**
+     * Creates and returns a copy of this {@code SystemRegistry} instance, decorating a clone of the delegate and
+     * delivering on the same executor. The listeners are not copied.
+     *
+     * @return a clone of this {@code SystemRegistry} instance
+     */
+    @Override
+    public SystemRegistry< T > clone() {
+        return new ObservableSystemRegistry<>( ( CollectingSystemRegistry< T > ) delegate.clone(), executor );
+    }
+
+    private void write( Runnable aWrite, Change< T > aChange ) {
+        aWrite.run();
+        if ( listeners.isEmpty() ) {
+            return;
+        }
+        changes.add( aChange );
+        if ( deliveryScheduled.compareAndSet( false, true ) ) {
+            try {
+                executor.execute( this::deliver );
+            } catch ( RejectedExecutionException aE ) {
+                // The write has been applied; its change is delivered by the next successfully scheduled delivery.
+                deliveryScheduled.set( false );
+            }
+        }
+    }
+
+    private void deliver() {
+        do {
+            ChangeBatch< T > batch = drain();
+            if ( batch != null ) {
+                notifyListeners( batch );
+            }
+            deliveryScheduled.set( false );
+        } while ( !changes.isEmpty() && deliveryScheduled.compareAndSet( false, true ) );
+    }
+
+    private ChangeBatch< T > drain() {
+        Set< T > touched = new LinkedHashSet<>();
+        boolean cleared = false;
+        boolean drained = false;
+        Change< T > change;
+        while ( ( change = changes.poll() ) != null ) {
+            drained = true;
+            switch ( change.type ) {
+                case ADD:
+                case REMOVE:
+                    touched.addAll( change.elements );
+                    break;
+                case CLEAR:
+                    cleared = true;
+                    break;
+            }
+        }
+        if ( !drained ) {
+            return null;
+        }
+        // The presence in the delegate decides, as the queue order may differ from the order of the applied changes.
+        Set< T > added = new LinkedHashSet<>();
+        Set< T > removed = new LinkedHashSet<>();
+        for ( T element : touched ) {
+            ( delegate.contains( element ) ? added : removed ).add( element );
+        }
+        if ( cleared ) {
+            delegate.stream().forEach( added::add );
+            removed.removeAll( added );
+        }
+        return new ChangeBatch<>( cleared, Collections.unmodifiableSet( added ), Collections.unmodifiableSet( removed ) );
+    }
+
+    private void notifyListeners( ChangeBatch< T > aBatch ) {
+        for ( ChangeListener< ? super T > listener : listeners ) {
+            try {
+                listener.onChange( aBatch );
+            } catch ( RuntimeException aE ) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException( thread, aE );
+            }
+        }
+    }
+
+    private enum ChangeType {
+        ADD,
+        REMOVE,
+        CLEAR
+    }
+
+    private static final class Change< T > {
+
+        private final ChangeType type;
+        private final List< T > elements;
+
+        Change( ChangeType aType, List< T > aElements ) {
+            type = aType;
+            elements = aElements;
+        }
+    }
+
+    /**
+     * A listener notified about the batched changes of an {@link ObservableSystemRegistry}.
+     *
+     * @param <T>
+     *         the type of the registry elements
+     */
+    @FunctionalInterface
+    public interface ChangeListener< T > {
+
+        /**
+         * Called on the delivery executor with the changes coalesced since the previous batch.
+         *
+         * @param aBatch
+         *         the batch of changes
+         */
+        void onChange( ChangeBatch< ? extends T > aBatch );
+    }
+
+    /**
+     * An immutable batch of coalesced changes of an {@link ObservableSystemRegistry}.
+     *
+     * @param <T>
+     *         the type of the registry elements
+     */
+    public static final class ChangeBatch< T > {
+
+        private final boolean cleared;
+        private final Set< T > added;
+        private final Set< T > removed;
+
+        private ChangeBatch( boolean aCleared, Set< T > aAdded, Set< T > aRemoved ) {
+            cleared = aCleared;
+            added = aAdded;
+            removed = aRemoved;
+        }
+
+        /**
+         * Returns whether the registry has been cleared before the other changes of the batch.
+         *
+         * @return {@code true} if the registry has been cleared
+         */
+        public boolean isCleared() {
+            return cleared;
+        }
+
+        /**
+         * Returns the elements added to the registry, after clearing it if applicable.
+         *
+         * @return an unmodifiable set of the added elements
+         */
+        public Set< T > getAdded() {
+            return added;
+        }
+
+        /**
+         * Returns the elements removed from the registry, after clearing it if applicable.
+         *
+         * @return an unmodifiable set of the removed elements
+         */
+        public Set< T > getRemoved() {
+            return removed;
+        }
+
+        @Override
+        public String toString() {
+            return "ChangeBatch{cleared=" + cleared + ", added=" + added + ", removed=" + removed + "}";
+        }
+    }
+}
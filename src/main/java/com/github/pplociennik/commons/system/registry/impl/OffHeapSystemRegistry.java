@@ -0,0 +1,643 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import com.github.pplociennik.commons.system.registry.CollectingSystemRegistry;
+import com.github.pplociennik.commons.system.registry.SystemRegistry;
+import org.springframework.lang.NonNull;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A thread-safe implementation of {@link CollectingSystemRegistry} storing strings outside the Java heap.
+ * <p>
+ * The strings are encoded in UTF-8 and appended to a direct {@link ByteBuffer} used as a data arena, each entry being
+ * prefixed with its length. The entries are indexed by an open-addressing hash table with linear probing, which is
+ * itself a direct buffer of 8-byte slots holding the hash of the entry and its offset in the arena. The heap footprint
+ * of the registry does therefore not depend on the number of stored entries. Lookups hash and compare the encoded bytes
+ * directly in the off-heap memory and never materialize the stored strings; only {@link #values()} and
+ * {@link #stream()} decode them, into a snapshot taken under the read lock.
+ * <p>
+ * Removed entries leave tombstones in the table and garbage in the arena, both reclaimed when the table is rebuilt.
+ * The registry must be closed with {@link #close()} once not needed. As Java 17 offers no public API for releasing
+ * a direct buffer eagerly, closing drops all the references to the off-heap memory, making it eligible for release
+ * by the buffers' cleaners, and makes any further use of the registry fail with an {@link IllegalStateException}.
+ * Each buffer is limited to 2 GB.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 13:40
+ */
+public final class OffHeapSystemRegistry implements CollectingSystemRegistry< String >, AutoCloseable {
+
+    private static final int SLOT_SIZE = Long.BYTES;
+    private static final int LENGTH_PREFIX_SIZE = Integer.BYTES;
+    private static final int DEFAULT_CAPACITY = 1 << 10;
+    private static final int MAXIMUM_CAPACITY = 1 << 27;
+    private static final int FREE = 0;
+    private static final int DELETED = -1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * The hash table: pairs of (hash, reference) integers, where the reference is the arena offset increased by one,
+     * {@link #FREE} or {@link #DELETED}.
+     */
+    private ByteBuffer slots;
+    private int capacity;
+
+    /**
+     * The arena holding the length-prefixed UTF-8 encoded entries.
+     */
+    private ByteBuffer data;
+    private int dataEnd;
+    private int garbageBytes;
+
+    private int size;
+    private int tombstones;
+    private boolean closed;
+
+    /**
+     * Creates an empty registry.
+     */
+    public OffHeapSystemRegistry() {
+        this( DEFAULT_CAPACITY * 3 / 4, DEFAULT_CAPACITY * 16 );
+    }
+
+    /**
+     * Creates an empty registry presized for the expected number of entries and their total encoded size.
+     *
+     * @param aExpectedSize
+     *         the expected number of entries
+     * @param aExpectedDataBytes
+     *         the expected total number of bytes of the UTF-8 encoded entries
+     */
+    public OffHeapSystemRegistry( int aExpectedSize, int aExpectedDataBytes ) {
+        if ( aExpectedSize < 0 || aExpectedDataBytes < 0 ) {
+            throw new IllegalArgumentException( "The expected sizes cannot be negative." );
+        }
+        capacity = capacityFor( aExpectedSize );
+        slots = ByteBuffer.allocateDirect( capacity * SLOT_SIZE );
+        data = ByteBuffer.allocateDirect( Math.max( 64, aExpectedDataBytes + aExpectedSize * LENGTH_PREFIX_SIZE ) );
+    }
+
+    /**
+     * Adds the specified objects to the collecting system registry.
+     *
+     * @param aObjects
+     *         the objects to be added to the collecting system registry
+     */
+    @Override
+    public void add( @NonNull String... aObjects ) {
+        requireNonNull( aObjects );
+        add( Arrays.asList( aObjects ) );
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry under a single lock acquisition.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     */
+    @Override
+    public void add( @NonNull Collection< String > aObjects ) {
+        requireNonNull( aObjects );
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            ensureOpen();
+            for ( String object : aObjects ) {
+                insert( encode( object ) );
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry under a single lock acquisition.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     */
+    @Override
+    public void remove( @NonNull Collection< String > aObjects ) {
+        requireNonNull( aObjects );
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            ensureOpen();
+            for ( String object : aObjects ) {
+                delete( encode( object ) );
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the specified object is present in the collecting system registry.
+     *
+     * @param aObject
+     *         the object to be checked
+     * @return {@code true} if the object is present in the registry, {@code false} otherwise
+     */
+    @Override
+    public boolean contains( @NonNull String aObject ) {
+        byte[] bytes = encode( aObject );
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            ensureOpen();
+            return find( bytes, hash( bytes ) ) >= 0;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of elements currently stored in the registry.
+     *
+     * @return the total number of elements in the registry
+     */
+    @Override
+    public int size() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            ensureOpen();
+            return size;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns a snapshot of all elements currently stored in the registry, decoded onto the heap.
+     *
+     * @return an {@code Iterable} containing all elements in the registry
+     */
+    @Override
+    public Iterable< String > values() {
+        return snapshot();
+    }
+
+    /**
+     * Returns a sequential {@code Stream} over a snapshot of all elements currently stored in the registry.
+     *
+     * @return a {@code Stream} containing all elements in the registry
+     */
+    @Override
+    public Stream< String > stream() {
+        return snapshot().stream();
+    }
+
+    /**
+     * Adds the specified object to the system registry.
+     *
+     * @param aObject
+     *         the object to be added to the system registry
+     */
+    @Override
+    public void add( @NonNull String aObject ) {
+        byte[] bytes = encode( aObject );
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            ensureOpen();
+            insert( bytes );
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes all elements from the system registry. The allocated off-heap memory is retained for reuse.
+     */
+    @Override
+    public void clear() {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            ensureOpen();
+            for ( int i = 0; i < capacity * SLOT_SIZE; i += SLOT_SIZE ) {
+                slots.putLong( i, 0L );
+            }
+            dataEnd = 0;
+            garbageBytes = 0;
+            size = 0;
+            tombstones = 0;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the registry is empty.
+     *
+     * @return {@code true} if the registry contains no elements, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Creates and returns an independent copy of this {@code SystemRegistry} instance, allocating its own off-heap
+     * memory. The copy has to be closed separately.
+     *
+     * @return a clone of this {@code SystemRegistry} instance
+     */
+    @Override
+    public SystemRegistry< String > clone() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            ensureOpen();
+            OffHeapSystemRegistry copy = new OffHeapSystemRegistry( size, dataEnd - garbageBytes );
+            forEachEntry( ( offset, length ) -> copy.insert( readBytes( offset, length ) ) );
+            return copy;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Releases the off-heap memory of the registry. Any subsequent operation fails with an {@link IllegalStateException}.
+     * Closing an already closed registry has no effect.
+     */
+    @Override
+    public void close() {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            closed = true;
+            slots = null;
+            data = null;
+            size = 0;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Checks if all the specified objects are present in the collecting system registry under a single lock
+     * acquisition.
+     *
+     * @param aObjects
+     *         the objects to be checked
+     * @return {@code true} if all the objects are present in the registry, {@code false} otherwise
+     */
+    @Override
+    public boolean containsAll( @NonNull Collection< ? extends String > aObjects ) {
+        requireNonNull( aObjects );
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            ensureOpen();
+            for ( String object : aObjects ) {
+                byte[] bytes = encode( object );
+                if ( find( bytes, hash( bytes ) ) < 0 ) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry under a single lock acquisition.
+     * The table is resized at most once.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     * @return the number of objects which were not present in the registry before
+     */
+    @Override
+    public int addAll( @NonNull Collection< ? extends String > aObjects ) {
+        requireNonNull( aObjects );
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            ensureOpen();
+            if ( size + tombstones + aObjects.size() > maxFill( capacity ) ) {
+                rebuild( Math.max( capacity, capacityFor( size + aObjects.size() ) ) );
+            }
+            int added = 0;
+            for ( String object : aObjects ) {
+                if ( insert( encode( object ) ) ) {
+                    added++;
+                }
+            }
+            return added;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry under a single lock acquisition.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     * @return the number of objects which were present in the registry before
+     */
+    @Override
+    public int removeAll( @NonNull Collection< ? extends String > aObjects ) {
+        requireNonNull( aObjects );
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            ensureOpen();
+            int removed = 0;
+            for ( String object : aObjects ) {
+                if ( delete( encode( object ) ) ) {
+                    removed++;
+                }
+            }
+            return removed;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry satisfying the specified predicate under a single
+     * lock acquisition. Only the entries are decoded, the table is not rebuilt.
+     *
+     * @param aFilter
+     *         the predicate selecting the elements to be removed
+     * @return the number of removed elements
+     */
+    @Override
+    public int removeIf( @NonNull Predicate< ? super String > aFilter ) {
+        requireNonNull( aFilter );
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            ensureOpen();
+            int removed = 0;
+            for ( int index = 0; index < capacity; index++ ) {
+                int reference = slotReference( index );
+                if ( reference != FREE && reference != DELETED ) {
+                    int offset = reference - 1;
+                    if ( aFilter.test( new String( readBytes( offset, data.getInt( offset ) ), UTF_8 ) ) ) {
+                        deleteSlot( index );
+                        removed++;
+                    }
+                }
+            }
+            return removed;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry which are not contained in the specified collection,
+     * under a single lock acquisition.
+     *
+     * @param aObjects
+     *         the collection of objects to be retained in the collecting system registry
+     * @return the number of removed elements
+     */
+    @Override
+    public int retainAll( @NonNull Collection< ? extends String > aObjects ) {
+        requireNonNull( aObjects );
+        Collection< ? > retained = aObjects instanceof Set ? aObjects : new HashSet<>( aObjects );
+        return removeIf( element -> !retained.contains( element ) );
+    }
+
+    private List< String > snapshot() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            ensureOpen();
+            List< String > values = new ArrayList<>( size );
+            forEachEntry( ( offset, length ) -> values.add( new String( readBytes( offset, length ), UTF_8 ) ) );
+            return values;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private boolean insert( byte[] aBytes ) {
+        int hash = hash( aBytes );
+        if ( find( aBytes, hash ) >= 0 ) {
+            return false;
+        }
+        if ( size + tombstones + 1 > maxFill( capacity ) ) {
+            rebuild( size + 1 > maxFill( capacity ) / 2 ? capacity << 1 : capacity );
+        }
+        int offset = append( aBytes );
+        int mask = capacity - 1;
+        int index = spread( hash ) & mask;
+        int reference;
+        while ( ( reference = slotReference( index ) ) != FREE && reference != DELETED ) {
+            index = ( index + 1 ) & mask;
+        }
+        if ( reference == DELETED ) {
+            tombstones--;
+        }
+        writeSlot( index, hash, offset + 1 );
+        size++;
+        return true;
+    }
+
+    private boolean delete( byte[] aBytes ) {
+        int index = find( aBytes, hash( aBytes ) );
+        if ( index < 0 ) {
+            return false;
+        }
+        deleteSlot( index );
+        return true;
+    }
+
+    private void deleteSlot( int aIndex ) {
+        int offset = slotReference( aIndex ) - 1;
+        garbageBytes += LENGTH_PREFIX_SIZE + data.getInt( offset );
+        writeSlot( aIndex, 0, DELETED );
+        size--;
+        tombstones++;
+    }
+
+    /**
+     * Returns the index of the slot holding the given entry, or -1 if the entry is absent.
+     */
+    private int find( byte[] aBytes, int aHash ) {
+        int mask = capacity - 1;
+        int index = spread( aHash ) & mask;
+        for ( int probes = 0; probes < capacity; probes++ ) {
+            int reference = slotReference( index );
+            if ( reference == FREE ) {
+                return -1;
+            }
+            if ( reference != DELETED && slotHash( index ) == aHash && entryEquals( reference - 1, aBytes ) ) {
+                return index;
+            }
+            index = ( index + 1 ) & mask;
+        }
+        return -1;
+    }
+
+    private boolean entryEquals( int aOffset, byte[] aBytes ) {
+        if ( data.getInt( aOffset ) != aBytes.length ) {
+            return false;
+        }
+        int start = aOffset + LENGTH_PREFIX_SIZE;
+        for ( int i = 0; i < aBytes.length; i++ ) {
+            if ( data.get( start + i ) != aBytes[ i ] ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int append( byte[] aBytes ) {
+        long required = ( long ) dataEnd + LENGTH_PREFIX_SIZE + aBytes.length;
+        if ( required > data.capacity() ) {
+            if ( required > Integer.MAX_VALUE - 8 ) {
+                throw new IllegalStateException( "The off-heap data arena of the registry cannot exceed 2 GB." );
+            }
+            ByteBuffer grown = ByteBuffer.allocateDirect( ( int ) Math.min( Integer.MAX_VALUE - 8, Math.max( required, data.capacity() * 2L ) ) );
+            grown.put( 0, data, 0, dataEnd );
+            data = grown;
+        }
+        int offset = dataEnd;
+        data.putInt( offset, aBytes.length );
+        data.put( offset + LENGTH_PREFIX_SIZE, aBytes );
+        dataEnd = offset + LENGTH_PREFIX_SIZE + aBytes.length;
+        return offset;
+    }
+
+    /**
+     * Rebuilds the hash table with the given capacity, dropping the tombstones and compacting the arena if more than
+     * half of it is garbage.
+     */
+    private void rebuild( int aCapacity ) {
+        if ( aCapacity > MAXIMUM_CAPACITY ) {
+            throw new IllegalStateException( "The registry cannot hold more than " + maxFill( MAXIMUM_CAPACITY ) + " entries." );
+        }
+        ByteBuffer oldSlots = slots;
+        int oldCapacity = capacity;
+        ByteBuffer oldData = data;
+        boolean compact = garbageBytes > dataEnd / 2;
+
+        slots = ByteBuffer.allocateDirect( aCapacity * SLOT_SIZE );
+        capacity = aCapacity;
+        tombstones = 0;
+        if ( compact ) {
+            long live = ( long ) dataEnd - garbageBytes;
+            data = ByteBuffer.allocateDirect( ( int ) Math.min( Integer.MAX_VALUE - 8, Math.max( 64L, live * 2L ) ) );
+            dataEnd = 0;
+            garbageBytes = 0;
+        }
+        int mask = aCapacity - 1;
+        for ( int oldIndex = 0; oldIndex < oldCapacity; oldIndex++ ) {
+            int reference = oldSlots.getInt( oldIndex * SLOT_SIZE + Integer.BYTES );
+            if ( reference == FREE || reference == DELETED ) {
+                continue;
+            }
+            int hash = oldSlots.getInt( oldIndex * SLOT_SIZE );
+            if ( compact ) {
+                int oldOffset = reference - 1;
+                int entrySize = LENGTH_PREFIX_SIZE + oldData.getInt( oldOffset );
+                data.put( dataEnd, oldData, oldOffset, entrySize );
+                reference = dataEnd + 1;
+                dataEnd += entrySize;
+            }
+            int index = spread( hash ) & mask;
+            while ( slotReference( index ) != FREE ) {
+                index = ( index + 1 ) & mask;
+            }
+            writeSlot( index, hash, reference );
+        }
+    }
+
+    private void forEachEntry( EntryConsumer aConsumer ) {
+        for ( int index = 0; index < capacity; index++ ) {
+            int reference = slotReference( index );
+            if ( reference != FREE && reference != DELETED ) {
+                int offset = reference - 1;
+                aConsumer.accept( offset, data.getInt( offset ) );
+            }
+        }
+    }
+
+    private byte[] readBytes( int aOffset, int aLength ) {
+        byte[] bytes = new byte[ aLength ];
+        data.get( aOffset + LENGTH_PREFIX_SIZE, bytes );
+        return bytes;
+    }
+
+    private int slotHash( int aIndex ) {
+        return slots.getInt( aIndex * SLOT_SIZE );
+    }
+
+    private int slotReference( int aIndex ) {
+        return slots.getInt( aIndex * SLOT_SIZE + Integer.BYTES );
+    }
+
+    private void writeSlot( int aIndex, int aHash, int aReference ) {
+        slots.putInt( aIndex * SLOT_SIZE, aHash );
+        slots.putInt( aIndex * SLOT_SIZE + Integer.BYTES, aReference );
+    }
+
+    private void ensureOpen() {
+        if ( closed ) {
+            throw new IllegalStateException( "The registry has already been closed." );
+        }
+    }
+
+    private static byte[] encode( String aObject ) {
+        requireNonNull( aObject );
+        return aObject.getBytes( UTF_8 );
+    }
+
+    /**
+     * Computes the 32-bit FNV-1a hash of the encoded entry.
+     */
+    private static int hash( byte[] aBytes ) {
+        int hash = 0x811C9DC5;
+        for ( byte b : aBytes ) {
+            hash ^= b;
+            hash *= 0x01000193;
+        }
+        return hash;
+    }
+
+    private static int spread( int aHash ) {
+        int hash = aHash * 0x9E3779B9;
+        return hash ^ ( hash >>> 16 );
+    }
+
+    private static int maxFill( int aCapacity ) {
+        return aCapacity / 4 * 3;
+    }
+
+    private static int capacityFor( int aExpectedSize ) {
+        long required = Math.max( 16, ( long ) Math.ceil( aExpectedSize / 0.75 ) + 1 );
+        long capacity = Long.highestOneBit( required - 1 ) << 1;
+        return ( int ) Math.min( capacity, MAXIMUM_CAPACITY );
+    }
+
+    /**
+     * A callback receiving the arena offset and the encoded length of each stored entry.
+     */
+    @FunctionalInterface
+    private interface EntryConsumer {
+
+        void accept( int aOffset, int aLength );
+    }
+}
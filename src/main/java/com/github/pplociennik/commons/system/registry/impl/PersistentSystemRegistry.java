@@ -0,0 +1,311 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import com.github.pplociennik.commons.system.registry.CollectingSystemRegistry;
+import org.springframework.lang.NonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A thread-safe implementation of {@link CollectingSystemRegistry} backed by a persistent hash array mapped trie.
+ * <p>
+ * The contents of the registry are an immutable trie published through an atomic reference. A modification copies
+ * only the O(log32 n) nodes on the path to the touched element and shares the rest of the trie with the previous
+ * version, and is applied with a compare-and-set retry loop, so writers never block each other nor the readers.
+ * Readers never lock and never copy: {@link #values()} and {@link #stream()} operate on the version current at the
+ * time of the call, which is not affected by later modifications.
+ * <p>
+ * As the versions are immutable, {@link #clone()} costs O(1): the clone starts with the current version of this
+ * registry, after which both registries evolve independently, sharing the unmodified nodes. It is therefore cheap
+ * enough to take a consistent snapshot for every request served.
+ *
+ * @param <T>
+ *         the type of elements maintained by this registry
+ * @author Created by: Pplociennik at 17.10.2026 19:20
+ */
+public final class PersistentSystemRegistry< T > implements CollectingSystemRegistry< T > {
+
+    private final AtomicReference< HashArrayMappedTrie< T > > trie;
+
+    /**
+     * Creates an empty registry.
+     */
+    public PersistentSystemRegistry() {
+        this.trie = new AtomicReference<>( HashArrayMappedTrie.empty() );
+    }
+
+    /**
+     * Creates a registry containing the specified elements.
+     *
+     * @param aObjects
+     *         the elements to be stored in the registry
+     */
+    public PersistentSystemRegistry( @NonNull Collection< T > aObjects ) {
+        this();
+        add( aObjects );
+    }
+
+    private PersistentSystemRegistry( HashArrayMappedTrie< T > aTrie ) {
+        this.trie = new AtomicReference<>( aTrie );
+    }
+
+    /**
+     * Adds the specified objects to the collecting system registry, publishing a single new version.
+     *
+     * @param aObjects
+     *         the objects to be added to the collecting system registry
+     */
+    @SafeVarargs
+    @Override
+    public final void add( @NonNull T... aObjects ) {
+        requireNonNull( aObjects );
+        add( Arrays.asList( aObjects ) );
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry, publishing a single new version.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     */
+    @Override
+    public void add( @NonNull Collection< T > aObjects ) {
+        requireNonNull( aObjects );
+        update( current -> {
+            HashArrayMappedTrie< T > updated = current;
+            for ( T object : aObjects ) {
+                updated = updated.plus( requireNonNull( object ) );
+            }
+            return updated;
+        } );
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry, publishing a single new version.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     */
+    @Override
+    public void remove( @NonNull Collection< T > aObjects ) {
+        requireNonNull( aObjects );
+        update( current -> {
+            HashArrayMappedTrie< T > updated = current;
+            for ( T object : aObjects ) {
+                updated = updated.minus( requireNonNull( object ) );
+            }
+            return updated;
+        } );
+    }
+
+    /**
+     * Checks if the specified object is present in the current version of the registry.
+     *
+     * @param aObject
+     *         the object to be checked
+     * @return {@code true} if the object is present in the registry, {@code false} otherwise
+     */
+    @Override
+    public boolean contains( @NonNull T aObject ) {
+        requireNonNull( aObject );
+        return trie.get().contains( aObject );
+    }
+
+    /**
+     * Returns the number of elements in the current version of the registry.
+     *
+     * @return the total number of elements in the registry
+     */
+    @Override
+    public int size() {
+        return trie.get().size();
+    }
+
+    /**
+     * Returns the current immutable version of the registry. The returned collection is not affected by subsequent
+     * modifications of the registry.
+     *
+     * @return an {@code Iterable} containing all elements in the registry
+     */
+    @Override
+    public Iterable< T > values() {
+        return trie.get();
+    }
+
+    /**
+     * Returns a sequential {@code Stream} over the current immutable version of the registry.
+     *
+     * @return a {@code Stream} containing all elements in the registry
+     */
+    @Override
+    public Stream< T > stream() {
+        HashArrayMappedTrie< T > current = trie.get();
+        Spliterator< T > spliterator = Spliterators.spliterator( current.iterator(), current.size(),
+                Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE );
+        return StreamSupport.stream( spliterator, false );
+    }
+
+    /**
+     * Adds the specified object to the system registry.
+     *
+     * @param aObject
+     *         the object to be added to the system registry
+     */
+    @Override
+    public void add( @NonNull T aObject ) {
+        requireNonNull( aObject );
+        update( current -> current.plus( aObject ) );
+    }
+
+    /**
+     * Removes all elements from the system registry.
+     * After invoking this method, the registry will be empty.
+     */
+    @Override
+    public void clear() {
+        trie.set( HashArrayMappedTrie.empty() );
+    }
+
+    /**
+     * Checks if the current version of the registry is empty.
+     *
+     * @return {@code true} if the registry contains no elements, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return trie.get().size() == 0;
+    }
+
+    /**
+     * Creates and returns an independent copy of this {@code SystemRegistry} instance in O(1) time. The copy shares
+     * the current immutable version with this registry; subsequent modifications of either registry are not visible
+     * in the other one.
+     *
+     * @return a clone of this {@code SystemRegistry} instance
+     */
+    @Override
+    public PersistentSystemRegistry< T > clone() {
+        return new PersistentSystemRegistry<>( trie.get() );
+    }
+
+    /**
+     * Checks if all the specified objects are present in the current version of the registry.
+     *
+     * @param aObjects
+     *         the objects to be checked
+     * @return {@code true} if all the objects are present in the registry, {@code false} otherwise
+     */
+    @Override
+    public boolean containsAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        HashArrayMappedTrie< T > current = trie.get();
+        for ( T object : aObjects ) {
+            if ( !current.contains( requireNonNull( object ) ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry, publishing a single new version.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     * @return the number of objects which were not present in the registry before
+     */
+    @Override
+    public int addAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        return update( current -> {
+            HashArrayMappedTrie< T > updated = current;
+            for ( T object : aObjects ) {
+                updated = updated.plus( requireNonNull( object ) );
+            }
+            return updated;
+        } );
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry, publishing a single new version.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     * @return the number of objects which were present in the registry before
+     */
+    @Override
+    public int removeAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        return -update( current -> {
+            HashArrayMappedTrie< T > updated = current;
+            for ( T object : aObjects ) {
+                updated = updated.minus( requireNonNull( object ) );
+            }
+            return updated;
+        } );
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry satisfying the specified predicate, publishing
+     * a single new version. The predicate may be evaluated more than once for an element if the registry is modified
+     * concurrently.
+     *
+     * @param aFilter
+     *         the predicate selecting the elements to be removed
+     * @return the number of removed elements
+     */
+    @Override
+    public int removeIf( @NonNull Predicate< ? super T > aFilter ) {
+        requireNonNull( aFilter );
+        return -update( current -> {
+            HashArrayMappedTrie< T > updated = current;
+            for ( T element : current ) {
+                if ( aFilter.test( element ) ) {
+                    updated = updated.minus( element );
+                }
+            }
+            return updated;
+        } );
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry which are not contained in the specified collection,
+     * publishing a single new version.
+     *
+     * @param aObjects
+     *         the collection of objects to be retained in the collecting system registry
+     * @return the number of removed elements
+     */
+    @Override
+    public int retainAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        Collection< ? > retained = aObjects instanceof Set ? aObjects : new HashSet<>( aObjects );
+        return removeIf( element -> !retained.contains( element ) );
+    }
+
+    /**
+     * Applies the update with a compare-and-set retry loop.
+     *
+     * @return the change of the size of the registry
+     */
+    private int update( UnaryOperator< HashArrayMappedTrie< T > > aUpdate ) {
+        HashArrayMappedTrie< T > current;
+        HashArrayMappedTrie< T > updated;
+        do {
+            current = trie.get();
+            updated = aUpdate.apply( current );
+        } while ( updated != current && !trie.compareAndSet( current, updated ) );
+        return updated.size() - current.size();
+    }
+}
@@ -0,0 +1,516 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import com.github.pplociennik.commons.system.registry.CollectingSystemRegistry;
+import com.github.pplociennik.commons.system.registry.SystemRegistry;
+import com.github.pplociennik.commons.system.registry.impl.ReplicationMessage.Delta;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A thread-safe implementation of {@link CollectingSystemRegistry} replicating its contents between the nodes of
+ * a cluster over a pluggable {@link ReplicationTransport}.
+ * <p>
+ * Every local change is recorded as a {@link Delta} identified by the identifier of this node and a sequence number,
+ * kept in the delta log of the registry and broadcast to the other nodes. Concurrent changes of the same element are
+ * resolved by the last-writer-wins rule using Lamport timestamps, ties broken by the node identifiers, so all the nodes
+ * converge to the same contents regardless of the order in which the deltas are delivered.
+ * <p>
+ * Lost deltas are repaired by the anti-entropy: {@link #synchronize()}, which may be scheduled periodically with
+ * {@link #scheduleAntiEntropy(ScheduledExecutorService, Duration)}, sends the version vector of this node to its
+ * peers, which answer with only the deltas missing from it. A node joining the cluster, or restarted with an empty
+ * state, therefore fetches the deltas it has not seen instead of a full copy of the contents. A restarted node has to
+ * be created as {@linkplain #ReplicatedSystemRegistry(String, ReplicationTransport, boolean) rejoining}: it rejects
+ * local writes until a peer has answered its digest, so that it continues the sequence numbers of its previous
+ * incarnation instead of reusing them.
+ * <p>
+ * The nodes whose digests or deltas have been received are known to this node. The deltas applied by all the known
+ * nodes, according to their latest digests, are compacted out of the delta log: a node lagging behind the compacted
+ * part is sent the latest change of every element instead, which supersedes the compacted deltas. The tombstones of
+ * the removed elements are dropped once they have been applied by all the known nodes and no known node has reported
+ * a delta missing from any other, as no older change of the element may arrive afterwards. A node unknown to this one
+ * is assumed not to hold changes older than the compacted ones.
+ *
+ * @param <T>
+ *         the type of elements maintained by this registry
+ * @author Created by: Pplociennik at 17.10.2026 20:18
+ */
+public final class ReplicatedSystemRegistry< T > implements CollectingSystemRegistry< T >, AutoCloseable {
+
+    private final String nodeId;
+    private final ReplicationTransport< T > transport;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * The elements currently present in the registry.
+     */
+    private final Set< T > values = new HashSet<>();
+
+    /**
+     * The latest applied change of every element ever present in the registry, including the removed ones.
+     */
+    private final Map< T, Delta< T > > latestChanges = new HashMap<>();
+
+    /**
+     * The applied deltas, by origin node and sequence number.
+     */
+    private final Map< String, NavigableMap< Long, Delta< T > > > log = new HashMap<>();
+
+    /**
+     * The version vector: the highest sequence number of every origin up to which all the deltas have been applied.
+     */
+    private final Map< String, Long > versionVector = new HashMap<>();
+
+    /**
+     * The latest digests of the known peers; empty for the peers known only from their deltas.
+     */
+    private final Map< String, Map< String, Long > > peerVectors = new HashMap<>();
+
+    /**
+     * The sequence numbers of every origin up to which the delta log has been compacted.
+     */
+    private final Map< String, Long > compacted = new HashMap<>();
+
+    private long clock;
+    private volatile boolean awaitingSync;
+
+    /**
+     * Creates a registry and connects it to the cluster.
+     *
+     * @param aNodeId
+     *         the identifier of this node, unique in the cluster
+     * @param aTransport
+     *         the transport connecting the nodes
+     */
+    public ReplicatedSystemRegistry( @NonNull String aNodeId, @NonNull ReplicationTransport< T > aTransport ) {
+        this( aNodeId, aTransport, false );
+    }
+
+    /**
+     * Creates a registry and connects it to the cluster.
+     *
+     * @param aNodeId
+     *         the identifier of this node, unique in the cluster
+     * @param aTransport
+     *         the transport connecting the nodes
+     * @param aRejoining
+     *         {@code true} if a node with the same identifier has already been a member of the cluster, in which case
+     *         the local writes are rejected until a peer has answered a {@linkplain #synchronize() synchronization}
+     */
+    public ReplicatedSystemRegistry( @NonNull String aNodeId, @NonNull ReplicationTransport< T > aTransport, boolean aRejoining ) {
+        nodeId = requireNonNull( aNodeId );
+        transport = requireNonNull( aTransport );
+        awaitingSync = aRejoining;
+        transport.connect( nodeId, this::receive );
+    }
+
+    /**
+     * Returns the identifier of this node.
+     *
+     * @return the identifier of the node
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Returns a copy of the version vector of this node, mapping every origin node to the highest sequence number up
+     * to which all its deltas have been applied.
+     *
+     * @return the version vector
+     */
+    public Map< String, Long > getVersionVector() {
+        lock.readLock().lock();
+        try {
+            return Map.copyOf( versionVector );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Runs a round of the anti-entropy: sends the digest of this node to its peers, which answer with the deltas
+     * missing from it.
+     */
+    public void synchronize() {
+        transport.broadcast( ReplicationMessage.digest( nodeId, getVersionVector(), awaitingSync ) );
+    }
+
+    /**
+     * Schedules a periodic anti-entropy on the given executor.
+     *
+     * @param aExecutor
+     *         the executor to schedule the anti-entropy on
+     * @param aPeriod
+     *         the period of the anti-entropy
+     * @return the future of the scheduled task, which may be used to cancel it
+     */
+    public ScheduledFuture< ? > scheduleAntiEntropy( @NonNull ScheduledExecutorService aExecutor, @NonNull Duration aPeriod ) {
+        requireNonNull( aExecutor );
+        long period = requireNonNull( aPeriod ).toMillis();
+        return aExecutor.scheduleAtFixedRate( this::synchronize, period, period, TimeUnit.MILLISECONDS );
+    }
+
+    /**
+     * Disconnects this node from the cluster. The contents remain readable, but are no longer replicated.
+     */
+    @Override
+    public void close() {
+        transport.disconnect( nodeId );
+    }
+
+    /**
+     * Adds the specified objects to the collecting system registry and broadcasts them in a single message.
+     *
+     * @param aObjects
+     *         the objects to be added to the collecting system registry
+     */
+    @SafeVarargs
+    @Override
+    public final void add( @NonNull T... aObjects ) {
+        requireNonNull( aObjects );
+        add( Arrays.asList( aObjects ) );
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry and broadcasts them in a single message.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     */
+    @Override
+    public void add( @NonNull Collection< T > aObjects ) {
+        requireNonNull( aObjects );
+        change( aObjects, true );
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry and broadcasts the removals in
+     * a single message.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     */
+    @Override
+    public void remove( @NonNull Collection< T > aObjects ) {
+        requireNonNull( aObjects );
+        change( aObjects, false );
+    }
+
+    /**
+     * Checks if the specified object is present in the collecting system registry.
+     *
+     * @param aObject
+     *         the object to be checked
+     * @return {@code true} if the object is present in the registry, {@code false} otherwise
+     */
+    @Override
+    public boolean contains( @NonNull T aObject ) {
+        requireNonNull( aObject );
+        lock.readLock().lock();
+        try {
+            return values.contains( aObject );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of elements currently stored in the registry.
+     *
+     * @return the total number of elements in the registry
+     */
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return values.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a copy of all elements currently stored in the registry.
+     *
+     * @return an {@code Iterable} containing all elements in the registry
+     */
+    @Override
+    public Iterable< T > values() {
+        lock.readLock().lock();
+        try {
+            return List.copyOf( values );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a sequential {@code Stream} over a copy of all elements currently stored in the registry.
+     *
+     * @return a {@code Stream} containing all elements in the registry
+     */
+    @Override
+    public Stream< T > stream() {
+        lock.readLock().lock();
+        try {
+            return List.copyOf( values ).stream();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the specified object to the system registry.
+     *
+     * @param aObject
+     *         the object to be added to the system registry
+     */
+    @Override
+    public void add( @NonNull T aObject ) {
+        requireNonNull( aObject );
+        change( List.of( aObject ), true );
+    }
+
+    /**
+     * Removes all elements from the system registry, broadcasting a removal of each of them.
+     */
+    @Override
+    public void clear() {
+        List< T > present;
+        lock.readLock().lock();
+        try {
+            present = List.copyOf( values );
+        } finally {
+            lock.readLock().unlock();
+        }
+        change( present, false );
+    }
+
+    /**
+     * Checks if the registry is empty.
+     *
+     * @return {@code true} if the registry contains no elements, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Creates and returns a copy of the current contents of this registry. The copy is a local
+     * {@link HashSetBasedSystemRegistry}, not connected to the cluster.
+     *
+     * @return a clone of this {@code SystemRegistry} instance
+     */
+    @Override
+    public SystemRegistry< T > clone() {
+        lock.readLock().lock();
+        try {
+            return new HashSetBasedSystemRegistry<>( new HashSet<>( values ) );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void change( Collection< T > aObjects, boolean aAdded ) {
+        List< Delta< T > > deltas = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            if ( awaitingSync ) {
+                throw new IllegalStateException( "The node has rejoined the cluster and must synchronize before accepting local writes: " + nodeId );
+            }
+            long sequence = versionVector.getOrDefault( nodeId, 0L );
+            for ( T object : aObjects ) {
+                requireNonNull( object );
+                if ( values.contains( object ) != aAdded ) {
+                    Delta< T > delta = new Delta<>( nodeId, ++sequence, ++clock, object, aAdded );
+                    apply( delta );
+                    deltas.add( delta );
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if ( !deltas.isEmpty() ) {
+            transport.broadcast( ReplicationMessage.deltas( nodeId, deltas ) );
+        }
+    }
+
+    /**
+     * Returns the number of the deltas retained in the delta log.
+     */
+    int retainedDeltas() {
+        lock.readLock().lock();
+        try {
+            return log.values().stream().mapToInt( Map::size ).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of the retained tombstones of the removed elements.
+     */
+    int retainedTombstones() {
+        lock.readLock().lock();
+        try {
+            return ( int ) latestChanges.values().stream().filter( delta -> !delta.isAdded() ).count();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void receive( ReplicationMessage< T > aMessage ) {
+        if ( aMessage.isDigest() ) {
+            answerDigest( aMessage.getSender(), aMessage.getDigest(), aMessage.isAnswerRequested() );
+        } else {
+            lock.writeLock().lock();
+            try {
+                peerVectors.putIfAbsent( aMessage.getSender(), Map.of() );
+                aMessage.getDeltas().forEach( this::apply );
+                aMessage.getBase().forEach( this::skipCompacted );
+                if ( aMessage.isAnswer() ) {
+                    awaitingSync = false;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Records the digest of the peer, compacts the delta log and sends the peer the deltas missing from its digest,
+     * and, if the peer knows deltas missing from this node, the digest of this node in return.
+     */
+    private void answerDigest( String aPeer, Map< String, Long > aDigest, boolean aAnswerRequested ) {
+        List< Delta< T > > missing = new ArrayList<>();
+        Map< String, Long > base = new HashMap<>();
+        boolean behind;
+        lock.writeLock().lock();
+        try {
+            peerVectors.put( aPeer, aDigest );
+            compact();
+
+            compacted.forEach( ( origin, sequence ) -> {
+                if ( aDigest.getOrDefault( origin, 0L ) < sequence ) {
+                    base.put( origin, sequence );
+                }
+            } );
+            if ( !base.isEmpty() ) {
+                // The compacted deltas are superseded by the latest change of every element.
+                latestChanges.values().stream()
+                        .filter( delta -> delta.getSequence() > aDigest.getOrDefault( delta.getOrigin(), 0L ) )
+                        .filter( delta -> delta.getSequence() <= base.getOrDefault( delta.getOrigin(), 0L ) )
+                        .forEach( missing::add );
+            }
+            log.forEach( ( origin, deltas ) -> missing.addAll( deltas.tailMap( aDigest.getOrDefault( origin, 0L ), false ).values() ) );
+            behind = aDigest.entrySet().stream()
+                    .anyMatch( entry -> entry.getValue() > versionVector.getOrDefault( entry.getKey(), 0L ) );
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if ( !missing.isEmpty() || !base.isEmpty() || aAnswerRequested ) {
+            transport.send( aPeer, ReplicationMessage.answer( nodeId, missing, base ) );
+        }
+        if ( behind ) {
+            transport.send( aPeer, ReplicationMessage.digest( nodeId, getVersionVector() ) );
+        }
+    }
+
+    /**
+     * Drops the deltas applied by all the known nodes from the delta log and, if none of the known nodes misses a delta
+     * known to another, the tombstones applied by all of them. Must be called under the write lock.
+     */
+    private void compact() {
+        Map< String, Long > stable = new HashMap<>();
+        versionVector.forEach( ( origin, applied ) -> {
+            long sequence = applied;
+            for ( Map< String, Long > peerVector : peerVectors.values() ) {
+                sequence = Math.min( sequence, peerVector.getOrDefault( origin, 0L ) );
+            }
+            stable.put( origin, sequence );
+            if ( sequence > compacted.getOrDefault( origin, 0L ) ) {
+                NavigableMap< Long, Delta< T > > originLog = log.get( origin );
+                if ( originLog != null ) {
+                    originLog.headMap( sequence, true ).clear();
+                }
+                compacted.put( origin, sequence );
+            }
+        } );
+
+        boolean quiescent = versionVector.getOrDefault( nodeId, 0L ) <= stable.getOrDefault( nodeId, 0L )
+                && peerVectors.entrySet().stream()
+                .allMatch( peer -> peer.getValue().getOrDefault( peer.getKey(), 0L ) <= stable.getOrDefault( peer.getKey(), 0L ) );
+        if ( quiescent ) {
+            latestChanges.values().removeIf( delta -> !delta.isAdded() && delta.getSequence() <= stable.getOrDefault( delta.getOrigin(), 0L ) );
+        }
+    }
+
+    /**
+     * Advances the version vector over the deltas of the origin compacted by the sender of an answer, which has
+     * superseded them by the deltas it has sent. Must be called under the write lock.
+     */
+    private void skipCompacted( String aOrigin, long aSequence ) {
+        if ( aSequence <= versionVector.getOrDefault( aOrigin, 0L ) ) {
+            return;
+        }
+        NavigableMap< Long, Delta< T > > originLog = log.computeIfAbsent( aOrigin, origin -> new TreeMap<>() );
+        originLog.headMap( aSequence, true ).clear();
+        compacted.merge( aOrigin, aSequence, Math::max );
+        versionVector.put( aOrigin, aSequence );
+        advance( aOrigin, originLog );
+    }
+
+    /**
+     * Advances the version vector of the origin over the contiguous deltas of its log. Must be called under the write
+     * lock.
+     */
+    private void advance( String aOrigin, NavigableMap< Long, Delta< T > > aOriginLog ) {
+        long applied = versionVector.getOrDefault( aOrigin, 0L );
+        while ( aOriginLog.containsKey( applied + 1 ) ) {
+            applied++;
+        }
+        versionVector.put( aOrigin, applied );
+    }
+
+    /**
+     * Applies the delta unless it has already been applied. Must be called under the write lock.
+     */
+    private void apply( Delta< T > aDelta ) {
+        NavigableMap< Long, Delta< T > > originLog = log.computeIfAbsent( aDelta.getOrigin(), origin -> new TreeMap<>() );
+        // The deltas up to the version vector have been applied, or superseded, even if compacted out of the log.
+        if ( aDelta.getSequence() <= versionVector.getOrDefault( aDelta.getOrigin(), 0L )
+                || originLog.putIfAbsent( aDelta.getSequence(), aDelta ) != null ) {
+            return;
+        }
+        advance( aDelta.getOrigin(), originLog );
+        clock = Math.max( clock, aDelta.getTimestamp() );
+
+        T element = aDelta.getElement();
+        Delta< T > latest = latestChanges.get( element );
+        if ( latest == null || isNewer( aDelta, latest ) ) {
+            latestChanges.put( element, aDelta );
+            if ( aDelta.isAdded() ) {
+                values.add( element );
+            } else {
+                values.remove( element );
+            }
+        }
+    }
+
+    private static boolean isNewer( Delta< ? > aDelta, Delta< ? > aOther ) {
+        if ( aDelta.getTimestamp() != aOther.getTimestamp() ) {
+            return aDelta.getTimestamp() > aOther.getTimestamp();
+        }
+        return aDelta.getOrigin().compareTo( aOther.getOrigin() ) > 0;
+    }
+}
@@ -0,0 +1,255 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable message exchanged by the {@link ReplicatedSystemRegistry} instances over a
+ * {@link ReplicationTransport}. A message either carries a batch of {@link Delta}s, or the digest of its sender: the
+ * version vector mapping every origin node to the highest sequence number up to which the sender has applied all
+ * the deltas of that origin.
+ * <p>
+ * A digest is answered with the deltas missing from it. As the senders compact their delta logs, such an answer also
+ * carries a base: for every origin, the sequence number up to which the answer covers all the deltas, either directly
+ * or by the deltas superseding them, so that the recipient may advance its version vector over the compacted ones.
+ *
+ * @param <T>
+ *         the type of the replicated elements
+ * @author Created by: Pplociennik at 17.10.2026 20:05
+ */
+public final class ReplicationMessage< T > {
+
+    private final String sender;
+    private final List< Delta< T > > deltas;
+    private final Map< String, Long > digest;
+    private final Map< String, Long > base;
+    private final boolean answerRequested;
+
+    private ReplicationMessage( String aSender, List< Delta< T > > aDeltas, Map< String, Long > aDigest, Map< String, Long > aBase,
+                                boolean aAnswerRequested ) {
+        sender = requireNonNull( aSender );
+        deltas = aDeltas;
+        digest = aDigest;
+        base = aBase;
+        answerRequested = aAnswerRequested;
+    }
+
+    /**
+     * Creates a message carrying a batch of deltas.
+     *
+     * @param aSender
+     *         the identifier of the sending node
+     * @param aDeltas
+     *         the deltas
+     * @return the message
+     */
+    public static < T > ReplicationMessage< T > deltas( @NonNull String aSender, @NonNull List< Delta< T > > aDeltas ) {
+        return new ReplicationMessage<>( aSender, List.copyOf( aDeltas ), null, null, false );
+    }
+
+    /**
+     * Creates a message answering a digest with the deltas missing from it.
+     *
+     * @param aSender
+     *         the identifier of the sending node
+     * @param aDeltas
+     *         the deltas missing from the digest
+     * @param aBase
+     *         the sequence numbers, by origin, up to which the deltas cover all the changes
+     * @return the message
+     */
+    public static < T > ReplicationMessage< T > answer( @NonNull String aSender, @NonNull List< Delta< T > > aDeltas,
+                                                        @NonNull Map< String, Long > aBase ) {
+        return new ReplicationMessage<>( aSender, List.copyOf( aDeltas ), null, Map.copyOf( aBase ), false );
+    }
+
+    /**
+     * Creates a message carrying the digest of its sender.
+     *
+     * @param aSender
+     *         the identifier of the sending node
+     * @param aDigest
+     *         the version vector of the sender
+     * @return the message
+     */
+    public static < T > ReplicationMessage< T > digest( @NonNull String aSender, @NonNull Map< String, Long > aDigest ) {
+        return digest( aSender, aDigest, false );
+    }
+
+    /**
+     * Creates a message carrying the digest of its sender.
+     *
+     * @param aSender
+     *         the identifier of the sending node
+     * @param aDigest
+     *         the version vector of the sender
+     * @param aAnswerRequested
+     *         whether the recipients should answer even if the sender misses no deltas
+     * @return the message
+     */
+    public static < T > ReplicationMessage< T > digest( @NonNull String aSender, @NonNull Map< String, Long > aDigest,
+                                                        boolean aAnswerRequested ) {
+        return new ReplicationMessage<>( aSender, List.of(), Map.copyOf( aDigest ), null, aAnswerRequested );
+    }
+
+    /**
+     * Returns the identifier of the sending node.
+     *
+     * @return the identifier of the sender
+     */
+    public String getSender() {
+        return sender;
+    }
+
+    /**
+     * Returns the deltas carried by the message.
+     *
+     * @return an unmodifiable list of the deltas, empty for a digest message
+     */
+    public List< Delta< T > > getDeltas() {
+        return deltas;
+    }
+
+    /**
+     * Checks whether the message carries a digest.
+     *
+     * @return {@code true} for a digest message, {@code false} for a deltas message
+     */
+    public boolean isDigest() {
+        return digest != null;
+    }
+
+    /**
+     * Returns the digest carried by the message.
+     *
+     * @return an unmodifiable version vector of the sender, empty for a deltas message
+     */
+    public Map< String, Long > getDigest() {
+        return digest != null ? digest : Map.of();
+    }
+
+    /**
+     * Checks whether the recipients of the digest should answer even if the sender misses no deltas.
+     *
+     * @return {@code true} if an answer is requested
+     */
+    public boolean isAnswerRequested() {
+        return answerRequested;
+    }
+
+    /**
+     * Checks whether the message answers a digest.
+     *
+     * @return {@code true} for an answer to a digest
+     */
+    public boolean isAnswer() {
+        return base != null;
+    }
+
+    /**
+     * Returns the base of an answer to a digest.
+     *
+     * @return an unmodifiable map of the sequence numbers, by origin, up to which the answer covers all the changes,
+     * empty for the other messages
+     */
+    public Map< String, Long > getBase() {
+        return base != null ? base : Map.of();
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicationMessage{sender=" + sender + ( isDigest() ? ", digest=" + digest : ", deltas=" + deltas ) + "}";
+    }
+
+    /**
+     * A single addition or removal of an element, identified by the node it originates from and its sequence number
+     * within that node, and ordered against the concurrent changes of the same element by its Lamport timestamp.
+     *
+     * @param <T>
+     *         the type of the replicated element
+     */
+    public static final class Delta< T > {
+
+        private final String origin;
+        private final long sequence;
+        private final long timestamp;
+        private final T element;
+        private final boolean added;
+
+        /**
+         * Creates a delta.
+         *
+         * @param aOrigin
+         *         the identifier of the node the change originates from
+         * @param aSequence
+         *         the sequence number of the change within the origin node, starting with 1
+         * @param aTimestamp
+         *         the Lamport timestamp of the change
+         * @param aElement
+         *         the changed element
+         * @param aAdded
+         *         {@code true} for an addition, {@code false} for a removal
+         */
+        public Delta( @NonNull String aOrigin, long aSequence, long aTimestamp, @NonNull T aElement, boolean aAdded ) {
+            origin = requireNonNull( aOrigin );
+            sequence = aSequence;
+            timestamp = aTimestamp;
+            element = requireNonNull( aElement );
+            added = aAdded;
+        }
+
+        /**
+         * Returns the identifier of the node the change originates from.
+         *
+         * @return the identifier of the origin node
+         */
+        public String getOrigin() {
+            return origin;
+        }
+
+        /**
+         * Returns the sequence number of the change within the origin node.
+         *
+         * @return the sequence number
+         */
+        public long getSequence() {
+            return sequence;
+        }
+
+        /**
+         * Returns the Lamport timestamp of the change.
+         *
+         * @return the timestamp
+         */
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        /**
+         * Returns the changed element.
+         *
+         * @return the element
+         */
+        public T getElement() {
+            return element;
+        }
+
+        /**
+         * Returns whether the element has been added or removed.
+         *
+         * @return {@code true} for an addition, {@code false} for a removal
+         */
+        public boolean isAdded() {
+            return added;
+        }
+
+        @Override
+        public String toString() {
+            return ( added ? "+" : "-" ) + element + "@" + origin + ":" + sequence;
+        }
+    }
+}
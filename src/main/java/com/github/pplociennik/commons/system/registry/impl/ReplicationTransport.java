@@ -0,0 +1,54 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import java.util.function.Consumer;
+
+/**
+ * A transport exchanging {@link ReplicationMessage}s between the nodes of a cluster of
+ * {@link ReplicatedSystemRegistry} instances.
+ * <p>
+ * Implementations do not need to guarantee delivery nor ordering: lost or reordered messages are repaired by the
+ * anti-entropy of the registries. The receivers may be invoked concurrently. As the registries never send while
+ * holding their locks, the messages may also be delivered synchronously by the sending thread.
+ *
+ * @param <T>
+ *         the type of the replicated elements
+ * @author Created by: Pplociennik at 17.10.2026 20:02
+ */
+public interface ReplicationTransport< T > {
+
+    /**
+     * Connects a node to the cluster. The given receiver is passed the messages sent to the node from now on.
+     *
+     * @param aNodeId
+     *         the identifier of the node, unique in the cluster
+     * @param aReceiver
+     *         the receiver of the messages sent to the node
+     */
+    void connect( String aNodeId, Consumer< ReplicationMessage< T > > aReceiver );
+
+    /**
+     * Disconnects a node from the cluster. The messages sent to the node are dropped from now on.
+     *
+     * @param aNodeId
+     *         the identifier of the node
+     */
+    void disconnect( String aNodeId );
+
+    /**
+     * Sends a message to all the connected nodes except for its sender.
+     *
+     * @param aMessage
+     *         the message to send
+     */
+    void broadcast( ReplicationMessage< T > aMessage );
+
+    /**
+     * Sends a message to a single node. The message is dropped if the node is not connected.
+     *
+     * @param aNodeId
+     *         the identifier of the recipient
+     * @param aMessage
+     *         the message to send
+     */
+    void send( String aNodeId, ReplicationMessage< T > aMessage );
+}
@@ -0,0 +1,314 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import com.github.pplociennik.commons.system.registry.CollectingSystemRegistry;
+import com.github.pplociennik.commons.system.registry.SystemRegistry;
+import org.springframework.lang.NonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A thread-safe, copy-on-write implementation of {@link CollectingSystemRegistry} designed for read-mostly workloads.
+ * <p>
+ * The contents of the registry are published as an immutable snapshot (an array-backed {@link Set} created with
+ * {@link Set#copyOf(Collection)}) through a volatile field. Readers never lock and never copy: {@link #values()} returns
+ * the current snapshot itself, while {@link #stream()}, {@link #size()} and {@link #contains(Object)} operate directly on it.
+ * Every snapshot is internally consistent, so an iteration always reflects the state of the registry after some
+ * complete write operation.
+ * <p>
+ * Writers are serialized and rebuild the snapshot in batches: every write operation, including the bulk ones such as
+ * {@link #add(Collection)}, republishes the snapshot at most once, and not at all when it does not change the contents.
+ * Each republish costs O(n), so this registry should not be used for write-heavy workloads.
+ *
+ * @param <T>
+ *         the type of elements maintained by this registry
+ * @author Created by: Pplociennik at 17.10.2026 11:05
+ */
+public final class SnapshotSystemRegistry< T > implements CollectingSystemRegistry< T > {
+
+    /**
+     * A lock serializing the writers. Readers never acquire it.
+     */
+    private final Object writeLock = new Object();
+
+    /**
+     * The currently published, immutable snapshot of the registry contents.
+     */
+    private volatile Set< T > snapshot;
+
+    /**
+     * Creates an empty registry.
+     */
+    public SnapshotSystemRegistry() {
+        this.snapshot = Set.of();
+    }
+
+    /**
+     * Creates a registry containing the specified elements.
+     *
+     * @param aObjects
+     *         the elements to be stored in the registry
+     */
+    public SnapshotSystemRegistry( @NonNull Collection< T > aObjects ) {
+        requireNonNull( aObjects );
+        this.snapshot = Set.copyOf( aObjects );
+    }
+
+    /**
+     * Adds the specified objects to the collecting system registry, publishing a single new snapshot.
+     *
+     * @param aObjects
+     *         the objects to be added to the collecting system registry
+     */
+    @SafeVarargs
+    @Override
+    public final void add( @NonNull T... aObjects ) {
+        requireNonNull( aObjects );
+        add( Arrays.asList( aObjects ) );
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry, publishing a single new snapshot.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     */
+    @Override
+    public void add( @NonNull Collection< T > aObjects ) {
+        requireNonNull( aObjects );
+        synchronized ( writeLock ) {
+            Set< T > current = snapshot;
+            Set< T > updated = new HashSet<>( current );
+            if ( updated.addAll( aObjects ) ) {
+                snapshot = Set.copyOf( updated );
+            }
+        }
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry, publishing a single new snapshot.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     */
+    @Override
+    public void remove( @NonNull Collection< T > aObjects ) {
+        requireNonNull( aObjects );
+        synchronized ( writeLock ) {
+            Set< T > current = snapshot;
+            Set< T > updated = new HashSet<>( current );
+            boolean changed = false;
+            for ( T object : aObjects ) {
+                changed |= updated.remove( object );
+            }
+            if ( changed ) {
+                snapshot = Set.copyOf( updated );
+            }
+        }
+    }
+
+    /**
+     * Checks if the specified object is present in the current snapshot of the registry.
+     *
+     * @param aObject
+     *         the object to be checked
+     * @return {@code true} if the object is present in the registry, {@code false} otherwise
+     */
+    @Override
+    public boolean contains( @NonNull T aObject ) {
+        requireNonNull( aObject );
+        return snapshot.contains( aObject );
+    }
+
+    /**
+     * Returns the number of elements in the current snapshot of the registry.
+     *
+     * @return the total number of elements in the registry
+     */
+    @Override
+    public int size() {
+        return snapshot.size();
+    }
+
+    /**
+     * Returns the current immutable snapshot of the registry. The returned collection is not affected by subsequent
+     * modifications of the registry.
+     *
+     * @return an {@code Iterable} containing all elements in the registry
+     */
+    @Override
+    public Iterable< T > values() {
+        return snapshot;
+    }
+
+    /**
+     * Returns a sequential {@code Stream} over the current immutable snapshot of the registry.
+     *
+     * @return a {@code Stream} containing all elements in the registry
+     */
+    @Override
+    public Stream< T > stream() {
+        return snapshot.stream();
+    }
+
+    /**
+     * Adds the specified object to the system registry.
+     *
+     * @param aObject
+     *         the object to be added to the system registry
+     */
+    @Override
+    public void add( @NonNull T aObject ) {
+        requireNonNull( aObject );
+        synchronized ( writeLock ) {
+            Set< T > current = snapshot;
+            if ( !current.contains( aObject ) ) {
+                Set< T > updated = new HashSet<>( current );
+                updated.add( aObject );
+                snapshot = Set.copyOf( updated );
+            }
+        }
+    }
+
+    /**
+     * Removes all elements from the system registry.
+     * After invoking this method, the registry will be empty.
+     */
+    @Override
+    public void clear() {
+        synchronized ( writeLock ) {
+            snapshot = Set.of();
+        }
+    }
+
+    /**
+     * Checks if the current snapshot of the registry is empty.
+     *
+     * @return {@code true} if the registry contains no elements, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return snapshot.isEmpty();
+    }
+
+    /**
+     * Creates and returns a copy of this {@code SystemRegistry} instance. As the snapshots are immutable,
+     * the copy shares the current snapshot with this registry and costs O(1).
+     *
+     * @return a clone of this {@code SystemRegistry} instance
+     */
+    @Override
+    public SystemRegistry< T > clone() {
+        SnapshotSystemRegistry< T > copy = new SnapshotSystemRegistry<>();
+        copy.snapshot = snapshot;
+        return copy;
+    }
+
+    /**
+     * Checks if all the specified objects are present in the current snapshot of the registry.
+     *
+     * @param aObjects
+     *         the objects to be checked
+     * @return {@code true} if all the objects are present in the registry, {@code false} otherwise
+     */
+    @Override
+    public boolean containsAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        return snapshot.containsAll( aObjects );
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry, publishing a single new snapshot.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     * @return the number of objects which were not present in the registry before
+     */
+    @Override
+    public int addAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        synchronized ( writeLock ) {
+            Set< T > updated = new HashSet<>( Math.max( 16, ( int ) ( ( snapshot.size() + aObjects.size() ) / 0.75f ) + 1 ) );
+            updated.addAll( snapshot );
+            int added = 0;
+            for ( T object : aObjects ) {
+                if ( updated.add( requireNonNull( object ) ) ) {
+                    added++;
+                }
+            }
+            if ( added > 0 ) {
+                snapshot = Set.copyOf( updated );
+            }
+            return added;
+        }
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry, publishing a single new snapshot.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     * @return the number of objects which were present in the registry before
+     */
+    @Override
+    public int removeAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        synchronized ( writeLock ) {
+            Set< T > updated = new HashSet<>( snapshot );
+            int removed = 0;
+            for ( T object : aObjects ) {
+                if ( updated.remove( requireNonNull( object ) ) ) {
+                    removed++;
+                }
+            }
+            if ( removed > 0 ) {
+                snapshot = Set.copyOf( updated );
+            }
+            return removed;
+        }
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry satisfying the specified predicate, publishing
+     * a single new snapshot.
+     *
+     * @param aFilter
+     *         the predicate selecting the elements to be removed
+     * @return the number of removed elements
+     */
+    @Override
+    public int removeIf( @NonNull Predicate< ? super T > aFilter ) {
+        requireNonNull( aFilter );
+        synchronized ( writeLock ) {
+            Set< T > current = snapshot;
+            Set< T > updated = new HashSet<>( current );
+            updated.removeIf( aFilter );
+            int removed = current.size() - updated.size();
+            if ( removed > 0 ) {
+                snapshot = Set.copyOf( updated );
+            }
+            return removed;
+        }
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry which are not contained in the specified collection,
+     * publishing a single new snapshot.
+     *
+     * @param aObjects
+     *         the collection of objects to be retained in the collecting system registry
+     * @return the number of removed elements
+     */
+    @Override
+    public int retainAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        Collection< ? > retained = aObjects instanceof Set ? aObjects : new HashSet<>( aObjects );
+        return removeIf( element -> !retained.contains( element ) );
+    }
+}
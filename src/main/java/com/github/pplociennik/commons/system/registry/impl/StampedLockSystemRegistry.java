@@ -0,0 +1,511 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import com.github.pplociennik.commons.system.registry.CollectingSystemRegistry;
+import com.github.pplociennik.commons.system.registry.SystemRegistry;
+import org.springframework.lang.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A thread-safe implementation of {@link CollectingSystemRegistry} guarded by a {@link StampedLock} instead of
+ * {@code synchronized} methods.
+ * <p>
+ * {@link #contains(Object)}, {@link #size()} and {@link #isEmpty()} are optimistic reads: they take no lock at all,
+ * read the state and then validate the stamp, falling back to a read lock only when a write happened in the meantime.
+ * To make reading a concurrently modified state safe, the elements are kept in an open-addressing hash table with
+ * linear probing (maximum load factor of 0.75) whose lookups always terminate within the length of the table, instead
+ * of a {@link java.util.HashSet}. Any exception thrown while reading an inconsistent state is discarded along with
+ * the result and the read is retried under the read lock.
+ * <p>
+ * As the class never blocks inside a monitor, threads waiting for the lock are parked rather than pinned, which makes
+ * it suitable for request handlers running in virtual threads on JDK 21 and newer. {@link #values()} and
+ * {@link #stream()} return a copy taken under the read lock.
+ *
+ * @param <T>
+ *         the type of elements maintained by this registry
+ * @author Created by: Pplociennik at 17.10.2026 19:40
+ */
+public final class StampedLockSystemRegistry< T > implements CollectingSystemRegistry< T > {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * The hash table. Free slots hold {@code null}. Replaced, never resized in place.
+     */
+    private Object[] table;
+
+    /**
+     * The number of elements stored in the table.
+     */
+    private int size;
+
+    /**
+     * Creates an empty registry.
+     */
+    public StampedLockSystemRegistry() {
+        this( DEFAULT_CAPACITY );
+    }
+
+    /**
+     * Creates an empty registry presized for the expected number of elements.
+     *
+     * @param aExpectedSize
+     *         the expected number of elements stored in the registry
+     */
+    public StampedLockSystemRegistry( int aExpectedSize ) {
+        if ( aExpectedSize < 0 ) {
+            throw new IllegalArgumentException( "The expected size cannot be negative but was: " + aExpectedSize );
+        }
+        table = new Object[ capacityFor( aExpectedSize ) ];
+    }
+
+    /**
+     * Creates a registry containing the specified elements.
+     *
+     * @param aObjects
+     *         the elements to be stored in the registry
+     */
+    public StampedLockSystemRegistry( @NonNull Collection< T > aObjects ) {
+        this( requireNonNull( aObjects ).size() );
+        add( aObjects );
+    }
+
+    /**
+     * Adds the specified objects to the collecting system registry under a single write lock.
+     *
+     * @param aObjects
+     *         the objects to be added to the collecting system registry
+     */
+    @SafeVarargs
+    @Override
+    public final void add( @NonNull T... aObjects ) {
+        requireNonNull( aObjects );
+        add( Arrays.asList( aObjects ) );
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry under a single write lock. The table
+     * is resized at most once.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     */
+    @Override
+    public void add( @NonNull Collection< T > aObjects ) {
+        requireNonNull( aObjects );
+        long stamp = lock.writeLock();
+        try {
+            ensureCapacity( size + aObjects.size() );
+            for ( T object : aObjects ) {
+                insert( requireNonNull( object ) );
+            }
+        } finally {
+            lock.unlockWrite( stamp );
+        }
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry under a single write lock.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     */
+    @Override
+    public void remove( @NonNull Collection< T > aObjects ) {
+        requireNonNull( aObjects );
+        long stamp = lock.writeLock();
+        try {
+            for ( T object : aObjects ) {
+                delete( requireNonNull( object ) );
+            }
+        } finally {
+            lock.unlockWrite( stamp );
+        }
+    }
+
+    /**
+     * Checks if the specified object is present in the collecting system registry, using an optimistic read.
+     *
+     * @param aObject
+     *         the object to be checked
+     * @return {@code true} if the object is present in the registry, {@code false} otherwise
+     */
+    @Override
+    public boolean contains( @NonNull T aObject ) {
+        requireNonNull( aObject );
+        long stamp = lock.tryOptimisticRead();
+        if ( stamp != 0L ) {
+            try {
+                boolean found = indexOf( table, aObject ) >= 0;
+                if ( lock.validate( stamp ) ) {
+                    return found;
+                }
+            } catch ( RuntimeException aE ) {
+                // An inconsistent state has been read, retried below under the read lock.
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return indexOf( table, aObject ) >= 0;
+        } finally {
+            lock.unlockRead( stamp );
+        }
+    }
+
+    /**
+     * Returns the number of elements currently stored in the registry, using an optimistic read.
+     *
+     * @return the total number of elements in the registry
+     */
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int currentSize = size;
+        if ( !lock.validate( stamp ) ) {
+            stamp = lock.readLock();
+            try {
+                currentSize = size;
+            } finally {
+                lock.unlockRead( stamp );
+            }
+        }
+        return currentSize;
+    }
+
+    /**
+     * Returns a copy of all elements currently stored in the registry, taken under the read lock.
+     *
+     * @return an {@code Iterable} containing all elements in the registry
+     */
+    @Override
+    public Iterable< T > values() {
+        return copyValues();
+    }
+
+    /**
+     * Returns a sequential {@code Stream} over a copy of all elements currently stored in the registry, taken under
+     * the read lock.
+     *
+     * @return a {@code Stream} containing all elements in the registry
+     */
+    @Override
+    public Stream< T > stream() {
+        return copyValues().stream();
+    }
+
+    /**
+     * Adds the specified object to the system registry.
+     *
+     * @param aObject
+     *         the object to be added to the system registry
+     */
+    @Override
+    public void add( @NonNull T aObject ) {
+        requireNonNull( aObject );
+        long stamp = lock.writeLock();
+        try {
+            insert( aObject );
+        } finally {
+            lock.unlockWrite( stamp );
+        }
+    }
+
+    /**
+     * Removes all elements from the system registry. The capacity of the table is retained.
+     */
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            table = new Object[ table.length ];
+            size = 0;
+        } finally {
+            lock.unlockWrite( stamp );
+        }
+    }
+
+    /**
+     * Checks if the registry is empty, using an optimistic read.
+     *
+     * @return {@code true} if the registry contains no elements, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Creates and returns an independent copy of this {@code SystemRegistry} instance.
+     *
+     * @return a clone of this {@code SystemRegistry} instance
+     */
+    @Override
+    public SystemRegistry< T > clone() {
+        StampedLockSystemRegistry< T > copy = new StampedLockSystemRegistry<>( 0 );
+        long stamp = lock.readLock();
+        try {
+            copy.table = table.clone();
+            copy.size = size;
+        } finally {
+            lock.unlockRead( stamp );
+        }
+        return copy;
+    }
+
+    /**
+     * Checks if all the specified objects are present in the collecting system registry, under a single read lock.
+     *
+     * @param aObjects
+     *         the objects to be checked
+     * @return {@code true} if all the objects are present in the registry, {@code false} otherwise
+     */
+    @Override
+    public boolean containsAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        long stamp = lock.readLock();
+        try {
+            for ( T object : aObjects ) {
+                if ( indexOf( table, requireNonNull( object ) ) < 0 ) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            lock.unlockRead( stamp );
+        }
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry under a single write lock. The table
+     * is resized at most once.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     * @return the number of objects which were not present in the registry before
+     */
+    @Override
+    public int addAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        long stamp = lock.writeLock();
+        try {
+            ensureCapacity( size + aObjects.size() );
+            int added = 0;
+            for ( T object : aObjects ) {
+                if ( insert( requireNonNull( object ) ) ) {
+                    added++;
+                }
+            }
+            return added;
+        } finally {
+            lock.unlockWrite( stamp );
+        }
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry under a single write lock.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     * @return the number of objects which were present in the registry before
+     */
+    @Override
+    public int removeAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        long stamp = lock.writeLock();
+        try {
+            int removed = 0;
+            for ( T object : aObjects ) {
+                if ( delete( requireNonNull( object ) ) ) {
+                    removed++;
+                }
+            }
+            return removed;
+        } finally {
+            lock.unlockWrite( stamp );
+        }
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry satisfying the specified predicate under a single
+     * write lock.
+     *
+     * @param aFilter
+     *         the predicate selecting the elements to be removed
+     * @return the number of removed elements
+     */
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public int removeIf( @NonNull Predicate< ? super T > aFilter ) {
+        requireNonNull( aFilter );
+        long stamp = lock.writeLock();
+        try {
+            // The matching elements are collected first, as the removals shift the elements within the table.
+            List< Object > matching = new ArrayList<>();
+            for ( Object element : table ) {
+                if ( element != null && aFilter.test( ( T ) element ) ) {
+                    matching.add( element );
+                }
+            }
+            matching.forEach( this::delete );
+            return matching.size();
+        } finally {
+            lock.unlockWrite( stamp );
+        }
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry which are not contained in the specified collection,
+     * under a single write lock.
+     *
+     * @param aObjects
+     *         the collection of objects to be retained in the collecting system registry
+     * @return the number of removed elements
+     */
+    @Override
+    public int retainAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        Collection< ? > retained = aObjects instanceof Set ? aObjects : new HashSet<>( aObjects );
+        return removeIf( element -> !retained.contains( element ) );
+    }
+
+    @SuppressWarnings( "unchecked" )
+    private List< T > copyValues() {
+        long stamp = lock.readLock();
+        try {
+            List< T > copy = new ArrayList<>( size );
+            for ( Object element : table ) {
+                if ( element != null ) {
+                    copy.add( ( T ) element );
+                }
+            }
+            return copy;
+        } finally {
+            lock.unlockRead( stamp );
+        }
+    }
+
+    /**
+     * Looks the element up in the given table. The number of probes is bounded by the length of the table, so the
+     * lookup terminates even when the table is concurrently modified.
+     */
+    private static int indexOf( Object[] aTable, Object aElement ) {
+        int mask = aTable.length - 1;
+        int index = indexFor( aElement, mask );
+        for ( int probe = 0; probe < aTable.length; probe++ ) {
+            Object current = aTable[ index ];
+            if ( current == null ) {
+                return -1;
+            }
+            if ( current.equals( aElement ) ) {
+                return index;
+            }
+            index = ( index + 1 ) & mask;
+        }
+        return -1;
+    }
+
+    private boolean insert( Object aElement ) {
+        int mask = table.length - 1;
+        int index = indexFor( aElement, mask );
+        Object current;
+        while ( ( current = table[ index ] ) != null ) {
+            if ( current.equals( aElement ) ) {
+                return false;
+            }
+            index = ( index + 1 ) & mask;
+        }
+        table[ index ] = aElement;
+        if ( ++size > maxFill( table.length ) ) {
+            rehash( table.length << 1 );
+        }
+        return true;
+    }
+
+    private boolean delete( Object aElement ) {
+        int index = indexOf( table, aElement );
+        if ( index < 0 ) {
+            return false;
+        }
+        shiftKeys( index, table.length - 1 );
+        size--;
+        return true;
+    }
+
+    private void ensureCapacity( int aExpectedSize ) {
+        int capacity = capacityFor( aExpectedSize );
+        if ( capacity > table.length ) {
+            rehash( capacity );
+        }
+    }
+
+    /**
+     * Builds the resized table aside and publishes it at once, so optimistic readers never see a partially filled one.
+     */
+    private void rehash( int aCapacity ) {
+        if ( aCapacity > MAXIMUM_CAPACITY ) {
+            throw new IllegalStateException( "The registry cannot hold more than " + maxFill( MAXIMUM_CAPACITY ) + " elements." );
+        }
+        Object[] newTable = new Object[ aCapacity ];
+        int mask = aCapacity - 1;
+        for ( Object element : table ) {
+            if ( element != null ) {
+                int index = indexFor( element, mask );
+                while ( newTable[ index ] != null ) {
+                    index = ( index + 1 ) & mask;
+                }
+                newTable[ index ] = element;
+            }
+        }
+        table = newTable;
+    }
+
+    /**
+     * Fills the slot freed at the given position by shifting back the elements of the same probe sequence.
+     */
+    private void shiftKeys( int aFreedIndex, int aMask ) {
+        int last = aFreedIndex;
+        int index = aFreedIndex;
+        while ( true ) {
+            index = ( index + 1 ) & aMask;
+            Object current = table[ index ];
+            if ( current == null ) {
+                table[ last ] = null;
+                return;
+            }
+            int home = indexFor( current, aMask );
+            // The element may be moved only if its home slot is not within the cyclic range (last, index].
+            if ( last <= index ? ( last >= home || home > index ) : ( last >= home && home > index ) ) {
+                table[ last ] = current;
+                last = index;
+            }
+        }
+    }
+
+    private static int indexFor( Object aElement, int aMask ) {
+        int hash = aElement.hashCode() * 0x9E3779B9;
+        return ( hash ^ ( hash >>> 16 ) ) & aMask;
+    }
+
+    private static int maxFill( int aCapacity ) {
+        return ( int ) ( aCapacity * 3L / 4 );
+    }
+
+    private static int capacityFor( int aExpectedSize ) {
+        long required = Math.max( DEFAULT_CAPACITY, ( long ) Math.ceil( aExpectedSize / 0.75 ) + 1 );
+        long capacity = Long.highestOneBit( required - 1 ) << 1;
+        return ( int ) Math.min( capacity, MAXIMUM_CAPACITY );
+    }
+}
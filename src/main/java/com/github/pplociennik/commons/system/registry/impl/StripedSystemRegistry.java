@@ -0,0 +1,560 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import com.github.pplociennik.commons.system.registry.CollectingSystemRegistry;
+import com.github.pplociennik.commons.system.registry.SystemRegistry;
+import org.springframework.lang.NonNull;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A thread-safe, lock-striped implementation of {@link CollectingSystemRegistry}. Elements are hashed into a fixed number
+ * of shards, each being a {@link HashSet} guarded by its own {@link ReentrantReadWriteLock}, so writers touching
+ * different shards never contend with each other and readers of a shard never block each other.
+ * <p>
+ * The number of shards is configurable and defaults to the number of available processors. Bulk operations group
+ * their arguments by shard and acquire each shard lock at most once. Operations spanning the whole registry
+ * ({@link #size()}, {@link #clear()}, iteration) are performed shard by shard and are therefore not atomic.
+ * <p>
+ * The {@link #stream()} of this registry is backed by a spliterator splitting along shard boundaries, which makes
+ * {@code registry.stream().parallel()} process the shards independently on all available cores. Each shard is
+ * copied under its read lock when the traversal reaches it, so the iteration never throws
+ * {@link ConcurrentModificationException}.
+ *
+ * @param <T>
+ *         the type of elements maintained by this registry
+ * @author Created by: Pplociennik at 17.10.2026 11:48
+ */
+public final class StripedSystemRegistry< T > implements CollectingSystemRegistry< T > {
+
+    /**
+     * The shards holding the elements of the registry.
+     */
+    private final Shard< T >[] shards;
+
+    /**
+     * Creates an empty registry with the number of shards equal to the number of available processors.
+     */
+    public StripedSystemRegistry() {
+        this( Runtime.getRuntime().availableProcessors() );
+    }
+
+    /**
+     * Creates an empty registry with the specified number of shards.
+     *
+     * @param aShardsCount
+     *         the number of independently locked shards
+     * @throws IllegalArgumentException
+     *         if the number of shards is not positive
+     */
+    @SuppressWarnings( "unchecked" )
+    public StripedSystemRegistry( int aShardsCount ) {
+        if ( aShardsCount <= 0 ) {
+            throw new IllegalArgumentException( "The number of shards must be positive but was: " + aShardsCount );
+        }
+        shards = ( Shard< T >[] ) new Shard< ? >[ aShardsCount ];
+        for ( int i = 0; i < aShardsCount; i++ ) {
+            shards[ i ] = new Shard<>();
+        }
+    }
+
+    /**
+     * Returns the number of shards of the registry.
+     *
+     * @return the number of shards
+     */
+    public int getShardsCount() {
+        return shards.length;
+    }
+
+    /**
+     * Adds the specified objects to the collecting system registry.
+     *
+     * @param aObjects
+     *         the objects to be added to the collecting system registry
+     */
+    @SafeVarargs
+    @Override
+    public final void add( @NonNull T... aObjects ) {
+        requireNonNull( aObjects );
+        add( Arrays.asList( aObjects ) );
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry.
+     * Each shard lock is acquired at most once.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     */
+    @Override
+    public void add( @NonNull Collection< T > aObjects ) {
+        requireNonNull( aObjects );
+        List< T >[] grouped = groupByShard( aObjects );
+        for ( int i = 0; i < shards.length; i++ ) {
+            if ( grouped[ i ] != null ) {
+                shards[ i ].addAll( grouped[ i ] );
+            }
+        }
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry.
+     * Each shard lock is acquired at most once.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     */
+    @Override
+    public void remove( @NonNull Collection< T > aObjects ) {
+        requireNonNull( aObjects );
+        List< T >[] grouped = groupByShard( aObjects );
+        for ( int i = 0; i < shards.length; i++ ) {
+            if ( grouped[ i ] != null ) {
+                shards[ i ].removeAll( grouped[ i ] );
+            }
+        }
+    }
+
+    /**
+     * Checks if the specified object is present in the collecting system registry.
+     *
+     * @param aObject
+     *         the object to be checked
+     * @return {@code true} if the object is present in the registry, {@code false} otherwise
+     */
+    @Override
+    public boolean contains( @NonNull T aObject ) {
+        requireNonNull( aObject );
+        return shardFor( aObject ).contains( aObject );
+    }
+
+    /**
+     * Returns the number of elements currently stored in the registry.
+     * The value is an estimate if the registry is being modified concurrently.
+     *
+     * @return the total number of elements in the registry
+     */
+    @Override
+    public int size() {
+        int size = 0;
+        for ( Shard< T > shard : shards ) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns a copy of all elements currently stored in the registry.
+     *
+     * @return an {@code Iterable} containing all elements in the registry
+     */
+    @Override
+    public Iterable< T > values() {
+        List< T > values = new ArrayList<>( size() );
+        for ( Shard< T > shard : shards ) {
+            shard.copyTo( values );
+        }
+        return values;
+    }
+
+    /**
+     * Returns a sequential {@code Stream} containing all elements currently stored in the registry.
+     * The stream splits along shard boundaries when made parallel.
+     *
+     * @return a {@code Stream} containing all elements in the registry
+     */
+    @Override
+    public Stream< T > stream() {
+        return StreamSupport.stream( new ShardSpliterator( 0, shards.length, size() ), false );
+    }
+
+    /**
+     * Adds the specified object to the system registry.
+     *
+     * @param aObject
+     *         the object to be added to the system registry
+     */
+    @Override
+    public void add( @NonNull T aObject ) {
+        requireNonNull( aObject );
+        shardFor( aObject ).add( aObject );
+    }
+
+    /**
+     * Removes all elements from the system registry. The shards are cleared one by one.
+     */
+    @Override
+    public void clear() {
+        for ( Shard< T > shard : shards ) {
+            shard.clear();
+        }
+    }
+
+    /**
+     * Checks if the registry is empty.
+     *
+     * @return {@code true} if the registry contains no elements, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        for ( Shard< T > shard : shards ) {
+            if ( shard.size() > 0 ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates and returns an independent copy of this {@code SystemRegistry} instance with the same number of shards.
+     *
+     * @return a clone of this {@code SystemRegistry} instance
+     */
+    @Override
+    public SystemRegistry< T > clone() {
+        StripedSystemRegistry< T > copy = new StripedSystemRegistry<>( shards.length );
+        for ( int i = 0; i < shards.length; i++ ) {
+            shards[ i ].copyTo( copy.shards[ i ].values );
+        }
+        return copy;
+    }
+
+    /**
+     * Checks if all the specified objects are present in the collecting system registry, locking each shard once.
+     *
+     * @param aObjects
+     *         the objects to be checked
+     * @return {@code true} if all the objects are present in the registry, {@code false} otherwise
+     */
+    @Override
+    public boolean containsAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        List< T >[] grouped = groupByShard( aObjects );
+        for ( int i = 0; i < shards.length; i++ ) {
+            if ( grouped[ i ] != null && !shards[ i ].containsAll( grouped[ i ] ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry, locking each shard once.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     * @return the number of objects which were not present in the registry before
+     */
+    @Override
+    public int addAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        List< T >[] grouped = groupByShard( aObjects );
+        int added = 0;
+        for ( int i = 0; i < shards.length; i++ ) {
+            if ( grouped[ i ] != null ) {
+                added += shards[ i ].addAll( grouped[ i ] );
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry, locking each shard once.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     * @return the number of objects which were present in the registry before
+     */
+    @Override
+    public int removeAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        List< T >[] grouped = groupByShard( aObjects );
+        int removed = 0;
+        for ( int i = 0; i < shards.length; i++ ) {
+            if ( grouped[ i ] != null ) {
+                removed += shards[ i ].removeAll( grouped[ i ] );
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry satisfying the specified predicate, locking each
+     * shard once.
+     *
+     * @param aFilter
+     *         the predicate selecting the elements to be removed
+     * @return the number of removed elements
+     */
+    @Override
+    public int removeIf( @NonNull Predicate< ? super T > aFilter ) {
+        requireNonNull( aFilter );
+        int removed = 0;
+        for ( Shard< T > shard : shards ) {
+            removed += shard.removeIf( aFilter );
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry which are not contained in the specified collection,
+     * locking each shard once.
+     *
+     * @param aObjects
+     *         the collection of objects to be retained in the collecting system registry
+     * @return the number of removed elements
+     */
+    @Override
+    public int retainAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        Collection< ? > retained = aObjects instanceof Set ? aObjects : new HashSet<>( aObjects );
+        return removeIf( element -> !retained.contains( element ) );
+    }
+
+    private Shard< T > shardFor( T aObject ) {
+        return shards[ shardIndex( aObject ) ];
+    }
+
+    private int shardIndex( T aObject ) {
+        int hash = aObject.hashCode();
+        return Math.floorMod( hash ^ ( hash >>> 16 ), shards.length );
+    }
+
+    @SuppressWarnings( "unchecked" )
+    private List< T >[] groupByShard( Collection< ? extends T > aObjects ) {
+        List< T >[] grouped = ( List< T >[] ) new List< ? >[ shards.length ];
+        for ( T object : aObjects ) {
+            requireNonNull( object );
+            int index = shardIndex( object );
+            if ( grouped[ index ] == null ) {
+                grouped[ index ] = new ArrayList<>();
+            }
+            grouped[ index ].add( object );
+        }
+        return grouped;
+    }
+
+    /**
+     * A single shard of the registry: a {@link HashSet} guarded by a read-write lock.
+     *
+     * @param <E>
+     *         the type of elements stored in the shard
+     */
+    private static final class Shard< E > {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Set< E > values = new HashSet<>();
+
+        void add( E aObject ) {
+            lock.writeLock().lock();
+            try {
+                values.add( aObject );
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        int addAll( Collection< E > aObjects ) {
+            lock.writeLock().lock();
+            try {
+                int added = 0;
+                for ( E object : aObjects ) {
+                    if ( values.add( object ) ) {
+                        added++;
+                    }
+                }
+                return added;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        int removeAll( Collection< E > aObjects ) {
+            lock.writeLock().lock();
+            try {
+                int removed = 0;
+                for ( E object : aObjects ) {
+                    if ( values.remove( object ) ) {
+                        removed++;
+                    }
+                }
+                return removed;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        int removeIf( Predicate< ? super E > aFilter ) {
+            lock.writeLock().lock();
+            try {
+                int sizeBefore = values.size();
+                values.removeIf( aFilter );
+                return sizeBefore - values.size();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void clear() {
+            lock.writeLock().lock();
+            try {
+                values.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        boolean containsAll( Collection< E > aObjects ) {
+            lock.readLock().lock();
+            try {
+                return values.containsAll( aObjects );
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        boolean contains( E aObject ) {
+            lock.readLock().lock();
+            try {
+                return values.contains( aObject );
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return values.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void copyTo( Collection< E > aTarget ) {
+            lock.readLock().lock();
+            try {
+                aTarget.addAll( values );
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        Object[] toArray() {
+            lock.readLock().lock();
+            try {
+                return values.toArray();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * A spliterator traversing a range of shards. It splits by handing over the partially traversed shard, then by
+     * halving the range of the remaining shards, and once a single shard is left, by splitting the snapshot of that
+     * shard.
+     */
+    private final class ShardSpliterator implements Spliterator< T > {
+
+        private int nextShard;
+        private final int endShard;
+        private long estimatedSize;
+        private Spliterator< Object > current;
+
+        ShardSpliterator( int aFromShard, int aToShard, long aEstimatedSize ) {
+            this.nextShard = aFromShard;
+            this.endShard = aToShard;
+            this.estimatedSize = aEstimatedSize;
+        }
+
+        @Override
+        @SuppressWarnings( "unchecked" )
+        public boolean tryAdvance( Consumer< ? super T > aAction ) {
+            requireNonNull( aAction );
+            do {
+                if ( current != null && current.tryAdvance( element -> aAction.accept( ( T ) element ) ) ) {
+                    if ( estimatedSize > 0 ) {
+                        estimatedSize--;
+                    }
+                    return true;
+                }
+            } while ( advanceShard() );
+            estimatedSize = 0;
+            return false;
+        }
+
+        @Override
+        @SuppressWarnings( "unchecked" )
+        public void forEachRemaining( Consumer< ? super T > aAction ) {
+            requireNonNull( aAction );
+            do {
+                if ( current != null ) {
+                    current.forEachRemaining( element -> aAction.accept( ( T ) element ) );
+                }
+            } while ( advanceShard() );
+            estimatedSize = 0;
+        }
+
+        @Override
+        @SuppressWarnings( "unchecked" )
+        public Spliterator< T > trySplit() {
+            if ( current != null && nextShard < endShard ) {
+                // The partially traversed shard becomes the prefix, leaving the untouched shards to this spliterator.
+                Spliterator< Object > prefix = current;
+                current = null;
+                if ( prefix.estimateSize() > 0 ) {
+                    estimatedSize = Math.max( 0, estimatedSize - prefix.estimateSize() );
+                    return ( Spliterator< T > ) ( Spliterator< ? > ) prefix;
+                }
+            }
+            int remainingShards = endShard - nextShard;
+            if ( remainingShards > 1 ) {
+                int middle = nextShard + remainingShards / 2;
+                long prefixSize = estimatedSize / 2;
+                ShardSpliterator prefix = new ShardSpliterator( nextShard, middle, prefixSize );
+                nextShard = middle;
+                estimatedSize -= prefixSize;
+                return prefix;
+            }
+            if ( current == null && remainingShards == 1 ) {
+                advanceShard();
+            }
+            if ( current != null && nextShard == endShard ) {
+                Spliterator< Object > split = current.trySplit();
+                if ( split != null ) {
+                    estimatedSize = current.estimateSize();
+                    return ( Spliterator< T > ) ( Spliterator< ? > ) split;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimatedSize;
+        }
+
+        @Override
+        public int characteristics() {
+            return DISTINCT | NONNULL;
+        }
+
+        private boolean advanceShard() {
+            if ( nextShard >= endShard ) {
+                current = null;
+                return false;
+            }
+            Object[] snapshot = shards[ nextShard++ ].toArray();
+            current = Spliterators.spliterator( snapshot, DISTINCT | NONNULL );
+            return true;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.lang.NonNull;
 
 import java.util.*;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
@@ -160,6 +161,99 @@ public final class SynchronizedHashSetBasedSystemRegistry< T > implements Collec
      */
     @Override
     public SystemRegistry< T > clone() {
-        return new SynchronizedHashSetBasedSystemRegistry<>( values );
+        // Iterating a synchronized set requires holding its lock.
+        synchronized ( values ) {
+            return new SynchronizedHashSetBasedSystemRegistry<>( Collections.synchronizedSet( new HashSet<>( values ) ) );
+        }
+    }
+
+    /**
+     * Checks if all the specified objects are present in the collecting system registry.
+     *
+     * @param aObjects
+     *         the objects to be checked
+     * @return {@code true} if all the objects are present in the registry, {@code false} otherwise
+     */
+    @Override
+    public boolean containsAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        return values.containsAll( aObjects );
+    }
+
+    /**
+     * Adds a collection of specified objects to the collecting system registry, holding the lock once for the whole
+     * batch.
+     *
+     * @param aObjects
+     *         the collection of objects to be added to the collecting system registry
+     * @return the number of objects which were not present in the registry before
+     */
+    @Override
+    public synchronized int addAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        synchronized ( values ) {
+            int added = 0;
+            for ( T object : aObjects ) {
+                if ( values.add( requireNonNull( object ) ) ) {
+                    added++;
+                }
+            }
+            return added;
+        }
+    }
+
+    /**
+     * Removes a collection of specified objects from the collecting system registry, holding the lock once for the
+     * whole batch.
+     *
+     * @param aObjects
+     *         the collection of objects to be removed from the collecting system registry
+     * @return the number of objects which were present in the registry before
+     */
+    @Override
+    public synchronized int removeAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        synchronized ( values ) {
+            int removed = 0;
+            for ( T object : aObjects ) {
+                if ( values.remove( requireNonNull( object ) ) ) {
+                    removed++;
+                }
+            }
+            return removed;
+        }
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry satisfying the specified predicate, holding the lock
+     * once for the whole batch.
+     *
+     * @param aFilter
+     *         the predicate selecting the elements to be removed
+     * @return the number of removed elements
+     */
+    @Override
+    public synchronized int removeIf( @NonNull Predicate< ? super T > aFilter ) {
+        requireNonNull( aFilter );
+        synchronized ( values ) {
+            int sizeBefore = values.size();
+            values.removeIf( aFilter );
+            return sizeBefore - values.size();
+        }
+    }
+
+    /**
+     * Removes all the elements of the collecting system registry which are not contained in the specified collection,
+     * holding the lock once for the whole batch.
+     *
+     * @param aObjects
+     *         the collection of objects to be retained in the collecting system registry
+     * @return the number of removed elements
+     */
+    @Override
+    public int retainAll( @NonNull Collection< ? extends T > aObjects ) {
+        requireNonNull( aObjects );
+        Collection< ? > retained = aObjects instanceof Set ? aObjects : new HashSet<>( aObjects );
+        return removeIf( element -> !retained.contains( element ) );
     }
 }
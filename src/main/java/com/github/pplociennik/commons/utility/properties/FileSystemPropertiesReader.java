@@ -0,0 +1,288 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Przemysław Płóciennik
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.pplociennik.commons.utility.properties;
+
+import com.github.pplociennik.commons.exc.properties.ReadingPropertiesException;
+import org.springframework.lang.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.github.pplociennik.commons.lang.CommonsResExcMsgTranslationKey.READING_PROPERTIES_FAILED;
+import static com.github.pplociennik.commons.utility.CustomObjects.requireNonEmpty;
+import static java.nio.file.StandardWatchEventKinds.*;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A reader of properties files located in a directory of the file system, reloading the files when they change.
+ * <p>
+ * A file is parsed on its first read and its directory is then watched with a {@link WatchService}. When the file is
+ * created, modified or deleted, it is parsed again in the background once no further change has been seen for the
+ * debounce period, so that a burst of writes results in a single reload. The parsed contents are kept as immutable
+ * snapshots swapped atomically, therefore the reads never block and never see a partially loaded file. If the file
+ * cannot be parsed, e.g. because it has been deleted, the previous snapshot is retained. To avoid reading a file which
+ * is still being written, it is recommended to replace the files by moving them into the directory.
+ * <p>
+ * The registered {@link ChangeListener}s are notified, on the thread of the reloads, about every file whose contents
+ * differ after a reload. An exception thrown by a listener does not prevent the other listeners from being notified; it
+ * is passed to the uncaught exception handler of the reloading thread. The reader holds a watcher thread until it is
+ * closed.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 21:58
+ */
+public class FileSystemPropertiesReader implements AutoCloseable {
+
+    private static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis( 200 );
+
+    private final Path directory;
+    private final long debounceMillis;
+    private final WatchService watchService;
+    private final ScheduledExecutorService reloader;
+
+    private final ConcurrentMap< Path, Map< String, String > > snapshots = new ConcurrentHashMap<>();
+    private final ConcurrentMap< Path, WatchKey > watchedDirectories = new ConcurrentHashMap<>();
+    private final ConcurrentMap< Path, ScheduledFuture< ? > > pendingReloads = new ConcurrentHashMap<>();
+    private final List< ChangeListener > listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a reader of the properties files in the specified directory with the default debounce period of 200 ms.
+     *
+     * @param aDirectory
+     *         the directory the paths of the files are resolved against
+     */
+    public FileSystemPropertiesReader( @NonNull Path aDirectory ) {
+        this( aDirectory, DEFAULT_DEBOUNCE );
+    }
+
+    /**
+     * Creates a reader of the properties files in the specified directory.
+     *
+     * @param aDirectory
+     *         the directory the paths of the files are resolved against
+     * @param aDebounce
+     *         the time without further changes of a file after which the file is reloaded
+     * @throws UncheckedIOException
+     *         when the file system cannot be watched
+     */
+    public FileSystemPropertiesReader( @NonNull Path aDirectory, @NonNull Duration aDebounce ) {
+        directory = requireNonNull( aDirectory ).toAbsolutePath().normalize();
+        debounceMillis = requireNonNull( aDebounce ).toMillis();
+        if ( debounceMillis < 0 ) {
+            throw new IllegalArgumentException( "The debounce period must not be negative but was: " + aDebounce );
+        }
+        try {
+            watchService = directory.getFileSystem().newWatchService();
+        } catch ( IOException aE ) {
+            throw new UncheckedIOException( aE );
+        }
+        reloader = Executors.newSingleThreadScheduledExecutor( runnable -> daemon( runnable, "properties-reloader" ) );
+        daemon( this::watch, "properties-watcher" ).start();
+    }
+
+    /**
+     * Returns a value for the specified property in the specified file.
+     *
+     * @param aPath
+     *         a path to the properties file, relative to the directory of the reader
+     * @param aKey
+     *         the property key
+     * @return a value of the property
+     * @throws IllegalStateException
+     *         when the key was not found in the file
+     * @throws ReadingPropertiesException
+     *         when the file has never been read successfully
+     */
+    public String readProperty( String aPath, String aKey ) {
+        requireNonEmpty( aKey );
+        requireNonEmpty( aPath );
+
+        var file = resolve( aPath );
+        var properties = snapshots.get( file );
+        if ( properties == null ) {
+            properties = snapshots.computeIfAbsent( file, this::loadAndWatch );
+        }
+        return PropertiesReader.validateProperty( properties.get( aKey ), aKey, aPath );
+    }
+
+    /**
+     * Registers a listener notified about the changes of the read files.
+     *
+     * @param aListener
+     *         the listener to register
+     */
+    public void addChangeListener( @NonNull ChangeListener aListener ) {
+        listeners.add( requireNonNull( aListener ) );
+    }
+
+    /**
+     * Unregisters a previously registered listener.
+     *
+     * @param aListener
+     *         the listener to unregister
+     */
+    public void removeChangeListener( @NonNull ChangeListener aListener ) {
+        listeners.remove( requireNonNull( aListener ) );
+    }
+
+    /**
+     * Stops watching the files. The snapshots read so far remain readable, but are no longer reloaded.
+     */
+    @Override
+    public void close() {
+        reloader.shutdownNow();
+        try {
+            watchService.close();
+        } catch ( IOException aE ) {
+            throw new UncheckedIOException( aE );
+        }
+    }
+
+    private Path resolve( String aPath ) {
+        Path file = directory.resolve( aPath ).normalize();
+        if ( !file.startsWith( directory ) ) {
+            throw new IllegalArgumentException( "The path '" + aPath + "' is outside of the directory: " + directory );
+        }
+        return file;
+    }
+
+    private Map< String, String > loadAndWatch( Path aFile ) {
+        // The directory is watched before the first parse, so that no change following the parse is missed.
+        watchedDirectories.computeIfAbsent( aFile.getParent(), this::register );
+        return load( aFile );
+    }
+
+    private WatchKey register( Path aDirectory ) {
+        try {
+            return aDirectory.register( watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE );
+        } catch ( IOException | ClosedWatchServiceException aE ) {
+            throw new ReadingPropertiesException( aE, READING_PROPERTIES_FAILED, aDirectory.toString() );
+        }
+    }
+
+    private Map< String, String > load( Path aFile ) {
+        try ( InputStream inputStream = Files.newInputStream( aFile ) ) {
+            return PropertiesReader.parse( inputStream );
+        } catch ( IOException | IllegalArgumentException aE ) {
+            throw new ReadingPropertiesException( aE, READING_PROPERTIES_FAILED, directory.relativize( aFile ).toString() );
+        }
+    }
+
+    private void watch() {
+        try {
+            while ( true ) {
+                WatchKey key = watchService.take();
+                Path watchedDirectory = ( Path ) key.watchable();
+                for ( WatchEvent< ? > event : key.pollEvents() ) {
+                    if ( event.kind() == OVERFLOW ) {
+                        // The events have been lost, any of the files of the directory might have changed.
+                        snapshots.keySet().stream().filter( file -> file.getParent().equals( watchedDirectory ) ).forEach( this::scheduleReload );
+                    } else {
+                        Path file = watchedDirectory.resolve( ( Path ) event.context() );
+                        if ( snapshots.containsKey( file ) ) {
+                            scheduleReload( file );
+                        }
+                    }
+                }
+                key.reset();
+            }
+        } catch ( InterruptedException aE ) {
+            Thread.currentThread().interrupt();
+        } catch ( ClosedWatchServiceException aE ) {
+            // The reader has been closed.
+        }
+    }
+
+    private void scheduleReload( Path aFile ) {
+        pendingReloads.compute( aFile, ( file, pending ) -> {
+            if ( pending != null ) {
+                pending.cancel( false );
+            }
+            try {
+                AtomicReference< ScheduledFuture< ? > > self = new AtomicReference<>();
+                ScheduledFuture< ? > scheduled = reloader.schedule( () -> reload( file, self ), debounceMillis, TimeUnit.MILLISECONDS );
+                self.set( scheduled );
+                return scheduled;
+            } catch ( RejectedExecutionException aE ) {
+                // The reader has been closed.
+                return null;
+            }
+        } );
+    }
+
+    private void reload( Path aFile, AtomicReference< ScheduledFuture< ? > > aSelf ) {
+        // Removes only the own entry, not a reload scheduled after this one has started. The reference is read under the
+        // lock of the entry, which the scheduling holds until the reference has been set.
+        pendingReloads.computeIfPresent( aFile, ( file, pending ) -> pending == aSelf.get() ? null : pending );
+        Map< String, String > reloaded;
+        try {
+            reloaded = load( aFile );
+        } catch ( ReadingPropertiesException aE ) {
+            // The previous snapshot is retained until the file can be parsed again.
+            return;
+        }
+        Map< String, String > previous = snapshots.put( aFile, reloaded );
+        if ( !reloaded.equals( previous ) ) {
+            String path = directory.relativize( aFile ).toString();
+            for ( ChangeListener listener : listeners ) {
+                try {
+                    listener.onChange( path, reloaded );
+                } catch ( RuntimeException aE ) {
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException( thread, aE );
+                }
+            }
+        }
+    }
+
+    private static Thread daemon( Runnable aRunnable, String aName ) {
+        Thread thread = new Thread( aRunnable, aName );
+        thread.setDaemon( true );
+        return thread;
+    }
+
+    /**
+     * A listener of the changes of the files read by a {@link FileSystemPropertiesReader}.
+     */
+    @FunctionalInterface
+    public interface ChangeListener {
+
+        /**
+         * Invoked after a changed file has been reloaded.
+         *
+         * @param aPath
+         *         the path of the file, relative to the directory of the reader
+         * @param aProperties
+         *         the new, immutable contents of the file
+         */
+        void onChange( String aPath, Map< String, String > aProperties );
+    }
+}
@@ -0,0 +1,431 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Przemysław Płóciennik
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.pplociennik.commons.utility.properties;
+
+import com.github.pplociennik.commons.exc.properties.ReadingPropertiesException;
+import org.springframework.lang.NonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static com.github.pplociennik.commons.lang.CommonsResExcMsgTranslationKey.READING_PROPERTIES_FAILED;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A properties file mapped into memory and indexed without loading its contents on the heap.
+ * <p>
+ * On opening, the file is scanned once and an index of its entries is built: for every key, the hash of the key and
+ * the offsets of the key and of the value in the file, stored in primitive arrays. The keys and the values are decoded
+ * from the mapped file only when looked up, so opening costs a single pass over the file and a few ints of heap per
+ * entry, and a lookup allocates nothing but the returned value.
+ * <p>
+ * The file is parsed according to the rules of {@link java.util.Properties#load(java.io.InputStream)}: in the
+ * ISO-8859-1 encoding, with the comment lines, the {@code =}, {@code :} and whitespace separators, the line
+ * continuations and the escape sequences, including {@code \}{@code uXXXX}. If a key occurs more than once, its last
+ * value is used. The file must not be modified while it is mapped, as the offsets of the index would become invalid;
+ * a changed file must be opened again. The instances are not modified once opened and may be shared between threads
+ * after being safely published, e.g. through a concurrent map.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 22:15
+ */
+public final class MappedPropertiesFile {
+
+    private static final int EMPTY = -1;
+
+    private final ByteBuffer buffer;
+
+    // The entries, in the order of their first occurrence in the file.
+    private int[] hashes;
+    private int[] keyStarts;
+    private int[] keyEnds;
+    private int[] valueStarts;
+    private int[] valueEnds;
+    private int size;
+
+    // An open-addressing table of the indices of the entries, with linear probing.
+    private int[] table;
+
+    private MappedPropertiesFile( ByteBuffer aBuffer ) {
+        buffer = aBuffer;
+        int capacity = 16;
+        hashes = new int[ capacity ];
+        keyStarts = new int[ capacity ];
+        keyEnds = new int[ capacity ];
+        valueStarts = new int[ capacity ];
+        valueEnds = new int[ capacity ];
+        table = new int[ capacity * 2 ];
+        Arrays.fill( table, EMPTY );
+        scan();
+    }
+
+    /**
+     * Maps the specified file into memory and indexes its entries.
+     *
+     * @param aFile
+     *         the properties file
+     * @return the indexed file
+     * @throws ReadingPropertiesException
+     *         when the file cannot be read, is larger than 2 GB or contains a malformed escape sequence
+     */
+    public static MappedPropertiesFile open( @NonNull Path aFile ) {
+        requireNonNull( aFile );
+        try ( FileChannel channel = FileChannel.open( aFile, StandardOpenOption.READ ) ) {
+            long length = channel.size();
+            if ( length > Integer.MAX_VALUE ) {
+                throw new ReadingPropertiesException( READING_PROPERTIES_FAILED, aFile.toString() );
+            }
+            // The mapping remains valid after the channel has been closed.
+            return new MappedPropertiesFile( channel.map( FileChannel.MapMode.READ_ONLY, 0, length ) );
+        } catch ( IOException | IllegalArgumentException aE ) {
+            throw new ReadingPropertiesException( aE, READING_PROPERTIES_FAILED, aFile.toString() );
+        }
+    }
+
+    /**
+     * Returns the value of the specified property, decoding it from the file.
+     *
+     * @param aKey
+     *         the property key
+     * @return the value of the property, or {@code null} if there is no such property
+     */
+    public String getProperty( @NonNull String aKey ) {
+        int entry = find( requireNonNull( aKey ) );
+        return entry == EMPTY ? null : decode( valueStarts[ entry ], valueEnds[ entry ] );
+    }
+
+    /**
+     * Checks if the file contains the specified property.
+     *
+     * @param aKey
+     *         the property key
+     * @return {@code true} if the file contains the property, {@code false} otherwise
+     */
+    public boolean containsKey( @NonNull String aKey ) {
+        return find( requireNonNull( aKey ) ) != EMPTY;
+    }
+
+    /**
+     * Returns the number of distinct properties in the file.
+     *
+     * @return the number of properties
+     */
+    public int size() {
+        return size;
+    }
+
+    private int find( String aKey ) {
+        int mask = table.length - 1;
+        int hash = aKey.hashCode();
+        for ( int slot = spread( hash ) & mask; table[ slot ] != EMPTY; slot = ( slot + 1 ) & mask ) {
+            int entry = table[ slot ];
+            if ( hashes[ entry ] == hash && keyEquals( entry, aKey ) ) {
+                return entry;
+            }
+        }
+        return EMPTY;
+    }
+
+    private boolean keyEquals( int aEntry, String aKey ) {
+        Cursor cursor = new Cursor( keyStarts[ aEntry ], keyEnds[ aEntry ] );
+        for ( int i = 0; i < aKey.length(); i++ ) {
+            if ( cursor.next() != aKey.charAt( i ) ) {
+                return false;
+            }
+        }
+        return cursor.next() == EMPTY;
+    }
+
+    private boolean keysEqual( int aEntry, int aOther ) {
+        Cursor cursor = new Cursor( keyStarts[ aEntry ], keyEnds[ aEntry ] );
+        Cursor other = new Cursor( keyStarts[ aOther ], keyEnds[ aOther ] );
+        int character;
+        do {
+            character = cursor.next();
+            if ( character != other.next() ) {
+                return false;
+            }
+        } while ( character != EMPTY );
+        return true;
+    }
+
+    private String decode( int aStart, int aEnd ) {
+        // The decoded value is never longer than its encoded form.
+        char[] characters = new char[ aEnd - aStart ];
+        Cursor cursor = new Cursor( aStart, aEnd );
+        int length = 0;
+        for ( int character = cursor.next(); character != EMPTY; character = cursor.next() ) {
+            characters[ length++ ] = ( char ) character;
+        }
+        return new String( characters, 0, length );
+    }
+
+    private void scan() {
+        int limit = buffer.limit();
+        int position = 0;
+        while ( position < limit ) {
+            position = skipWhitespace( position );
+            if ( position == limit ) {
+                break;
+            }
+            int character = byteAt( position );
+            if ( isLineTerminator( character ) ) {
+                position++;
+                continue;
+            }
+            if ( character == '#' || character == '!' ) {
+                // Comment lines are never continued.
+                while ( position < limit && !isLineTerminator( byteAt( position ) ) ) {
+                    position++;
+                }
+                continue;
+            }
+
+            int keyStart = position;
+            while ( position < limit ) {
+                character = byteAt( position );
+                if ( character == '\\' ) {
+                    position = skipEscape( position );
+                } else if ( character == '=' || character == ':' || isWhitespace( character ) || isLineTerminator( character ) ) {
+                    break;
+                } else {
+                    position++;
+                }
+            }
+            int keyEnd = position;
+
+            position = skipBlank( position );
+            if ( position < limit && ( byteAt( position ) == '=' || byteAt( position ) == ':' ) ) {
+                position = skipBlank( position + 1 );
+            }
+
+            int valueStart = position;
+            while ( position < limit && !isLineTerminator( byteAt( position ) ) ) {
+                position = byteAt( position ) == '\\' ? skipEscape( position ) : position + 1;
+            }
+            int valueEnd = Math.min( position, limit );
+            validate( valueStart, valueEnd );
+            add( keyStart, keyEnd, valueStart, valueEnd );
+        }
+    }
+
+    /**
+     * Decodes the given range without keeping the result, so that a malformed escape sequence fails the opening of the
+     * file, as with {@link java.util.Properties#load(java.io.InputStream)}, rather than a later lookup.
+     */
+    private void validate( int aStart, int aEnd ) {
+        Cursor cursor = new Cursor( aStart, aEnd );
+        while ( cursor.next() != EMPTY ) {
+            // Only the escape sequences are verified.
+        }
+    }
+
+    private void add( int aKeyStart, int aKeyEnd, int aValueStart, int aValueEnd ) {
+        if ( size == hashes.length ) {
+            int capacity = size * 2;
+            hashes = Arrays.copyOf( hashes, capacity );
+            keyStarts = Arrays.copyOf( keyStarts, capacity );
+            keyEnds = Arrays.copyOf( keyEnds, capacity );
+            valueStarts = Arrays.copyOf( valueStarts, capacity );
+            valueEnds = Arrays.copyOf( valueEnds, capacity );
+            rehash( capacity * 2 );
+        }
+        int entry = size;
+        keyStarts[ entry ] = aKeyStart;
+        keyEnds[ entry ] = aKeyEnd;
+        valueStarts[ entry ] = aValueStart;
+        valueEnds[ entry ] = aValueEnd;
+        Cursor cursor = new Cursor( aKeyStart, aKeyEnd );
+        int hash = 0;
+        for ( int character = cursor.next(); character != EMPTY; character = cursor.next() ) {
+            hash = 31 * hash + character;
+        }
+        hashes[ entry ] = hash;
+
+        int mask = table.length - 1;
+        int slot = spread( hash ) & mask;
+        for ( ; table[ slot ] != EMPTY; slot = ( slot + 1 ) & mask ) {
+            int existing = table[ slot ];
+            if ( hashes[ existing ] == hash && keysEqual( existing, entry ) ) {
+                // A repeated key replaces the value of its first occurrence.
+                valueStarts[ existing ] = aValueStart;
+                valueEnds[ existing ] = aValueEnd;
+                return;
+            }
+        }
+        table[ slot ] = entry;
+        size++;
+    }
+
+    private void rehash( int aCapacity ) {
+        table = new int[ aCapacity ];
+        Arrays.fill( table, EMPTY );
+        int mask = aCapacity - 1;
+        for ( int entry = 0; entry < size; entry++ ) {
+            int slot = spread( hashes[ entry ] ) & mask;
+            while ( table[ slot ] != EMPTY ) {
+                slot = ( slot + 1 ) & mask;
+            }
+            table[ slot ] = entry;
+        }
+    }
+
+    /**
+     * Skips an escape sequence starting with a backslash at the given position, including a line continuation.
+     */
+    private int skipEscape( int aPosition ) {
+        int next = aPosition + 1;
+        if ( next >= buffer.limit() ) {
+            return buffer.limit();
+        }
+        int character = byteAt( next );
+        if ( isLineTerminator( character ) ) {
+            return skipContinuation( next );
+        }
+        return next + 1;
+    }
+
+    /**
+     * Skips the line terminator at the given position and the leading whitespace of the continuation line.
+     */
+    private int skipContinuation( int aPosition ) {
+        int position = aPosition;
+        if ( byteAt( position ) == '\r' && position + 1 < buffer.limit() && byteAt( position + 1 ) == '\n' ) {
+            position++;
+        }
+        return skipWhitespace( position + 1 );
+    }
+
+    /**
+     * Skips the whitespace and the line continuations, which are parts of the same logical line.
+     */
+    private int skipBlank( int aPosition ) {
+        int position = aPosition;
+        int limit = buffer.limit();
+        while ( position < limit ) {
+            int character = byteAt( position );
+            if ( isWhitespace( character ) ) {
+                position++;
+            } else if ( character == '\\' && position + 1 < limit && isLineTerminator( byteAt( position + 1 ) ) ) {
+                position = skipContinuation( position + 1 );
+            } else {
+                break;
+            }
+        }
+        return position;
+    }
+
+    private int skipWhitespace( int aPosition ) {
+        int position = aPosition;
+        while ( position < buffer.limit() && isWhitespace( byteAt( position ) ) ) {
+            position++;
+        }
+        return position;
+    }
+
+    private int byteAt( int aPosition ) {
+        return buffer.get( aPosition ) & 0xFF;
+    }
+
+    private static boolean isWhitespace( int aCharacter ) {
+        return aCharacter == ' ' || aCharacter == '\t' || aCharacter == '\f';
+    }
+
+    private static boolean isLineTerminator( int aCharacter ) {
+        return aCharacter == '\n' || aCharacter == '\r';
+    }
+
+    private static int spread( int aHash ) {
+        return aHash ^ ( aHash >>> 16 );
+    }
+
+    private static int hexValue( int aCharacter ) {
+        int value = Character.digit( aCharacter, 16 );
+        if ( value < 0 ) {
+            throw new IllegalArgumentException( "Malformed \\uxxxx encoding." );
+        }
+        return value;
+    }
+
+    /**
+     * Decodes the characters of a key or a value, resolving the escape sequences and the line continuations.
+     */
+    private final class Cursor {
+
+        private int position;
+        private final int end;
+
+        Cursor( int aStart, int aEnd ) {
+            position = aStart;
+            end = aEnd;
+        }
+
+        /**
+         * Returns the next decoded character, or {@link #EMPTY} at the end of the decoded range.
+         */
+        int next() {
+            while ( position < end ) {
+                int character = byteAt( position++ );
+                if ( character != '\\' ) {
+                    return character;
+                }
+                if ( position >= end ) {
+                    // A trailing backslash is dropped.
+                    return EMPTY;
+                }
+                character = byteAt( position++ );
+                switch ( character ) {
+                    case '\r':
+                    case '\n':
+                        position = skipContinuation( position - 1 );
+                        continue;
+                    case 'u':
+                        if ( position + 4 > end ) {
+                            throw new IllegalArgumentException( "Malformed \\uxxxx encoding." );
+                        }
+                        int value = 0;
+                        for ( int i = 0; i < 4; i++ ) {
+                            value = ( value << 4 ) | hexValue( byteAt( position++ ) );
+                        }
+                        return value;
+                    case 't':
+                        return '\t';
+                    case 'n':
+                        return '\n';
+                    case 'r':
+                        return '\r';
+                    case 'f':
+                        return '\f';
+                    default:
+                        return character;
+                }
+            }
+            return EMPTY;
+        }
+    }
+}
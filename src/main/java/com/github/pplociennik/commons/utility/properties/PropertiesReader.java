@@ -26,19 +26,45 @@ package com.github.pplociennik.commons.utility.properties;
 
 import com.github.pplociennik.commons.exc.properties.ReadingPropertiesException;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Properties;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.github.pplociennik.commons.lang.CommonsResExcMsgTranslationKey.READING_PROPERTIES_FAILED;
 import static com.github.pplociennik.commons.utility.CustomObjects.requireNonEmpty;
+import static java.util.Objects.requireNonNull;
 
 /**
  * A util for reading properties.
+ * <p>
+ * Every properties file is parsed once per class loader and kept in a cache shared by all the readers, so that
+ * subsequent reads cost a hash lookup instead of a file parse. The class loaders are held weakly, so the contents they
+ * read are dropped along with them, e.g. on an application redeployment. Files failing to be read are not cached. The
+ * cached contents of a file may be dropped with {@link #invalidate(String)}, e.g. after the file has been replaced.
  *
  * @author Created by: Pplociennik at 29.01.2022 20:15
  */
 public abstract class PropertiesReader {
 
+    /**
+     * The parsed contents of the files by the paths, by the class loaders reading them. The contents hold strings only,
+     * so they do not keep the weakly referenced class loaders reachable.
+     */
+    private static final Map< ClassLoader, ConcurrentMap< String, Map< String, String > > > CACHE =
+            Collections.synchronizedMap( new WeakHashMap<>() );
+    /**
+     * The mapped files by their absolute paths. A mapping is held until {@link #invalidateMapped(Path)} is called for
+     * its file, and is then released once the mapped buffer has been garbage collected; the cache is therefore meant
+     * for a fixed set of configuration files rather than for arbitrary ones.
+     */
+    private static final ConcurrentMap< Path, MappedPropertiesFile > MAPPED_FILES = new ConcurrentHashMap<>();
+
     /**
      * Returns a value for the specified property in the specified file.
      *
@@ -54,21 +80,105 @@ public abstract class PropertiesReader {
         requireNonEmpty( aKey );
         requireNonEmpty( aPath );
 
-        ClassLoader classLoader = getClass().getClassLoader();
-        Properties properties = new Properties();
-        InputStream inputStream;
-        try {
-            inputStream = classLoader.getResourceAsStream( aPath );
-            properties.load( inputStream );
-        } catch ( Exception aE ) {
-            throw new ReadingPropertiesException( READING_PROPERTIES_FAILED, aPath );
+        var classLoader = getClass().getClassLoader();
+        var properties = cacheOf( classLoader ).computeIfAbsent( aPath, path -> load( classLoader, path ) );
+        var property = properties.get( aKey );
+        return validateProperty( property, aKey, aPath );
+    }
+
+    /**
+     * Returns a value for the specified property in the specified file of the file system. The file is memory-mapped
+     * and indexed on the first read, see {@link MappedPropertiesFile}, which suits very large files. The mapping is kept
+     * for the subsequent reads until it is dropped with {@link #invalidateMapped(Path)}.
+     *
+     * @param aFile
+     *         a path to the properties file
+     * @param aKey
+     *         the property key
+     * @return a value of the property
+     * @throws IllegalStateException
+     *         when the key was not found in the file
+     */
+    protected String readMappedProperty( Path aFile, String aKey ) {
+        requireNonEmpty( aKey );
+        requireNonNull( aFile );
+
+        var file = MAPPED_FILES.computeIfAbsent( aFile.toAbsolutePath().normalize(), MappedPropertiesFile::open );
+        var property = file.getProperty( aKey );
+        return validateProperty( property, aKey, aFile.toString() );
+    }
+
+    /**
+     * Drops the mapping of the specified file of the file system, so that it is mapped and indexed again on the next
+     * read.
+     *
+     * @param aFile
+     *         a path to the properties file
+     */
+    protected void invalidateMapped( Path aFile ) {
+        requireNonNull( aFile );
+        MAPPED_FILES.remove( aFile.toAbsolutePath().normalize() );
+    }
+
+    /**
+     * Drops the cached contents of the specified file, so that it is parsed again on the next read.
+     *
+     * @param aPath
+     *         a path to the properties file
+     */
+    protected void invalidate( String aPath ) {
+        requireNonEmpty( aPath );
+        cacheOf( getClass().getClassLoader() ).remove( aPath );
+    }
+
+    private static ConcurrentMap< String, Map< String, String > > cacheOf( ClassLoader aClassLoader ) {
+        return CACHE.computeIfAbsent( aClassLoader, classLoader -> new ConcurrentHashMap<>() );
+    }
+
+    private static Map< String, String > load( ClassLoader aClassLoader, String aPath ) {
+        try ( InputStream inputStream = aClassLoader.getResourceAsStream( aPath ) ) {
+            if ( inputStream == null ) {
+                throw new ReadingPropertiesException( READING_PROPERTIES_FAILED, aPath );
+            }
+            return parse( inputStream );
+        } catch ( IOException | IllegalArgumentException aE ) {
+            throw new ReadingPropertiesException( aE, READING_PROPERTIES_FAILED, aPath );
         }
+    }
 
-        var property = properties.getProperty( aKey );
-        return validateProperty( property, aKey, aPath );
+    /**
+     * Parses the properties from the specified stream into an immutable map.
+     *
+     * @param aInputStream
+     *         the stream of the properties file
+     * @return the parsed properties
+     * @throws IOException
+     *         when the stream cannot be read
+     * @throws IllegalArgumentException
+     *         when the stream contains a malformed Unicode escape
+     */
+    @SuppressWarnings( "unchecked" )
+    static Map< String, String > parse( InputStream aInputStream ) throws IOException {
+        Properties properties = new Properties();
+        properties.load( aInputStream );
+        // Properties loaded from a stream hold strings only.
+        return Map.copyOf( ( Map< String, String > ) ( Map< ?, ? > ) properties );
     }
 
-    private String validateProperty( String aProperty, String aKey, String aPath ) {
+    /**
+     * Returns the specified property, verifying that it has been found.
+     *
+     * @param aProperty
+     *         the value of the property, or {@code null} if it has not been found
+     * @param aKey
+     *         the property key
+     * @param aPath
+     *         a path to the properties file
+     * @return the value of the property
+     * @throws IllegalStateException
+     *         when the key was not found in the file
+     */
+    static String validateProperty( String aProperty, String aKey, String aPath ) {
         if ( aProperty == null ) {
             throw new IllegalStateException( "Property " + aKey + " has not been found in file '" + aPath + "'." );
         }
@@ -2,16 +2,26 @@ package com.github.pplociennik.commons.service;
 
 import com.github.pplociennik.commons.exc.properties.InvalidPropertyValueException;
 import com.github.pplociennik.commons.exc.properties.NoSuchPropertyExistsException;
+import com.github.pplociennik.commons.exc.properties.SystemPropertiesValidationException;
+import com.github.pplociennik.commons.lang.CommonsResExcMsgTranslationKey;
 import com.github.pplociennik.commons.service.impl.SystemPropertiesReaderServiceImpl;
+import com.github.pplociennik.commons.system.CommonSystemProperties;
 import com.github.pplociennik.commons.system.SystemProperty;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.env.Environment;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class SystemPropertiesReaderServiceTest {
@@ -173,4 +183,283 @@ class SystemPropertiesReaderServiceTest {
         verify( mockEnvironment ).getProperty( propertyName );
         verify( mockSystemProperty ).getPossibleValues();
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnConvertedValues_whenTypedAccessorsUsed() {
+        // Arrange
+        Environment mockEnvironment = mock( Environment.class );
+        SystemPropertiesReaderServiceImpl service = new SystemPropertiesReaderServiceImpl( mockEnvironment );
+        SystemProperty number = mockProperty( mockEnvironment, "test.number", " 42 " );
+        SystemProperty flag = mockProperty( mockEnvironment, "test.flag", "TRUE" );
+        SystemProperty timeout = mockProperty( mockEnvironment, "test.timeout", "1500ms" );
+        SystemProperty unit = mockProperty( mockEnvironment, "test.unit", "seconds" );
+        SystemProperty list = mockProperty( mockEnvironment, "test.list", "a, b,,c " );
+
+        // Act & Assert
+        assertEquals( 42, service.readInt( number ) );
+        assertEquals( 42L, service.readLong( number ) );
+        assertTrue( service.readBoolean( flag ) );
+        assertEquals( Duration.ofMillis( 1500 ), service.readDuration( timeout ) );
+        assertEquals( TimeUnit.SECONDS, service.readEnum( unit, TimeUnit.class ) );
+        assertEquals( List.of( "a", "b", "c" ), service.readList( list ) );
+    }
+
+    @Test
+    void shouldReuseConvertedValue_untilRefreshed() {
+        // Arrange
+        Environment mockEnvironment = mock( Environment.class );
+        SystemPropertiesReaderServiceImpl service = new SystemPropertiesReaderServiceImpl( mockEnvironment );
+        SystemProperty list = mockProperty( mockEnvironment, "test.list", "a,b" );
+
+        // Act
+        List< String > first = service.readList( list );
+        List< String > second = service.readList( list );
+        when( mockEnvironment.getProperty( "test.list" ) ).thenReturn( "c" );
+        List< String > cached = service.readList( list );
+        service.refresh();
+        List< String > changed = service.readList( list );
+
+        // Assert
+        assertSame( first, second );
+        assertSame( first, cached );
+        assertEquals( List.of( "c" ), changed );
+    }
+
+    @Test
+    void shouldThrowInvalidPropertyValueException_whenValueCannotBeConverted() {
+        // Arrange
+        Environment mockEnvironment = mock( Environment.class );
+        SystemPropertiesReaderServiceImpl service = new SystemPropertiesReaderServiceImpl( mockEnvironment );
+        SystemProperty property = mockProperty( mockEnvironment, "test.property", "not-a-number" );
+
+        // Act & Assert
+        assertThrows( InvalidPropertyValueException.class, () -> service.readInt( property ) );
+        assertThrows( InvalidPropertyValueException.class, () -> service.readBoolean( property ) );
+        assertThrows( InvalidPropertyValueException.class, () -> service.readDuration( property ) );
+        assertThrows( InvalidPropertyValueException.class, () -> service.readEnum( property, TimeUnit.class ) );
+    }
+
+    @Test
+    void shouldReportAllInvalidProperties_whenValidated() {
+        // Arrange
+        Environment mockEnvironment = mock( Environment.class );
+        SystemPropertiesReaderServiceImpl service = new SystemPropertiesReaderServiceImpl( mockEnvironment );
+        SystemProperty valid = mockProperty( mockEnvironment, "valid.property", "validValue" );
+        SystemProperty firstInvalid = mockProperty( mockEnvironment, "first.property", "invalidValue" );
+        SystemProperty secondInvalid = mockProperty( mockEnvironment, "second.property", "invalidValue" );
+        SystemProperty missing = mock( SystemProperty.class );
+        when( missing.getName() ).thenReturn( "missing.property" );
+        for ( SystemProperty property : List.of( valid, firstInvalid, secondInvalid ) ) {
+            when( property.getPossibleValues() ).thenReturn( Set.of( "validValue" ) );
+        }
+
+        // Act
+        SystemPropertiesValidationException exception = assertThrows( SystemPropertiesValidationException.class,
+                () -> service.validate( List.of( valid, firstInvalid, missing, secondInvalid ) ) );
+
+        // Assert
+        assertEquals( 2, exception.getFailures().size() );
+        assertEquals( 2, exception.getSuppressed().length );
+        verify( mockEnvironment, never() ).getProperty( "missing.property" );
+    }
+
+    @Test
+    void shouldSkipVerification_whenPropertyValidated() {
+        // Arrange
+        Environment mockEnvironment = mock( Environment.class );
+        SystemPropertiesReaderServiceImpl service = new SystemPropertiesReaderServiceImpl( mockEnvironment );
+        SystemProperty property = mockProperty( mockEnvironment, "test.property", "value" );
+
+        // Act
+        service.validate( List.of( property ) );
+        String first = service.readProperty( property );
+        String second = service.readProperty( property );
+        service.refresh();
+        String refreshed = service.readProperty( property );
+
+        // Assert
+        assertEquals( "value", first );
+        assertEquals( "value", second );
+        assertEquals( "value", refreshed );
+        verify( property, times( 2 ) ).getPossibleValues();
+    }
+
+    @Test
+    void shouldReportAllMissingAndInvalidProperties_whenReadTogether() {
+        // Arrange
+        Environment mockEnvironment = mock( Environment.class );
+        SystemPropertiesReaderServiceImpl service = new SystemPropertiesReaderServiceImpl( mockEnvironment );
+        SystemProperty valid = mockProperty( mockEnvironment, "valid.property", "validValue" );
+        SystemProperty invalid = mockProperty( mockEnvironment, "invalid.property", "invalidValue" );
+        when( invalid.getPossibleValues() ).thenReturn( Set.of( "validValue" ) );
+        SystemProperty missing = mock( SystemProperty.class );
+        when( missing.getName() ).thenReturn( "missing.property" );
+
+        // Act
+        SystemPropertiesValidationException exception = assertThrows( SystemPropertiesValidationException.class,
+                () -> service.readProperties( List.of( valid, missing, invalid ) ) );
+
+        // Assert
+        assertEquals( 2, exception.getFailures().size() );
+        assertInstanceOf( NoSuchPropertyExistsException.class, exception.getFailures().get( 0 ) );
+        assertInstanceOf( InvalidPropertyValueException.class, exception.getFailures().get( 1 ) );
+    }
+
+    @Test
+    void shouldReturnImmutableValues_whenPropertiesReadTogether() {
+        // Arrange
+        Environment mockEnvironment = mock( Environment.class );
+        SystemPropertiesReaderServiceImpl service = new SystemPropertiesReaderServiceImpl( mockEnvironment );
+        SystemProperty first = mockProperty( mockEnvironment, "first.property", "first" );
+        SystemProperty second = mockProperty( mockEnvironment, "second.property", "second" );
+
+        // Act
+        Map< SystemProperty, String > values = service.readProperties( List.of( first, second ) );
+
+        // Assert
+        assertEquals( List.of( first, second ), List.copyOf( values.keySet() ) );
+        assertEquals( List.of( "first", "second" ), List.copyOf( values.values() ) );
+        assertThrows( UnsupportedOperationException.class, () -> values.put( first, "changed" ) );
+    }
+
+    @Test
+    void shouldReturnDefinedProperties_whenSnapshotTaken() {
+        // Arrange
+        Environment mockEnvironment = mock( Environment.class );
+        SystemPropertiesReaderServiceImpl service = new SystemPropertiesReaderServiceImpl( mockEnvironment );
+        String propertyName = CommonSystemProperties.SYSTEM_JPA_TIME_ZONE.getName();
+        when( mockEnvironment.containsProperty( propertyName ) ).thenReturn( true );
+        when( mockEnvironment.getProperty( propertyName ) ).thenReturn( "UTC" );
+
+        // Act
+        Map< SystemProperty, String > snapshot = service.snapshot();
+
+        // Assert
+        assertEquals( "UTC", snapshot.get( CommonSystemProperties.SYSTEM_JPA_TIME_ZONE ) );
+    }
+
+    @Test
+    void shouldNotifySubscribers_onlyWhenValueChanges() {
+        // Arrange
+        Environment mockEnvironment = mock( Environment.class );
+        SystemPropertiesReaderServiceImpl service = new SystemPropertiesReaderServiceImpl( mockEnvironment );
+        SystemProperty property = mockProperty( mockEnvironment, "test.property", "first" );
+        when( mockEnvironment.getProperty( "test.property" ) ).thenReturn( "first", "first", "second" );
+        List< String > notified = new ArrayList<>();
+        service.subscribe( property, notified::add );
+
+        // Act
+        service.refresh();
+        service.refresh();
+
+        // Assert
+        assertEquals( List.of( "second" ), notified );
+    }
+
+    @Test
+    void shouldPublishChangedValues_whenSubscribedToPublisher() throws InterruptedException {
+        // Arrange
+        Environment mockEnvironment = mock( Environment.class );
+        SystemPropertiesReaderServiceImpl service = new SystemPropertiesReaderServiceImpl( mockEnvironment );
+        SystemProperty property = mockProperty( mockEnvironment, "test.property", "first" );
+        when( mockEnvironment.getProperty( "test.property" ) ).thenReturn( "first", "second" );
+        BlockingQueue< String > published = new LinkedBlockingQueue<>();
+        service.publisher( property ).subscribe( new Flow.Subscriber<>() {
+
+            @Override
+            public void onSubscribe( Flow.Subscription aSubscription ) {
+                aSubscription.request( Long.MAX_VALUE );
+            }
+
+            @Override
+            public void onNext( String aItem ) {
+                published.add( aItem );
+            }
+
+            @Override
+            public void onError( Throwable aThrowable ) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        } );
+
+        // Act
+        service.refresh();
+
+        // Assert
+        assertEquals( "second", published.poll( 5, TimeUnit.SECONDS ) );
+        service.close();
+    }
+
+    private static SystemProperty mockProperty( Environment aEnvironment, String aName, String aValue ) {
+        SystemProperty property = mock( SystemProperty.class );
+        when( property.getName() ).thenReturn( aName );
+        when( property.getPossibleValues() ).thenReturn( Collections.emptySet() );
+        when( aEnvironment.containsProperty( aName ) ).thenReturn( true );
+        when( aEnvironment.getProperty( aName ) ).thenReturn( aValue );
+        return property;
+    }
+
+    @Test
+    void shouldResolvePropertyOnce_untilRefreshed() {
+        // Arrange
+        Environment mockEnvironment = mock( Environment.class );
+        SystemPropertiesReaderServiceImpl service = new SystemPropertiesReaderServiceImpl( mockEnvironment );
+        String propertyName = "test.property";
+        when( mockEnvironment.containsProperty( propertyName ) ).thenReturn( true );
+        when( mockEnvironment.getProperty( propertyName ) ).thenReturn( "first", "second" );
+
+        // Act
+        String first = service.readProperty( propertyName );
+        String cached = service.readProperty( propertyName );
+        service.refresh();
+        String refreshed = service.readProperty( propertyName );
+
+        // Assert
+        assertEquals( "first", first );
+        assertEquals( "first", cached );
+        assertEquals( "second", refreshed );
+        verify( mockEnvironment, times( 2 ) ).containsProperty( propertyName );
+        verify( mockEnvironment, times( 2 ) ).getProperty( propertyName );
+    }
+
+    @Test
+    void shouldProvideDefaultMethods_whenOnlySinglePropertyReadsImplemented() {
+        // Arrange
+        SystemProperty number = mock( SystemProperty.class );
+        SystemProperty missing = mock( SystemProperty.class );
+        when( number.getName() ).thenReturn( "number.property" );
+        Map< SystemProperty, String > values = Map.of( number, " 42 " );
+        SystemPropertiesReaderService service = new SystemPropertiesReaderService() {
+
+            @Override
+            public String readProperty( String aPropertyName ) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public String readProperty( SystemProperty aProperty ) {
+                String value = values.get( aProperty );
+                if ( value == null ) {
+                    throw new NoSuchPropertyExistsException( CommonsResExcMsgTranslationKey.NO_SUCH_SYSTEM_PROPERTY, "missing" );
+                }
+                return value;
+            }
+        };
+
+        // Act
+        service.refresh();
+        service.validate( List.of( number, missing ) );
+
+        // Assert
+        assertEquals( 42, service.readInt( number ) );
+        assertEquals( 42L, service.readLong( number ) );
+        assertEquals( List.of( "42" ), service.readList( number ) );
+        assertThrows( InvalidPropertyValueException.class, () -> service.readBoolean( number ) );
+        assertEquals( Map.of( number, " 42 " ), service.readProperties( List.of( number ) ) );
+        assertThrows( SystemPropertiesValidationException.class, () -> service.readProperties( List.of( number, missing ) ) );
+        assertThrows( UnsupportedOperationException.class, () -> service.subscribe( number, value -> { } ) );
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.pplociennik.commons.system;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link SystemPropertyScanner}.
+ */
+class SystemPropertyScannerTest {
+
+    @Test
+    void shouldFindCommonProperties_whenNoPackagesGiven() {
+        // Arrange
+        ClassLoader classLoader = getClass().getClassLoader();
+
+        // Act
+        Set< SystemProperty > properties = SystemPropertyScanner.scan( classLoader, List.of() );
+
+        // Assert
+        assertTrue( properties.containsAll( List.of( CommonSystemProperties.values() ) ) );
+    }
+}
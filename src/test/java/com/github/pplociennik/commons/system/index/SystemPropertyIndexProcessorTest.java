@@ -0,0 +1,121 @@
+package com.github.pplociennik.commons.system.index;
+
+import com.github.pplociennik.commons.system.SystemProperty;
+import com.github.pplociennik.commons.system.SystemPropertyScanner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link SystemPropertyIndexProcessor} and {@link SystemPropertyIndexRuntimeHints}.
+ */
+class SystemPropertyIndexProcessorTest {
+
+    private static final String PROPERTIES_SOURCE = """
+            package com.example.config;
+
+            import com.github.pplociennik.commons.system.SystemProperty;
+            import java.util.Set;
+
+            public enum ExampleProperties implements SystemProperty {
+                EXAMPLE_PROPERTY;
+
+                public String getName() {
+                    return "example.property";
+                }
+
+                public Set< String > getPossibleValues() {
+                    return Set.of();
+                }
+
+                enum Nested implements SystemProperty {
+                    NESTED_PROPERTY;
+
+                    public String getName() {
+                        return "nested.property";
+                    }
+
+                    public Set< String > getPossibleValues() {
+                        return Set.of();
+                    }
+                }
+            }
+            """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldLoadIndexedEnums_whenIndexGenerated() throws IOException {
+        // Arrange
+        Path output = compile();
+
+        // Act
+        Set< Class< ? extends SystemProperty > > types;
+        try ( URLClassLoader classLoader = new URLClassLoader( new URL[]{ output.toUri().toURL() }, getClass().getClassLoader() ) ) {
+            types = SystemPropertyScanner.indexedTypes( classLoader );
+        }
+
+        // Assert
+        try ( Stream< Path > files = Files.list( output.resolve( "com/example/config" ) ) ) {
+            assertTrue( files.anyMatch( file -> file.getFileName().toString().startsWith( SystemPropertyIndexProcessor.INDEX_CLASS_PREFIX ) ) );
+        }
+        assertEquals( List.of( "com.example.config.ExampleProperties", "com.example.config.ExampleProperties$Nested" ),
+                types.stream().map( Class::getName ).toList() );
+    }
+
+    @Test
+    void shouldRegisterHints_whenIndexAvailable() throws IOException {
+        // Arrange
+        Path output = compile();
+        RuntimeHints hints = new RuntimeHints();
+
+        // Act
+        try ( URLClassLoader classLoader = new URLClassLoader( new URL[]{ output.toUri().toURL() }, getClass().getClassLoader() ) ) {
+            new SystemPropertyIndexRuntimeHints().registerHints( hints, classLoader );
+        }
+
+        // Assert
+        assertTrue( RuntimeHintsPredicates.resource().forResource( "META-INF/services/" + SystemPropertyIndex.class.getName() ).test( hints ) );
+        assertTrue( RuntimeHintsPredicates.reflection().onType( TypeReference.of( "com.example.config.ExampleProperties" ) ).test( hints ) );
+    }
+
+    private Path compile() throws IOException {
+        Path source = directory.resolve( "src/com/example/config/ExampleProperties.java" );
+        Files.createDirectories( source.getParent() );
+        Files.writeString( source, PROPERTIES_SOURCE );
+        Path output = Files.createDirectories( directory.resolve( "classes" ) );
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try ( StandardJavaFileManager fileManager = compiler.getStandardFileManager( null, null, null ) ) {
+            DiagnosticCollector< JavaFileObject > diagnostics = new DiagnosticCollector<>();
+            JavaCompiler.CompilationTask task = compiler.getTask( null, fileManager, diagnostics,
+                    List.of( "-d", output.toString(), "-classpath", System.getProperty( "java.class.path" ) ),
+                    null, fileManager.getJavaFileObjects( source ) );
+            task.setProcessors( List.of( new SystemPropertyIndexProcessor() ) );
+            assertTrue( task.call() );
+            assertTrue( diagnostics.getDiagnostics().stream().noneMatch( diagnostic -> diagnostic.getKind() == Diagnostic.Kind.WARNING ),
+                    () -> diagnostics.getDiagnostics().toString() );
+        }
+        return output;
+    }
+}
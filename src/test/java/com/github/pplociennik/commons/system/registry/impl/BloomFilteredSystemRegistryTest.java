@@ -0,0 +1,89 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link BloomFilteredSystemRegistry}.
+ */
+class BloomFilteredSystemRegistryTest {
+
+    @Test
+    void shouldNeverReturnFalseNegatives_andRejectMostAbsentElementsInFilter() {
+        // Arrange
+        BloomFilteredSystemRegistry< Integer > registry = new BloomFilteredSystemRegistry<>( new SynchronizedHashSetBasedSystemRegistry<>(), 10_000 );
+        registry.add( IntStream.range( 0, 10_000 ).boxed().collect( Collectors.toList() ) );
+
+        // Act & Assert
+        for ( int i = 0; i < 10_000; i++ ) {
+            assertTrue( registry.contains( i ) );
+        }
+        for ( int i = 10_000; i < 110_000; i++ ) {
+            assertFalse( registry.contains( i ) );
+        }
+        BloomFilteredSystemRegistry.FilterStatistics statistics = registry.getStatistics();
+        assertEquals( 110_000, statistics.getLookups() );
+        assertEquals( 100_000, statistics.getFilterRejections() + statistics.getFalsePositives() );
+        assertTrue( statistics.getObservedFalsePositiveRate() < 0.05, statistics.toString() );
+    }
+
+    @Test
+    void shouldNotInflateHashFunctions_whenExpectedSizeIsSmall() {
+        // Arrange
+        BloomFilteredSystemRegistry< String > registry = new BloomFilteredSystemRegistry<>( new HashSetBasedSystemRegistry<>(), 1 );
+
+        // Act
+        BloomFilteredSystemRegistry.FilterStatistics statistics = registry.getStatistics();
+
+        // Assert
+        assertEquals( 64, statistics.getFilterSize() );
+        assertEquals( 7, statistics.getHashFunctions() );
+        assertEquals( 16, new CountingBloomFilter( 1, 1e-9 ).hashFunctions() );
+    }
+
+    @Test
+    void shouldUpdateFilter_whenElementsAreRemovedOrCleared() {
+        // Arrange
+        BloomFilteredSystemRegistry< String > registry = new BloomFilteredSystemRegistry<>( new HashSetBasedSystemRegistry<>(), 100 );
+        registry.add( "a", "b", "c" );
+
+        // Act
+        registry.remove( List.of( "a", "x" ) );
+
+        // Assert
+        assertFalse( registry.contains( "a" ) );
+        assertTrue( registry.contains( "b" ) );
+        assertEquals( 2, registry.size() );
+        registry.clear();
+        assertFalse( registry.contains( "b" ) );
+        assertTrue( registry.isEmpty() );
+    }
+
+    @Test
+    void shouldKeepCopiesIndependent_whenCloned() {
+        // Arrange
+        BloomFilteredSystemRegistry< String > registry = new BloomFilteredSystemRegistry<>( new HashSetBasedSystemRegistry<>(), 100 );
+        registry.add( "a", "b" );
+
+        // Act
+        BloomFilteredSystemRegistry< String > copy = ( BloomFilteredSystemRegistry< String > ) registry.clone();
+        registry.add( "c" );
+        copy.add( "d" );
+        copy.remove( List.of( "a" ) );
+
+        // Assert
+        assertTrue( registry.contains( "a" ) );
+        assertTrue( registry.contains( "c" ) );
+        assertFalse( registry.contains( "d" ) );
+        assertEquals( 3, registry.size() );
+        assertFalse( copy.contains( "a" ) );
+        assertFalse( copy.contains( "c" ) );
+        assertTrue( copy.contains( "d" ) );
+        assertEquals( 2, copy.size() );
+    }
+}
@@ -0,0 +1,142 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import com.github.pplociennik.commons.system.registry.impl.BoundedSystemRegistry.EvictionCause;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link BoundedSystemRegistry}.
+ */
+class BoundedSystemRegistryTest {
+
+    @Test
+    void shouldEvictLeastRecentlyUsedElement_whenFull() {
+        // Arrange
+        BoundedSystemRegistry< String > registry = BoundedSystemRegistry.leastRecentlyUsed( 2 );
+        List< String > evicted = new ArrayList<>();
+        registry.addEvictionListener( ( element, cause ) -> evicted.add( element ) );
+        registry.add( "a", "b" );
+
+        // Act
+        registry.contains( "a" );
+        registry.add( "c" );
+
+        // Assert
+        assertEquals( List.of( "b" ), evicted );
+        assertTrue( registry.contains( "a" ) );
+        assertTrue( registry.contains( "c" ) );
+        assertEquals( 2, registry.size() );
+    }
+
+    @Test
+    void shouldRejectRarelyUsedCandidate_whenFrequencyBasedAndFull() {
+        // Arrange
+        BoundedSystemRegistry< String > registry = BoundedSystemRegistry.frequencyBased( 2 );
+        registry.add( "a", "b" );
+        for ( int i = 0; i < 5; i++ ) {
+            registry.contains( "a" );
+            registry.contains( "b" );
+        }
+
+        // Act
+        registry.add( "c" );
+
+        // Assert
+        assertFalse( registry.contains( "c" ) );
+        assertTrue( registry.contains( "a" ) );
+        assertTrue( registry.contains( "b" ) );
+    }
+
+    @Test
+    void shouldExpireElements_whenTimeToLivePassed() {
+        // Arrange
+        MutableClock clock = new MutableClock();
+        BoundedSystemRegistry< String > registry = BoundedSystemRegistry.timeToLive( 10, Duration.ofSeconds( 10 ), clock );
+        List< EvictionCause > causes = new ArrayList<>();
+        registry.addEvictionListener( ( element, cause ) -> causes.add( cause ) );
+        registry.add( "a" );
+        clock.advance( Duration.ofSeconds( 6 ) );
+        registry.add( "b" );
+
+        // Act
+        clock.advance( Duration.ofSeconds( 5 ) );
+
+        // Assert
+        assertFalse( registry.contains( "a" ) );
+        assertTrue( registry.contains( "b" ) );
+        assertEquals( List.of( EvictionCause.EXPIRED ), causes );
+        clock.advance( Duration.ofSeconds( 5 ) );
+        registry.cleanUp();
+        assertTrue( registry.isEmpty() );
+    }
+
+    @Test
+    void shouldNotifyRemainingListenersAndReturn_whenListenerThrows() {
+        // Arrange
+        MutableClock clock = new MutableClock();
+        BoundedSystemRegistry< String > registry = BoundedSystemRegistry.timeToLive( 10, Duration.ofSeconds( 10 ), clock );
+        List< String > evicted = new ArrayList<>();
+        List< Throwable > failures = new ArrayList<>();
+        registry.addEvictionListener( ( element, cause ) -> {
+            throw new IllegalStateException( "listener failure" );
+        } );
+        registry.addEvictionListener( ( element, cause ) -> evicted.add( element ) );
+        registry.add( "a" );
+        clock.advance( Duration.ofSeconds( 10 ) );
+        Thread thread = Thread.currentThread();
+        Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler();
+        thread.setUncaughtExceptionHandler( ( failingThread, failure ) -> failures.add( failure ) );
+
+        // Act
+        boolean contains;
+        try {
+            contains = registry.contains( "a" );
+        } finally {
+            thread.setUncaughtExceptionHandler( handler );
+        }
+
+        // Assert
+        assertFalse( contains );
+        assertEquals( List.of( "a" ), evicted );
+        assertEquals( 1, failures.size() );
+    }
+
+    @Test
+    void shouldRejectTimeToLive_whenShorterThanMillisecond() {
+        // Act & Assert
+        assertThrows( IllegalArgumentException.class, () -> BoundedSystemRegistry.timeToLive( 10, Duration.ofNanos( 999_999 ) ) );
+        assertThrows( IllegalArgumentException.class, () -> BoundedSystemRegistry.timeToLive( 10, Duration.ZERO ) );
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.EPOCH;
+
+        void advance( Duration aDuration ) {
+            now = now.plus( aDuration );
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of( "UTC" );
+        }
+
+        @Override
+        public Clock withZone( ZoneId aZone ) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import com.github.pplociennik.commons.system.registry.CollectingSystemRegistry;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the bulk operations of {@link CollectingSystemRegistry} and their overrides in the implementations.
+ */
+class BulkOperationsSystemRegistryTest {
+
+    static Stream< Supplier< CollectingSystemRegistry< String > > > registries() {
+        return Stream.of(
+                HashSetBasedSystemRegistry::new,
+                SynchronizedHashSetBasedSystemRegistry::new,
+                ConcurrentSystemRegistry::new,
+                SnapshotSystemRegistry::new,
+                StripedSystemRegistry::new,
+                StampedLockSystemRegistry::new,
+                PersistentSystemRegistry::new,
+                OffHeapSystemRegistry::new,
+                IndexedSystemRegistry::new,
+                NavigableSystemRegistry::naturalOrder,
+                () -> BoundedSystemRegistry.leastRecentlyUsed( 100 ),
+                () -> new BloomFilteredSystemRegistry<>( new HashSetBasedSystemRegistry<>(), 100 ) );
+    }
+
+    @ParameterizedTest
+    @MethodSource( "registries" )
+    void shouldReportChangedElementsCount_whenMutatingInBatches( Supplier< CollectingSystemRegistry< String > > aFactory ) {
+        // Arrange
+        CollectingSystemRegistry< String > registry = aFactory.get();
+
+        // Act
+        int added = registry.addAll( List.of( "a", "b", "c", "a" ) );
+        int addedFromStream = registry.addAll( Stream.of( "c", "d", "e" ) );
+        int removed = registry.removeAll( List.of( "a", "x" ) );
+        int removedByFilter = registry.removeIf( "e"::equals );
+        int removedByRetain = registry.retainAll( List.of( "b", "c", "y" ) );
+
+        // Assert
+        assertEquals( 3, added );
+        assertEquals( 2, addedFromStream );
+        assertEquals( 1, removed );
+        assertEquals( 1, removedByFilter );
+        assertEquals( 1, removedByRetain );
+        assertEquals( Set.of( "b", "c" ), registry.stream().collect( Collectors.toSet() ) );
+        assertTrue( registry.containsAll( List.of( "b", "c" ) ) );
+        assertFalse( registry.containsAll( List.of( "b", "d" ) ) );
+    }
+
+    @ParameterizedTest
+    @MethodSource( "registries" )
+    void shouldIgnoreDuplicates_whenAddingVarargs( Supplier< CollectingSystemRegistry< String > > aFactory ) {
+        // Arrange
+        CollectingSystemRegistry< String > registry = aFactory.get();
+
+        // Act
+        registry.add( "a", "b", "a" );
+
+        // Assert
+        assertEquals( 2, registry.size() );
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ConcurrentSystemRegistry}, including a multi-threaded stress test running at least 16 concurrent
+ * writers against a single registry instance.
+ */
+class ConcurrentSystemRegistryTest {
+
+    private static final int THREADS = Math.max( 16, Runtime.getRuntime().availableProcessors() );
+    private static final int ELEMENTS_PER_THREAD = 20_000;
+
+    @Test
+    void shouldContainAllElements_whenAddedConcurrentlyByManyThreads() throws Exception {
+        // Arrange
+        ConcurrentSystemRegistry< Integer > registry = new ConcurrentSystemRegistry<>();
+        ExecutorService executor = Executors.newFixedThreadPool( THREADS );
+        CountDownLatch start = new CountDownLatch( 1 );
+        List< Future< ? > > futures = new ArrayList<>();
+
+        // Act
+        for ( int t = 0; t < THREADS; t++ ) {
+            int offset = t * ELEMENTS_PER_THREAD;
+            futures.add( executor.submit( () -> {
+                start.await();
+                for ( int i = 0; i < ELEMENTS_PER_THREAD; i++ ) {
+                    registry.add( offset + i );
+                    assertTrue( registry.contains( offset + i ) );
+                }
+                return null;
+            } ) );
+        }
+        start.countDown();
+        for ( Future< ? > future : futures ) {
+            future.get( 1, TimeUnit.MINUTES );
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals( THREADS * ELEMENTS_PER_THREAD, registry.size() );
+        assertEquals( THREADS * ELEMENTS_PER_THREAD, registry.stream().distinct().count() );
+    }
+
+    @Test
+    void shouldIterateWithoutConcurrentModificationException_whenModifiedDuringTraversal() throws Exception {
+        // Arrange
+        ConcurrentSystemRegistry< Integer > registry = new ConcurrentSystemRegistry<>();
+        for ( int i = 0; i < 10_000; i++ ) {
+            registry.add( i );
+        }
+        AtomicBoolean running = new AtomicBoolean( true );
+        ExecutorService executor = Executors.newFixedThreadPool( THREADS );
+        List< Future< ? > > writers = new ArrayList<>();
+        for ( int t = 0; t < THREADS - 1; t++ ) {
+            int seed = t;
+            writers.add( executor.submit( () -> {
+                int i = seed;
+                while ( running.get() ) {
+                    registry.add( 10_000 + i );
+                    registry.remove( List.of( 10_000 + i ) );
+                    i += THREADS;
+                }
+            } ) );
+        }
+
+        // Act & Assert
+        for ( int round = 0; round < 200; round++ ) {
+            assertDoesNotThrow( () -> {
+                for ( Integer ignored : registry.values() ) {
+                    // traversal only
+                }
+                registry.stream().mapToInt( Integer::intValue ).sum();
+            } );
+        }
+        running.set( false );
+        for ( Future< ? > writer : writers ) {
+            writer.get( 1, TimeUnit.MINUTES );
+        }
+        executor.shutdown();
+        for ( int i = 0; i < 10_000; i++ ) {
+            assertTrue( registry.contains( i ) );
+        }
+    }
+
+    @Test
+    void shouldCreateIndependentCopy_whenCloned() {
+        // Arrange
+        ConcurrentSystemRegistry< String > registry = new ConcurrentSystemRegistry<>();
+        registry.add( "a", "b" );
+
+        // Act
+        ConcurrentSystemRegistry< String > copy = ( ConcurrentSystemRegistry< String > ) registry.clone();
+        copy.add( "c" );
+
+        // Assert
+        assertEquals( 2, registry.size() );
+        assertFalse( registry.contains( "c" ) );
+        assertEquals( 3, copy.size() );
+    }
+}
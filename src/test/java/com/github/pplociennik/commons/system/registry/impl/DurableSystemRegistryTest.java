@@ -0,0 +1,146 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link DurableSystemRegistry} and {@link MappedRegistryStore}.
+ */
+class DurableSystemRegistryTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldRestoreContents_whenReopenedAfterCheckpointAndFurtherChanges() {
+        // Arrange
+        try ( DurableSystemRegistry< String > registry = open() ) {
+            registry.add( "a", "b", "c" );
+            registry.checkpoint();
+            registry.remove( List.of( "b" ) );
+            registry.clear();
+            registry.add( "d", "e" );
+        }
+
+        // Act
+        try ( DurableSystemRegistry< String > restored = open() ) {
+
+            // Assert
+            assertEquals( Set.of( "d", "e" ), restored.stream().collect( Collectors.toSet() ) );
+        }
+    }
+
+    @Test
+    void shouldDiscardTornRecord_whenLogEndsWithPartialWrite() throws Exception {
+        // Arrange
+        try ( DurableSystemRegistry< String > registry = open() ) {
+            registry.add( "a" );
+            registry.add( "b" );
+        }
+        // Garbles the checksum of the second record, as if the process died while writing it.
+        try ( RandomAccessFile log = new RandomAccessFile( directory.resolve( MappedRegistryStore.LOG_FILE ).toFile(), "rw" ) ) {
+            int secondRecordEnd = 2 * ( 4 + 1 + 4 + 4 + 1 + 4 );
+            log.seek( secondRecordEnd - 1 );
+            int lastByte = log.read();
+            log.seek( secondRecordEnd - 1 );
+            log.write( lastByte ^ 0xFF );
+        }
+
+        // Act
+        try ( DurableSystemRegistry< String > restored = open() ) {
+            restored.add( "c" );
+        }
+        try ( DurableSystemRegistry< String > restored = open() ) {
+
+            // Assert
+            assertEquals( Set.of( "a", "c" ), restored.stream().collect( Collectors.toSet() ) );
+        }
+    }
+
+    @Test
+    void shouldCheckpointAutomatically_whenLogReachesThreshold() {
+        // Arrange
+        MappedRegistryStore< String > store = new MappedRegistryStore<>( directory, ElementSerializer.strings() );
+
+        // Act
+        try ( DurableSystemRegistry< String > registry = new DurableSystemRegistry<>( new HashSetBasedSystemRegistry<>(), store, 1_024 ) ) {
+            for ( int i = 0; i < 1_000; i++ ) {
+                registry.add( "element-" + i );
+            }
+            registry.remove( List.of( "element-0" ) );
+
+            // Assert
+            assertTrue( store.getLogSize() < 1_024 );
+        }
+        try ( DurableSystemRegistry< String > restored = open() ) {
+            assertEquals( 999, restored.size() );
+            assertFalse( restored.contains( "element-0" ) );
+        }
+        assertThrows( IllegalArgumentException.class,
+                () -> new DurableSystemRegistry<>( new HashSetBasedSystemRegistry<>(), store, 0 ) );
+    }
+
+    @Test
+    void shouldRestoreConsistentPrefix_whenWritingProcessKilled() throws Exception {
+        // Arrange
+        String javaBinary = Path.of( System.getProperty( "java.home" ), "bin", "java" ).toString();
+        Process process = new ProcessBuilder( javaBinary, "-cp", System.getProperty( "java.class.path" ),
+                CrashingWriter.class.getName(), directory.toString() ).redirectErrorStream( true ).start();
+        try ( BufferedReader output = new BufferedReader( new InputStreamReader( process.getInputStream(), StandardCharsets.UTF_8 ) ) ) {
+            assertEquals( CrashingWriter.READY, output.readLine() );
+        }
+
+        // Act
+        process.destroyForcibly();
+        assertTrue( process.waitFor( 30, TimeUnit.SECONDS ) );
+
+        // Assert
+        try ( DurableSystemRegistry< Integer > restored = new DurableSystemRegistry<>( new HashSetBasedSystemRegistry<>(),
+                new MappedRegistryStore<>( directory, ElementSerializer.integers() ) ) ) {
+            int size = restored.size();
+            assertTrue( size >= CrashingWriter.READY_AFTER );
+            assertEquals( IntStream.range( 0, size ).boxed().collect( Collectors.toSet() ), restored.stream().collect( Collectors.toSet() ) );
+        }
+    }
+
+    private DurableSystemRegistry< String > open() {
+        return new DurableSystemRegistry<>( new HashSetBasedSystemRegistry<>(), new MappedRegistryStore<>( directory, ElementSerializer.strings() ) );
+    }
+
+    /**
+     * Adds consecutive integers to a durable registry, one record each and with periodic checkpoints, until killed.
+     */
+    static final class CrashingWriter {
+
+        static final String READY = "ready";
+        static final int READY_AFTER = 20_000;
+
+        public static void main( String[] aArgs ) {
+            DurableSystemRegistry< Integer > registry = new DurableSystemRegistry<>( new HashSetBasedSystemRegistry<>(),
+                    new MappedRegistryStore<>( Path.of( aArgs[ 0 ] ), ElementSerializer.integers() ) );
+            for ( int i = 0; ; i++ ) {
+                registry.add( i );
+                if ( i % 5_000 == 0 ) {
+                    registry.checkpoint();
+                }
+                if ( i == READY_AFTER ) {
+                    System.out.println( READY );
+                    System.out.flush();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import com.github.pplociennik.commons.system.registry.impl.IndexedSystemRegistry.IndexDefinition;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link IndexedSystemRegistry}.
+ */
+class IndexedSystemRegistryTest {
+
+    private static final String BY_NAME = "name";
+    private static final String BY_LENGTH = "length";
+
+    private final IndexedSystemRegistry< String > registry = new IndexedSystemRegistry<>(
+            IndexDefinition.unique( BY_NAME, ( String value ) -> value.toUpperCase() ),
+            IndexDefinition.multiValued( BY_LENGTH, String::length ) );
+
+    @Test
+    void shouldFindElementsByIndexedKeys() {
+        // Arrange
+        registry.add( "ab", "cd", "efg" );
+
+        // Act
+        Set< String > byLength = registry.findBy( BY_LENGTH, 2 );
+        Optional< String > byName = registry.findOneBy( BY_NAME, "EFG" );
+
+        // Assert
+        assertEquals( Set.of( "ab", "cd" ), byLength );
+        assertEquals( Optional.of( "efg" ), byName );
+        assertTrue( registry.findBy( BY_LENGTH, 5 ).isEmpty() );
+    }
+
+    @Test
+    void shouldMaintainIndexes_whenElementsAreRemovedOrCleared() {
+        // Arrange
+        registry.add( "ab", "cd", "efg" );
+
+        // Act
+        registry.remove( List.of( "ab" ) );
+
+        // Assert
+        assertEquals( Set.of( "cd" ), registry.findBy( BY_LENGTH, 2 ) );
+        assertTrue( registry.findOneBy( BY_NAME, "AB" ).isEmpty() );
+        registry.clear();
+        assertTrue( registry.findBy( BY_LENGTH, 3 ).isEmpty() );
+    }
+
+    @Test
+    void shouldRejectWholeBatch_whenUniqueIndexIsViolated() {
+        // Arrange
+        registry.add( "ab" );
+
+        // Act & Assert
+        assertThrows( IllegalStateException.class, () -> registry.add( "xy", "AB" ) );
+        assertEquals( 1, registry.size() );
+        assertFalse( registry.contains( "xy" ) );
+        assertThrows( IllegalArgumentException.class, () -> registry.findBy( "unknown", 1 ) );
+    }
+}
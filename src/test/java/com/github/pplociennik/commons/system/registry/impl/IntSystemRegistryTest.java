@@ -0,0 +1,70 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link IntSystemRegistry}.
+ */
+class IntSystemRegistryTest {
+
+    @Test
+    void shouldBehaveLikeHashSet_whenRandomlyModified() {
+        // Arrange
+        IntSystemRegistry registry = new IntSystemRegistry();
+        Set< Integer > expected = new HashSet<>();
+        Random random = new Random( 42 );
+
+        // Act & Assert
+        for ( int i = 0; i < 200_000; i++ ) {
+            int value = random.nextInt( 5_000 ) - 2_500;
+            if ( random.nextInt( 3 ) == 0 ) {
+                assertEquals( expected.remove( value ), registry.remove( value ) );
+            } else {
+                assertEquals( expected.add( value ), registry.add( value ) );
+            }
+        }
+        assertEquals( expected.size(), registry.size() );
+        for ( int value = -2_500; value < 2_500; value++ ) {
+            assertEquals( expected.contains( value ), registry.contains( value ) );
+        }
+        assertEquals( expected.stream().mapToLong( Integer::longValue ).sum(), registry.stream().asLongStream().sum() );
+    }
+
+    @Test
+    void shouldHandleZeroValue() {
+        // Arrange
+        IntSystemRegistry registry = new IntSystemRegistry();
+
+        // Act
+        registry.add( 0, 1, 2 );
+
+        // Assert
+        assertTrue( registry.contains( 0 ) );
+        assertEquals( 3, registry.size() );
+        assertEquals( 3, registry.toArray().length );
+        assertTrue( registry.remove( 0 ) );
+        assertFalse( registry.contains( 0 ) );
+    }
+
+    @Test
+    void shouldCreateIndependentCopy_whenCloned() {
+        // Arrange
+        IntSystemRegistry registry = new IntSystemRegistry();
+        registry.add( 1, 2, 3 );
+
+        // Act
+        IntSystemRegistry copy = ( IntSystemRegistry ) registry.clone();
+        copy.add( 4 );
+        registry.clear();
+
+        // Assert
+        assertTrue( registry.isEmpty() );
+        assertEquals( 4, copy.size() );
+    }
+}
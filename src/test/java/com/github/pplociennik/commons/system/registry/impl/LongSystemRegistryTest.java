@@ -0,0 +1,74 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link LongSystemRegistry}.
+ */
+class LongSystemRegistryTest {
+
+    private static final long OFFSET = 1L << 40;
+
+    @Test
+    void shouldBehaveLikeHashSet_whenRandomlyModified() {
+        // Arrange
+        LongSystemRegistry registry = new LongSystemRegistry();
+        Set< Long > expected = new HashSet<>();
+        Random random = new Random( 42 );
+
+        // Act & Assert
+        for ( int i = 0; i < 200_000; i++ ) {
+            long value = OFFSET * ( random.nextInt( 3 ) - 1 ) + random.nextInt( 5_000 );
+            if ( random.nextInt( 3 ) == 0 ) {
+                assertEquals( expected.remove( value ), registry.remove( value ) );
+            } else {
+                assertEquals( expected.add( value ), registry.add( value ) );
+            }
+        }
+        assertEquals( expected.size(), registry.size() );
+        for ( long value : expected ) {
+            assertTrue( registry.contains( value ) );
+        }
+        assertFalse( registry.contains( 2 * OFFSET ) );
+        assertEquals( expected.stream().mapToLong( Long::longValue ).sum(), registry.stream().sum() );
+    }
+
+    @Test
+    void shouldHandleZeroValue() {
+        // Arrange
+        LongSystemRegistry registry = new LongSystemRegistry();
+
+        // Act
+        registry.add( 0L, OFFSET, -OFFSET );
+
+        // Assert
+        assertTrue( registry.contains( 0L ) );
+        assertEquals( 3, registry.size() );
+        assertEquals( 3, registry.toArray().length );
+        assertTrue( registry.remove( 0L ) );
+        assertFalse( registry.contains( 0L ) );
+    }
+
+    @Test
+    void shouldCreateIndependentCopy_whenCloned() {
+        // Arrange
+        LongSystemRegistry registry = new LongSystemRegistry();
+        registry.add( 1L, 2L, OFFSET );
+
+        // Act
+        LongSystemRegistry copy = ( LongSystemRegistry ) registry.clone();
+        copy.add( 4L );
+        registry.clear();
+
+        // Assert
+        assertTrue( registry.isEmpty() );
+        assertEquals( 4, copy.size() );
+        assertTrue( copy.contains( OFFSET ) );
+    }
+}
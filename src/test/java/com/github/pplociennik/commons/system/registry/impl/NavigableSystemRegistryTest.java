@@ -0,0 +1,73 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link NavigableSystemRegistry}.
+ */
+class NavigableSystemRegistryTest {
+
+    @Test
+    void shouldReturnElementsInOrder_whenQueryingRanges() {
+        // Arrange
+        NavigableSystemRegistry< Integer > registry = NavigableSystemRegistry.naturalOrder();
+        registry.add( 5, 1, 9, 3, 7 );
+
+        // Act
+        List< Integer > range = registry.range( 3, 9 ).collect( Collectors.toList() );
+        List< Integer > head = registry.headStream( 5 ).collect( Collectors.toList() );
+        List< Integer > tail = registry.tailStream( 7 ).collect( Collectors.toList() );
+
+        // Assert
+        assertEquals( List.of( 3, 5, 7 ), range );
+        assertEquals( List.of( 1, 3 ), head );
+        assertEquals( List.of( 7, 9 ), tail );
+        assertEquals( Optional.of( 1 ), registry.first() );
+        assertEquals( Optional.of( 9 ), registry.last() );
+        assertEquals( 5, registry.size() );
+    }
+
+    @Test
+    void shouldFindKeysByPrefix_whenUsingCustomComparator() {
+        // Arrange
+        NavigableSystemRegistry< String > registry = new NavigableSystemRegistry<>( Comparator.reverseOrder() );
+        registry.add( "app.name", "app.zone", "db.url", "app.locale" );
+        NavigableSystemRegistry< String > keys = new NavigableSystemRegistry<>( Comparator.naturalOrder(), List.of( "app.name", "app.zone", "db.url", "app.locale" ) );
+
+        // Act
+        List< String > prefixed = keys.range( "app.", "app." + Character.MAX_VALUE ).collect( Collectors.toList() );
+
+        // Assert
+        assertEquals( List.of( "app.locale", "app.name", "app.zone" ), prefixed );
+        assertEquals( Optional.of( "db.url" ), registry.first() );
+        assertTrue( registry.last().isPresent() );
+        assertEquals( "app.locale", registry.last().get() );
+    }
+
+    @Test
+    void shouldKeepOrder_whenStreamIsParallel() {
+        // Arrange
+        NavigableSystemRegistry< Integer > registry = NavigableSystemRegistry.naturalOrder();
+        registry.addAll( IntStream.range( 0, 10_000 ).map( i -> 9_999 - i ).boxed().parallel() );
+
+        // Act
+        List< Integer > result = registry.range( 1_000, 9_000 ).parallel().collect( Collectors.toList() );
+        NavigableSystemRegistry< Integer > clone = registry.clone();
+        registry.clear();
+
+        // Assert
+        assertEquals( IntStream.range( 1_000, 9_000 ).boxed().collect( Collectors.toList() ), result );
+        assertEquals( 10_000, clone.size() );
+        assertTrue( registry.isEmpty() );
+        assertEquals( 0, registry.size() );
+        assertTrue( registry.first().isEmpty() );
+    }
+}
@@ -0,0 +1,157 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ObservableSystemRegistry}.
+ */
+class ObservableSystemRegistryTest {
+
+    @Test
+    void shouldDeliverBatchesReproducingRegistryContents() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ObservableSystemRegistry< Integer > registry = new ObservableSystemRegistry<>( new ConcurrentSystemRegistry<>(), executor );
+        Set< Integer > mirror = new HashSet<>();
+        CountDownLatch blockFirstBatch = new CountDownLatch( 1 );
+        registry.addChangeListener( batch -> {
+            awaitQuietly( blockFirstBatch );
+            if ( batch.isCleared() ) {
+                mirror.clear();
+            }
+            mirror.removeAll( batch.getRemoved() );
+            mirror.addAll( batch.getAdded() );
+        } );
+
+        // Act
+        registry.add( 1, 2, 3 );
+        registry.remove( List.of( 2 ) );
+        registry.clear();
+        registry.add( 4, 5 );
+        registry.remove( List.of( 5 ) );
+        registry.add( 6 );
+        blockFirstBatch.countDown();
+        executor.shutdown();
+
+        // Assert
+        assertTrue( executor.awaitTermination( 10, TimeUnit.SECONDS ) );
+        assertEquals( Set.of( 4, 6 ), mirror );
+        assertEquals( mirror, new HashSet<>( registry.stream().toList() ) );
+    }
+
+    @Test
+    void shouldResumeDelivery_whenExecutorRejectedTask() {
+        // Arrange
+        AtomicBoolean rejecting = new AtomicBoolean( true );
+        Executor executor = task -> {
+            if ( rejecting.get() ) {
+                throw new RejectedExecutionException();
+            }
+            task.run();
+        };
+        ObservableSystemRegistry< Integer > registry = new ObservableSystemRegistry<>( new ConcurrentSystemRegistry<>(), executor );
+        Set< Integer > mirror = new HashSet<>();
+        registry.addChangeListener( batch -> mirror.addAll( batch.getAdded() ) );
+
+        // Act
+        registry.add( 1 );
+        rejecting.set( false );
+        registry.add( 2 );
+
+        // Assert
+        assertTrue( registry.contains( 1 ) );
+        assertEquals( Set.of( 1, 2 ), mirror );
+    }
+
+    @Test
+    void shouldReproduceRegistryContents_whenConflictingWritersRace() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ObservableSystemRegistry< Integer > registry = new ObservableSystemRegistry<>( new ConcurrentSystemRegistry<>(), executor );
+        Set< Integer > mirror = new HashSet<>();
+        registry.addChangeListener( batch -> {
+            if ( batch.isCleared() ) {
+                mirror.clear();
+            }
+            mirror.removeAll( batch.getRemoved() );
+            mirror.addAll( batch.getAdded() );
+        } );
+        ExecutorService writers = Executors.newFixedThreadPool( 4 );
+        List< Future< ? > > futures = new ArrayList<>();
+
+        // Act
+        for ( int writer = 0; writer < 4; writer++ ) {
+            int seed = writer;
+            futures.add( writers.submit( () -> {
+                Random random = new Random( seed );
+                for ( int i = 0; i < 20_000; i++ ) {
+                    int element = random.nextInt( 50 );
+                    int operation = random.nextInt( 100 );
+                    if ( operation == 0 ) {
+                        registry.clear();
+                    } else if ( operation % 2 == 0 ) {
+                        registry.add( element );
+                    } else {
+                        registry.remove( List.of( element ) );
+                    }
+                }
+            } ) );
+        }
+        for ( Future< ? > future : futures ) {
+            future.get();
+        }
+        writers.shutdown();
+        executor.shutdown();
+
+        // Assert
+        assertTrue( executor.awaitTermination( 10, TimeUnit.SECONDS ) );
+        assertEquals( new HashSet<>( registry.stream().toList() ), mirror );
+    }
+
+    @Test
+    void shouldNotBlockWriters_whenListenerIsSlow() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ObservableSystemRegistry< Integer > registry = new ObservableSystemRegistry<>( new ConcurrentSystemRegistry<>(), executor );
+        CountDownLatch release = new CountDownLatch( 1 );
+        registry.addChangeListener( batch -> awaitQuietly( release ) );
+
+        // Act
+        long start = System.nanoTime();
+        for ( int i = 0; i < 10_000; i++ ) {
+            registry.add( i );
+        }
+        long elapsed = System.nanoTime() - start;
+        release.countDown();
+        executor.shutdown();
+
+        // Assert
+        assertTrue( TimeUnit.NANOSECONDS.toSeconds( elapsed ) < 5 );
+        assertTrue( executor.awaitTermination( 10, TimeUnit.SECONDS ) );
+        assertEquals( 10_000, registry.size() );
+    }
+
+    private static void awaitQuietly( CountDownLatch aLatch ) {
+        try {
+            aLatch.await();
+        } catch ( InterruptedException aE ) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
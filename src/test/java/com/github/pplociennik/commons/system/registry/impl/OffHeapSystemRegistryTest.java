@@ -0,0 +1,79 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link OffHeapSystemRegistry}.
+ */
+class OffHeapSystemRegistryTest {
+
+    @Test
+    void shouldBehaveLikeHashSet_whenRandomlyModified() {
+        // Arrange
+        Set< String > expected = new HashSet<>();
+        Random random = new Random( 7 );
+
+        try ( OffHeapSystemRegistry registry = new OffHeapSystemRegistry() ) {
+            // Act
+            for ( int i = 0; i < 100_000; i++ ) {
+                String value = "key-\u017c\u00f3\u0142\u0107-" + random.nextInt( 4_000 );
+                if ( random.nextInt( 3 ) == 0 ) {
+                    expected.remove( value );
+                    registry.remove( List.of( value ) );
+                } else {
+                    expected.add( value );
+                    registry.add( value );
+                }
+            }
+
+            // Assert
+            assertEquals( expected.size(), registry.size() );
+            assertEquals( expected, registry.stream().collect( Collectors.toSet() ) );
+            for ( int i = 0; i < 4_000; i++ ) {
+                String value = "key-\u017c\u00f3\u0142\u0107-" + i;
+                assertEquals( expected.contains( value ), registry.contains( value ) );
+            }
+        }
+    }
+
+    @Test
+    void shouldCreateIndependentCopy_whenCloned() {
+        try ( OffHeapSystemRegistry registry = new OffHeapSystemRegistry() ) {
+            // Arrange
+            registry.add( "a", "b", "" );
+
+            // Act
+            try ( OffHeapSystemRegistry copy = ( OffHeapSystemRegistry ) registry.clone() ) {
+                copy.add( "c" );
+                registry.clear();
+
+                // Assert
+                assertTrue( registry.isEmpty() );
+                assertEquals( 4, copy.size() );
+                assertTrue( copy.contains( "" ) );
+            }
+        }
+    }
+
+    @Test
+    void shouldThrowIllegalStateException_whenUsedAfterClose() {
+        // Arrange
+        OffHeapSystemRegistry registry = new OffHeapSystemRegistry();
+        registry.add( "a" );
+
+        // Act
+        registry.close();
+
+        // Assert
+        assertThrows( IllegalStateException.class, () -> registry.contains( "a" ) );
+        assertThrows( IllegalStateException.class, () -> registry.add( "b" ) );
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link PersistentSystemRegistry}.
+ */
+class PersistentSystemRegistryTest {
+
+    @Test
+    void shouldBehaveLikeHashSet_whenRandomOperationsApplied() {
+        // Arrange
+        PersistentSystemRegistry< Key > registry = new PersistentSystemRegistry<>();
+        Set< Key > expected = new HashSet<>();
+        Random random = new Random( 42 );
+
+        // Act
+        for ( int i = 0; i < 50_000; i++ ) {
+            // Few distinct hash codes force collision nodes next to regular branches.
+            Key key = new Key( random.nextInt( 5_000 ), random.nextInt( 3 ) == 0 ? 7 : random.nextInt( 2_000 ) );
+            if ( random.nextBoolean() ) {
+                registry.add( key );
+                expected.add( key );
+            } else {
+                registry.remove( List.of( key ) );
+                expected.remove( key );
+            }
+        }
+
+        // Assert
+        assertEquals( expected.size(), registry.size() );
+        assertEquals( expected, registry.stream().collect( Collectors.toSet() ) );
+        expected.forEach( key -> assertTrue( registry.contains( key ) ) );
+    }
+
+    @Test
+    void shouldKeepCloneIndependent_whenEitherRegistryModified() {
+        // Arrange
+        PersistentSystemRegistry< Integer > registry = new PersistentSystemRegistry<>( List.of( 1, 2, 3 ) );
+        Iterable< Integer > snapshot = registry.values();
+
+        // Act
+        PersistentSystemRegistry< Integer > clone = registry.clone();
+        registry.add( 4 );
+        clone.remove( List.of( 1 ) );
+
+        // Assert
+        assertEquals( Set.of( 1, 2, 3, 4 ), registry.stream().collect( Collectors.toSet() ) );
+        assertEquals( Set.of( 2, 3 ), clone.stream().collect( Collectors.toSet() ) );
+        List< Integer > snapshotValues = new ArrayList<>();
+        snapshot.forEach( snapshotValues::add );
+        assertEquals( Set.of( 1, 2, 3 ), new HashSet<>( snapshotValues ) );
+    }
+
+    @Test
+    void shouldNotLoseElements_whenAddedConcurrently() throws Exception {
+        // Arrange
+        int threads = Math.max( 4, Runtime.getRuntime().availableProcessors() );
+        PersistentSystemRegistry< Integer > registry = new PersistentSystemRegistry<>();
+        ExecutorService executor = Executors.newFixedThreadPool( threads );
+        List< Future< ? > > futures = new ArrayList<>();
+
+        // Act
+        for ( int t = 0; t < threads; t++ ) {
+            int offset = t * 10_000;
+            futures.add( executor.submit( () -> {
+                for ( int i = 0; i < 10_000; i++ ) {
+                    registry.add( offset + i );
+                }
+            } ) );
+        }
+        for ( Future< ? > future : futures ) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals( threads * 10_000, registry.size() );
+    }
+
+    private static final class Key {
+
+        private final int id;
+        private final int hash;
+
+        Key( int aId, int aHash ) {
+            id = aId;
+            hash = aHash;
+        }
+
+        @Override
+        public boolean equals( Object aO ) {
+            return aO instanceof Key && ( ( Key ) aO ).id == id && ( ( Key ) aO ).hash == hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
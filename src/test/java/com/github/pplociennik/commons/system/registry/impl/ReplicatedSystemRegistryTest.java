@@ -0,0 +1,172 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ReplicatedSystemRegistry}.
+ */
+class ReplicatedSystemRegistryTest {
+
+    @Test
+    void shouldConverge_whenChangesMadeOnDifferentNodes() {
+        // Arrange
+        LoopbackReplicationTransport< Integer > transport = new LoopbackReplicationTransport<>( Runnable::run );
+        ReplicatedSystemRegistry< Integer > first = new ReplicatedSystemRegistry<>( "first", transport );
+        ReplicatedSystemRegistry< Integer > second = new ReplicatedSystemRegistry<>( "second", transport );
+        ReplicatedSystemRegistry< Integer > third = new ReplicatedSystemRegistry<>( "third", transport );
+
+        // Act
+        first.add( 1, 2, 3 );
+        second.remove( Set.of( 2 ) );
+        third.add( 4 );
+
+        // Assert
+        assertEquals( Set.of( 1, 3, 4 ), contents( first ) );
+        assertEquals( Set.of( 1, 3, 4 ), contents( second ) );
+        assertEquals( Set.of( 1, 3, 4 ), contents( third ) );
+        assertEquals( first.getVersionVector(), third.getVersionVector() );
+    }
+
+    @Test
+    void shouldFetchOnlyMissingDeltas_whenNodeMissedMessages() {
+        // Arrange
+        UnreliableTransport transport = new UnreliableTransport();
+        ReplicatedSystemRegistry< Integer > first = new ReplicatedSystemRegistry<>( "first", transport );
+        ReplicatedSystemRegistry< Integer > second = new ReplicatedSystemRegistry<>( "second", transport );
+        first.add( IntStream.rangeClosed( 1, 100 ).boxed().collect( Collectors.toList() ) );
+        transport.partitioned = true;
+        first.add( IntStream.rangeClosed( 101, 110 ).boxed().collect( Collectors.toList() ) );
+        first.remove( Set.of( 1 ) );
+        transport.partitioned = false;
+        transport.deliveredDeltas.clear();
+
+        // Act
+        second.synchronize();
+
+        // Assert
+        assertEquals( contents( first ), contents( second ) );
+        assertEquals( 109, second.size() );
+        assertEquals( 11, transport.deliveredDeltas.get( "second" ).get() );
+        assertEquals( Map.of( "first", 111L ), second.getVersionVector() );
+    }
+
+    @Test
+    void shouldResolveConcurrentChangesByLastWriterWins_whenPartitionHealed() {
+        // Arrange
+        UnreliableTransport transport = new UnreliableTransport();
+        ReplicatedSystemRegistry< Integer > first = new ReplicatedSystemRegistry<>( "first", transport );
+        ReplicatedSystemRegistry< Integer > second = new ReplicatedSystemRegistry<>( "second", transport );
+        transport.partitioned = true;
+        first.add( 7 );
+        second.add( 7 );
+        second.remove( Set.of( 7 ) );
+        second.add( 8 );
+        transport.partitioned = false;
+
+        // Act
+        first.synchronize();
+        second.synchronize();
+
+        // Assert
+        assertEquals( Set.of( 8 ), contents( first ) );
+        assertEquals( Set.of( 8 ), contents( second ) );
+    }
+
+    @Test
+    void shouldCompactLogAndTombstones_whenAllNodesSynchronized() {
+        // Arrange
+        UnreliableTransport transport = new UnreliableTransport();
+        ReplicatedSystemRegistry< Integer > first = new ReplicatedSystemRegistry<>( "first", transport );
+        ReplicatedSystemRegistry< Integer > second = new ReplicatedSystemRegistry<>( "second", transport );
+        first.add( IntStream.rangeClosed( 1, 10 ).boxed().collect( Collectors.toList() ) );
+        first.remove( IntStream.rangeClosed( 1, 5 ).boxed().collect( Collectors.toList() ) );
+
+        // Act
+        first.synchronize();
+        second.synchronize();
+        ReplicatedSystemRegistry< Integer > third = new ReplicatedSystemRegistry<>( "third", transport );
+        transport.deliveredDeltas.clear();
+        third.synchronize();
+
+        // Assert
+        assertEquals( 0, first.retainedDeltas() );
+        assertEquals( 0, first.retainedTombstones() );
+        assertEquals( 0, second.retainedDeltas() );
+        assertEquals( 0, second.retainedTombstones() );
+        assertEquals( Set.of( 6, 7, 8, 9, 10 ), contents( third ) );
+        assertEquals( Map.of( "first", 15L ), third.getVersionVector() );
+        // Each of the peers sends only the latest changes of the live elements.
+        assertEquals( 10, transport.deliveredDeltas.get( "third" ).get() );
+    }
+
+    @Test
+    void shouldContinueSequence_whenRestartedNodeSynchronizedBeforeWriting() {
+        // Arrange
+        LoopbackReplicationTransport< Integer > transport = new LoopbackReplicationTransport<>( Runnable::run );
+        ReplicatedSystemRegistry< Integer > first = new ReplicatedSystemRegistry<>( "first", transport );
+        ReplicatedSystemRegistry< Integer > second = new ReplicatedSystemRegistry<>( "second", transport );
+        first.add( 1 );
+        second.add( 2 );
+        second.close();
+        ReplicatedSystemRegistry< Integer > restarted = new ReplicatedSystemRegistry<>( "second", transport, true );
+
+        // Act
+        assertThrows( IllegalStateException.class, () -> restarted.add( 3 ) );
+        restarted.synchronize();
+        restarted.add( 3 );
+
+        // Assert
+        assertEquals( Set.of( 1, 2, 3 ), contents( first ) );
+        assertEquals( Set.of( 1, 2, 3 ), contents( restarted ) );
+        assertEquals( Map.of( "first", 1L, "second", 2L ), first.getVersionVector() );
+    }
+
+    private static Set< Integer > contents( ReplicatedSystemRegistry< Integer > aRegistry ) {
+        return aRegistry.stream().collect( Collectors.toSet() );
+    }
+
+    /**
+     * A synchronous loopback transport dropping all the messages while partitioned and counting the delivered deltas.
+     */
+    private static final class UnreliableTransport implements ReplicationTransport< Integer > {
+
+        private final LoopbackReplicationTransport< Integer > delegate = new LoopbackReplicationTransport<>( Runnable::run );
+        private final Map< String, AtomicInteger > deliveredDeltas = new ConcurrentHashMap<>();
+        private volatile boolean partitioned;
+
+        @Override
+        public void connect( String aNodeId, Consumer< ReplicationMessage< Integer > > aReceiver ) {
+            delegate.connect( aNodeId, message -> {
+                if ( !partitioned ) {
+                    deliveredDeltas.computeIfAbsent( aNodeId, nodeId -> new AtomicInteger() ).addAndGet( message.getDeltas().size() );
+                    aReceiver.accept( message );
+                }
+            } );
+        }
+
+        @Override
+        public void disconnect( String aNodeId ) {
+            delegate.disconnect( aNodeId );
+        }
+
+        @Override
+        public void broadcast( ReplicationMessage< Integer > aMessage ) {
+            delegate.broadcast( aMessage );
+        }
+
+        @Override
+        public void send( String aNodeId, ReplicationMessage< Integer > aMessage ) {
+            delegate.send( aNodeId, aMessage );
+        }
+    }
+}
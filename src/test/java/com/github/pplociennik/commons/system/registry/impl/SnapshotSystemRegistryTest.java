@@ -0,0 +1,90 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link SnapshotSystemRegistry}.
+ */
+class SnapshotSystemRegistryTest {
+
+    @Test
+    void shouldPublishNewSnapshot_whenModified() {
+        // Arrange
+        SnapshotSystemRegistry< Integer > registry = new SnapshotSystemRegistry<>( List.of( 1, 2 ) );
+        Iterable< Integer > before = registry.values();
+
+        // Act
+        registry.add( 3 );
+        registry.remove( List.of( 1 ) );
+        Iterable< Integer > after = registry.values();
+
+        // Assert
+        assertEquals( Set.of( 1, 2 ), toSet( before ) );
+        assertEquals( Set.of( 2, 3 ), toSet( after ) );
+        assertSame( after, registry.values() );
+    }
+
+    @Test
+    void shouldIterateConsistentSnapshot_whenWrittenConcurrently() throws Exception {
+        // Arrange
+        SnapshotSystemRegistry< Integer > registry = new SnapshotSystemRegistry<>( IntStream.range( 0, 1_000 ).boxed().toList() );
+        List< Future< ? > > futures = new ArrayList<>();
+
+        // Act
+        ExecutorService executor = Executors.newFixedThreadPool( 4 );
+        try {
+            for ( int i = 0; i < 1_000; i++ ) {
+                int value = i;
+                futures.add( executor.submit( () -> registry.remove( List.of( value ) ) ) );
+                futures.add( executor.submit( () -> {
+                    // The iterated snapshot is not affected by the concurrent removals.
+                    Set< Integer > snapshot = ( Set< Integer > ) registry.values();
+                    List< Integer > iterated = new ArrayList<>();
+                    snapshot.forEach( iterated::add );
+                    assertEquals( snapshot.size(), iterated.size() );
+                    assertEquals( snapshot, Set.copyOf( iterated ) );
+                } ) );
+            }
+            for ( Future< ? > future : futures ) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Assert
+        assertTrue( registry.isEmpty() );
+    }
+
+    @Test
+    void shouldNotShareChanges_whenCloned() {
+        // Arrange
+        SnapshotSystemRegistry< Integer > registry = new SnapshotSystemRegistry<>( List.of( 1, 2 ) );
+
+        // Act
+        SnapshotSystemRegistry< Integer > copy = ( SnapshotSystemRegistry< Integer > ) registry.clone();
+        registry.add( 3 );
+        copy.add( 4 );
+
+        // Assert
+        assertEquals( Set.of( 1, 2, 3 ), toSet( registry.values() ) );
+        assertEquals( Set.of( 1, 2, 4 ), toSet( copy.values() ) );
+    }
+
+    private static Set< Integer > toSet( Iterable< Integer > aValues ) {
+        Set< Integer > set = new HashSet<>();
+        aValues.forEach( set::add );
+        return set;
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link StampedLockSystemRegistry}.
+ */
+class StampedLockSystemRegistryTest {
+
+    private static final int TASKS = 10_000;
+
+    @Test
+    void shouldBehaveLikeHashSet_whenRandomOperationsApplied() {
+        // Arrange
+        StampedLockSystemRegistry< Integer > registry = new StampedLockSystemRegistry<>();
+        Set< Integer > expected = new HashSet<>();
+        Random random = new Random( 7 );
+
+        // Act
+        for ( int i = 0; i < 100_000; i++ ) {
+            int value = random.nextInt( 3_000 );
+            if ( random.nextInt( 3 ) > 0 ) {
+                registry.add( value );
+                expected.add( value );
+            } else {
+                registry.remove( List.of( value ) );
+                expected.remove( value );
+            }
+        }
+
+        // Assert
+        assertEquals( expected.size(), registry.size() );
+        assertEquals( expected, registry.stream().collect( Collectors.toSet() ) );
+        for ( int value = 0; value < 3_000; value++ ) {
+            assertEquals( expected.contains( value ), registry.contains( value ) );
+        }
+    }
+
+    @Test
+    void shouldStayConsistent_whenReadAndWrittenByManyTasks() throws Exception {
+        // Arrange
+        StampedLockSystemRegistry< Integer > registry = new StampedLockSystemRegistry<>();
+        registry.add( List.of( -1, -2, -3 ) );
+        List< Future< ? > > futures = new ArrayList<>();
+
+        // Act
+        ExecutorService executor = newExecutor();
+        try {
+            for ( int i = 0; i < TASKS; i++ ) {
+                int value = i;
+                futures.add( executor.submit( () -> {
+                    registry.add( value );
+                    assertTrue( registry.contains( value ) );
+                    assertTrue( registry.contains( -1 ) );
+                    assertFalse( registry.isEmpty() );
+                    if ( value % 2 == 1 ) {
+                        registry.remove( List.of( value ) );
+                    }
+                } ) );
+            }
+            for ( Future< ? > future : futures ) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals( 3 + TASKS / 2, registry.size() );
+        assertTrue( registry.stream().allMatch( value -> value < 0 || value % 2 == 0 ) );
+    }
+
+    /**
+     * Runs every task in its own virtual thread when the runtime supports them, in a fixed pool of platform threads
+     * otherwise.
+     */
+    private static ExecutorService newExecutor() {
+        try {
+            return ( ExecutorService ) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+        } catch ( ReflectiveOperationException aE ) {
+            return Executors.newFixedThreadPool( Math.max( 8, Runtime.getRuntime().availableProcessors() ) );
+        }
+    }
+}
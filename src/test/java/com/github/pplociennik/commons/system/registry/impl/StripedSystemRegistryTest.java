@@ -0,0 +1,91 @@
+package com.github.pplociennik.commons.system.registry.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link StripedSystemRegistry}.
+ */
+class StripedSystemRegistryTest {
+
+    @Test
+    void shouldTraverseAllElements_whenStreamIsParallel() {
+        // Arrange
+        StripedSystemRegistry< Integer > registry = new StripedSystemRegistry<>( 8 );
+        registry.add( IntStream.range( 0, 10_000 ).boxed().collect( Collectors.toList() ) );
+
+        // Act
+        Set< Integer > result = registry.stream().parallel().collect( Collectors.toSet() );
+
+        // Assert
+        assertEquals( 10_000, result.size() );
+        assertEquals( 10_000, registry.stream().count() );
+    }
+
+    @Test
+    void shouldSplitAlongShardBoundaries() {
+        // Arrange
+        StripedSystemRegistry< Integer > registry = new StripedSystemRegistry<>( 4 );
+        registry.add( IntStream.range( 0, 1_000 ).boxed().collect( Collectors.toList() ) );
+        Spliterator< Integer > spliterator = registry.stream().spliterator();
+
+        // Act
+        Spliterator< Integer > prefix = spliterator.trySplit();
+
+        // Assert
+        assertNotNull( prefix );
+        long[] counts = new long[ 2 ];
+        prefix.forEachRemaining( element -> counts[ 0 ]++ );
+        spliterator.forEachRemaining( element -> counts[ 1 ]++ );
+        assertEquals( 1_000, counts[ 0 ] + counts[ 1 ] );
+        assertTrue( counts[ 0 ] > 0 && counts[ 1 ] > 0 );
+    }
+
+    @Test
+    void shouldUpdateEstimateAndSplit_whenPartiallyTraversed() {
+        // Arrange
+        StripedSystemRegistry< Integer > registry = new StripedSystemRegistry<>( 2 );
+        registry.add( IntStream.range( 0, 1_000 ).boxed().collect( Collectors.toList() ) );
+        Spliterator< Integer > spliterator = registry.stream().spliterator();
+        long[] counts = new long[ 3 ];
+
+        // Act
+        Spliterator< Integer > prefix = spliterator.trySplit();
+        spliterator.tryAdvance( element -> counts[ 0 ]++ );
+        long estimate = spliterator.estimateSize();
+        Spliterator< Integer > split = spliterator.trySplit();
+
+        // Assert
+        assertNotNull( prefix );
+        assertNotNull( split );
+        assertTrue( estimate < 1_000 - prefix.estimateSize() );
+        prefix.forEachRemaining( element -> counts[ 1 ]++ );
+        split.forEachRemaining( element -> counts[ 2 ]++ );
+        spliterator.forEachRemaining( element -> counts[ 2 ]++ );
+        assertEquals( 1_000, counts[ 0 ] + counts[ 1 ] + counts[ 2 ] );
+        assertEquals( 0, spliterator.estimateSize() );
+    }
+
+    @Test
+    void shouldAddAndRemoveElementsAcrossShards() {
+        // Arrange
+        StripedSystemRegistry< String > registry = new StripedSystemRegistry<>( 3 );
+
+        // Act
+        registry.add( "a", "b", "c", "d" );
+        registry.remove( List.of( "b", "d", "x" ) );
+
+        // Assert
+        assertEquals( 2, registry.size() );
+        assertTrue( registry.contains( "a" ) );
+        assertFalse( registry.contains( "b" ) );
+        assertThrows( IllegalArgumentException.class, () -> new StripedSystemRegistry<>( 0 ) );
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Przemysław Płóciennik
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package utility.properties;
+
+import com.github.pplociennik.commons.exc.properties.ReadingPropertiesException;
+import com.github.pplociennik.commons.utility.properties.FileSystemPropertiesReader;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Unit tests for {@link FileSystemPropertiesReader} class.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 22:04
+ */
+class FileSystemPropertiesReaderTest {
+
+    private static final String FILE_NAME = "application.properties";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReturnReloadedValue_whenFileReplaced() throws Exception {
+        write( "app.zone=UTC" );
+        List< String > changes = new CopyOnWriteArrayList<>();
+        try ( var reader = new FileSystemPropertiesReader( directory, Duration.ofMillis( 50 ) ) ) {
+            reader.addChangeListener( ( path, properties ) -> changes.add( path + ":" + properties.get( "app.zone" ) ) );
+            Assertions.assertThat( reader.readProperty( FILE_NAME, "app.zone" ) ).isEqualTo( "UTC" );
+
+            write( "app.zone=Europe/Warsaw" );
+            write( "app.zone=Europe/Berlin" );
+
+            awaitValue( reader, "Europe/Berlin" );
+            Thread.sleep( 200 );
+            Assertions.assertThat( changes ).containsExactly( FILE_NAME + ":Europe/Berlin" );
+        }
+    }
+
+    @Test
+    void shouldNotifyRemainingListeners_whenListenerThrows() throws Exception {
+        write( "app.zone=UTC" );
+        List< String > changes = new CopyOnWriteArrayList<>();
+        try ( var reader = new FileSystemPropertiesReader( directory, Duration.ofMillis( 10 ) ) ) {
+            reader.addChangeListener( ( path, properties ) -> {
+                throw new IllegalStateException( "listener failure" );
+            } );
+            reader.addChangeListener( ( path, properties ) -> changes.add( properties.get( "app.zone" ) ) );
+            reader.readProperty( FILE_NAME, "app.zone" );
+
+            write( "app.zone=Europe/Warsaw" );
+            awaitValue( reader, "Europe/Warsaw" );
+            write( "app.zone=Europe/Berlin" );
+            awaitValue( reader, "Europe/Berlin" );
+            Thread.sleep( 100 );
+
+            Assertions.assertThat( changes ).containsExactly( "Europe/Warsaw", "Europe/Berlin" );
+        }
+    }
+
+    @Test
+    void shouldRetainPreviousSnapshot_whenFileDeleted() throws Exception {
+        write( "app.zone=UTC" );
+        try ( var reader = new FileSystemPropertiesReader( directory, Duration.ofMillis( 10 ) ) ) {
+            reader.readProperty( FILE_NAME, "app.zone" );
+
+            Files.delete( directory.resolve( FILE_NAME ) );
+            Thread.sleep( 200 );
+
+            Assertions.assertThat( reader.readProperty( FILE_NAME, "app.zone" ) ).isEqualTo( "UTC" );
+        }
+    }
+
+    @Test
+    void shouldThrowReadingPropertiesException_whenFileMissing() {
+        try ( var reader = new FileSystemPropertiesReader( directory ) ) {
+            Assertions.assertThatThrownBy( () -> reader.readProperty( FILE_NAME, "app.zone" ) ).isInstanceOf( ReadingPropertiesException.class );
+            Assertions.assertThatThrownBy( () -> reader.readProperty( "../" + FILE_NAME, "app.zone" ) ).isInstanceOf( IllegalArgumentException.class );
+        }
+    }
+
+    private void write( String aContents ) throws Exception {
+        Path temporary = Files.writeString( Files.createTempFile( directory, "tmp", ".tmp" ), aContents );
+        Files.move( temporary, directory.resolve( FILE_NAME ), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+    }
+
+    private static void awaitValue( FileSystemPropertiesReader aReader, String aExpected ) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds( 30 ).toNanos();
+        while ( !aExpected.equals( aReader.readProperty( FILE_NAME, "app.zone" ) ) && System.nanoTime() < deadline ) {
+            Thread.sleep( 10 );
+        }
+        Assertions.assertThat( aReader.readProperty( FILE_NAME, "app.zone" ) ).isEqualTo( aExpected );
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Przemysław Płóciennik
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package utility.properties;
+
+import com.github.pplociennik.commons.exc.properties.ReadingPropertiesException;
+import com.github.pplociennik.commons.utility.properties.MappedPropertiesFile;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Unit tests for {@link MappedPropertiesFile} class.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 22:21
+ */
+class MappedPropertiesFileTest {
+
+    private static final String TRICKY_CONTENTS = String.join( "\n",
+            "# a comment \\",
+            "   ! another comment",
+            "",
+            "plain=value",
+            "  spaced   =   padded value  ",
+            "colon:value",
+            "whitespace separated value",
+            "key\\ with\\=escapes = \\u0141\\u00f3d\\u017a \\t tab",
+            "multi = first \\",
+            "        second \\\r",
+            "\t\tthird",
+            "empty=",
+            "novalue",
+            "double==value",
+            "repeated=first",
+            "repeated=second",
+            "windows=line\r",
+            "trailing=backslash\\" );
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReadSameValuesAsProperties_whenFileContainsTrickySyntax() throws Exception {
+        var file = Files.writeString( directory.resolve( "tricky.properties" ), TRICKY_CONTENTS, StandardCharsets.ISO_8859_1 );
+
+        var mapped = MappedPropertiesFile.open( file );
+
+        assertSameAsProperties( file, mapped );
+        Assertions.assertThat( mapped.getProperty( "key with=escapes" ) ).isEqualTo( "Łódź \t tab" );
+        Assertions.assertThat( mapped.getProperty( "multi" ) ).isEqualTo( "first second third" );
+        Assertions.assertThat( mapped.getProperty( "repeated" ) ).isEqualTo( "second" );
+        Assertions.assertThat( mapped.getProperty( "missing" ) ).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource( strings = { "lang/CommonsResExcMsg.properties", "lang/CommonsResExcMsg_pl.properties", "lang/CommonsResExcMsg_de.properties" } )
+    void shouldReadSameValuesAsProperties_whenFileIsTranslationBundle( String aResource ) throws Exception {
+        var file = directory.resolve( "bundle.properties" );
+        try ( InputStream inputStream = getClass().getClassLoader().getResourceAsStream( aResource ) ) {
+            Files.copy( inputStream, file );
+        }
+
+        assertSameAsProperties( file, MappedPropertiesFile.open( file ) );
+    }
+
+    @Test
+    void shouldThrowReadingPropertiesException_whenFileMissingOrMalformed() throws Exception {
+        var malformed = Files.writeString( directory.resolve( "malformed.properties" ), "key\\u00zz=value" );
+        var malformedValue = Files.writeString( directory.resolve( "malformed-value.properties" ), "key=value\\u00z" );
+
+        Assertions.assertThatThrownBy( () -> MappedPropertiesFile.open( directory.resolve( "missing.properties" ) ) ).isInstanceOf( ReadingPropertiesException.class );
+        Assertions.assertThatThrownBy( () -> MappedPropertiesFile.open( malformed ) ).isInstanceOf( ReadingPropertiesException.class );
+        Assertions.assertThatThrownBy( () -> MappedPropertiesFile.open( malformedValue ) ).isInstanceOf( ReadingPropertiesException.class );
+    }
+
+    private static void assertSameAsProperties( Path aFile, MappedPropertiesFile aMapped ) throws Exception {
+        var expected = new Properties();
+        try ( InputStream inputStream = Files.newInputStream( aFile ) ) {
+            expected.load( inputStream );
+        }
+        Assertions.assertThat( aMapped.size() ).isEqualTo( expected.size() );
+        for ( String key : expected.stringPropertyNames() ) {
+            Assertions.assertThat( aMapped.getProperty( key ) ).as( key ).isEqualTo( expected.getProperty( key ) );
+        }
+    }
+}
@@ -28,6 +28,10 @@ import com.github.pplociennik.commons.exc.properties.ReadingPropertiesException;
 import com.github.pplociennik.commons.utility.properties.PropertiesReader;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 /**
  * Unit tests for {@link PropertiesReader} class.
@@ -116,4 +120,26 @@ class PropertiesReaderTest {
     void shouldThrowNullPointerException_whenPropertyKeyPathAndPropertiesFilePathEmpty() {
         Assertions.assertThatThrownBy( () -> TEST_READER.getProperty( EMPTY_PROPERTY_KEY, EMPTY_PROPERTIES_FILE_PATH ) ).isInstanceOf( NullPointerException.class );
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnSameValue_whenReadRepeatedlyAndAfterInvalidation() {
+        var first = TEST_READER.getProperty( VALID_PROPERTY_KEY, VALID_PROPERTIES_FILE_PATH );
+        var cached = TEST_READER.getProperty( VALID_PROPERTY_KEY, VALID_PROPERTIES_FILE_PATH );
+        TEST_READER.invalidateFile( VALID_PROPERTIES_FILE_PATH );
+        var reloaded = TEST_READER.getProperty( VALID_PROPERTY_KEY, VALID_PROPERTIES_FILE_PATH );
+
+        // Each parse creates new value instances, so the identity of the values tells whether the file was parsed again.
+        Assertions.assertThat( cached ).isSameAs( first );
+        Assertions.assertThat( reloaded ).isEqualTo( first ).isNotSameAs( first );
+    }
+
+    @Test
+    void shouldReturnValidValue_whenReadFromMappedFile( @TempDir Path aDirectory ) throws Exception {
+        var file = Files.writeString( aDirectory.resolve( "mapped.properties" ), VALID_PROPERTY_KEY + "=lang/CommonsResExcMsg" );
+
+        var value = TEST_READER.getMappedProperty( VALID_PROPERTY_KEY, file );
+
+        Assertions.assertThat( value ).isEqualTo( "lang/CommonsResExcMsg" );
+        Assertions.assertThatThrownBy( () -> TEST_READER.getMappedProperty( INVALID_PROPERTY_KEY, file ) ).isInstanceOf( IllegalStateException.class );
+    }
+}
@@ -26,6 +26,8 @@ package utility.properties;
 
 import com.github.pplociennik.commons.utility.properties.PropertiesReader;
 
+import java.nio.file.Path;
+
 /**
  * A simple test implementation of {@link PropertiesReader} abstract class.
  *
@@ -47,4 +49,27 @@ class SimpleTestPropertiesReader extends PropertiesReader {
     String getProperty( String aKey, String aPath ) {
         return readProperty( aPath, aKey );
     }
+
+    /**
+     * Simple test caller of a method from superclass.
+     *
+     * @param aPath
+     *         a path to the properties file
+     */
+    void invalidateFile( String aPath ) {
+        invalidate( aPath );
+    }
+
+    /**
+     * Simple test caller of a method from superclass.
+     *
+     * @param aKey
+     *         a key of property
+     * @param aFile
+     *         a path to the properties file in the file system
+     * @return a value of the property
+     */
+    String getMappedProperty( String aKey, Path aFile ) {
+        return readMappedProperty( aFile, aKey );
+    }
 }